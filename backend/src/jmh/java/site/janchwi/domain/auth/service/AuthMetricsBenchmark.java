@@ -0,0 +1,85 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import site.janchwi.domain.auth.service.AuthMetrics.Flow;
+import site.janchwi.domain.auth.service.AuthMetrics.Outcome;
+import site.janchwi.domain.auth.service.AuthMetrics.Phase;
+import site.janchwi.domain.auth.service.AuthMetrics.Timing;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 흐름 계측 비용 (로그인 성공 경로와 같은 구간 수)
+ * - uninstrumented: 구간 사이 작업만 (기준선)
+ * - instrumented: 같은 작업 + 구간 7개 기록 + 결과별 전체 시간 기록 (Prometheus 히스토그램)
+ * - instrumentedContended: 같은 타이머를 여러 스레드가 동시에 기록
+ * - scrape: /actuator/prometheus 한 번의 직렬화 비용 (히스토그램 버킷 포함)
+ * - 두 측정 차이가 요청당 계측 비용 - BCrypt(수십 ms) 대비 무시할 수준인지 확인
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=AuthMetricsBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthMetricsBenchmark {
+
+    // 구간 사이 작업량 (JIT 가 계측 코드를 흐름 밖으로 옮기지 못하도록)
+    private static final long WORK_TOKENS = 50;
+
+    private static final Phase[] LOGIN_PHASES = {
+            Phase.LOOKUP, Phase.PASSWORD_VERIFY, Phase.PASSWORD_HASH, Phase.ACCOUNT_WRITE,
+            Phase.TOKEN_SIGN, Phase.SESSION_WRITE, Phase.COMMIT
+    };
+
+    private PrometheusMeterRegistry meterRegistry;
+    private AuthMetrics authMetrics;
+
+    @Setup
+    public void setUp() {
+        meterRegistry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        authMetrics = new AuthMetrics(meterRegistry);
+    }
+
+    @Benchmark
+    public void uninstrumented() {
+        for (int i = 0; i < LOGIN_PHASES.length; i++) {
+            Blackhole.consumeCPU(WORK_TOKENS);
+        }
+    }
+
+    @Benchmark
+    public void instrumented() {
+        login();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void instrumentedContended() {
+        login();
+    }
+
+    @Benchmark
+    public String scrape() {
+        return meterRegistry.scrape();
+    }
+
+    private void login() {
+        try (Timing timing = authMetrics.start(Flow.LOGIN)) {
+            for (Phase phase : LOGIN_PHASES) {
+                Blackhole.consumeCPU(WORK_TOKENS);
+                timing.phase(phase);
+            }
+            timing.outcome(Outcome.OK);
+        }
+    }
+}
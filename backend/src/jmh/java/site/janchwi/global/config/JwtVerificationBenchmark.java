@@ -0,0 +1,72 @@
+package site.janchwi.global.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 경로 비교
+ * - legacyValidateThenGetUserId: 기존 필터 경로 (validate + getUserId, 호출마다 키/파서 생성, 2회 파싱)
+ * - verifyOnce: 사전 생성된 키/파서로 1회 파싱
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=JwtVerificationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-token-signing-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessTokenExpiry(86400000L);
+        jwtProperties.setRefreshTokenExpiry(604800000L);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        token = jwtTokenProvider.createAccessToken(42L);
+    }
+
+    @Benchmark
+    public Long legacyValidateThenGetUserId() {
+        // validate(token)
+        Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token);
+
+        // getUserId(token)
+        String subject = Jwts.parser()
+                .verifyWith(legacySigningKey())
+                .build()
+                .parseSignedClaims(token)
+                .getPayload()
+                .getSubject();
+
+        return Long.valueOf(subject);
+    }
+
+    @Benchmark
+    public Long verifyOnce() {
+        return jwtTokenProvider.verify(token).getUserId();
+    }
+
+    private SecretKey legacySigningKey() {
+        return Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
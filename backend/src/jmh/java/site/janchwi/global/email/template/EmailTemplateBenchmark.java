@@ -0,0 +1,57 @@
+package site.janchwi.global.email.template;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 메일 본문 생성 비교
+ * - legacyStringFormat: 기존 방식 (약 6KB 포맷 문자열을 발송마다 String.format + UTF-8 인코딩)
+ * - compiledTemplate: 기동 시 컴파일된 템플릿으로 HTML + 텍스트 + 제목 렌더링
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=EmailTemplateBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailTemplateBenchmark {
+
+    private static final Map<String, String> VALUES = Map.of("code", "123456", "expiryMinutes", "15", "maxAttempts", "5");
+
+    private EmailTemplateEngine engine;
+    private String legacyFormat;
+
+    @Setup
+    public void setUp() throws IOException {
+        engine = new EmailTemplateEngine();
+
+        // 같은 HTML 을 기존 String.format 형식(%% 이스케이프, %s 슬롯)으로 변환
+        legacyFormat = new ClassPathResource("templates/email/verification_ko.html")
+                .getContentAsString(StandardCharsets.UTF_8)
+                .replace("%", "%%")
+                .replace("{{code}}", "%1$s")
+                .replace("{{expiryMinutes}}", "%2$s")
+                .replace("{{maxAttempts}}", "%3$s");
+    }
+
+    @Benchmark
+    public byte[] legacyStringFormat() {
+        return String.format(legacyFormat, "123456", "15", "5").getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public RenderedEmail compiledTemplate() {
+        return engine.render(EmailTemplate.VERIFICATION, Locale.KOREAN, VALUES);
+    }
+}
@@ -3,6 +3,7 @@ package site.janchwi.domain.auth.controller;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
@@ -10,6 +11,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import site.janchwi.domain.auth.dto.*;
 import site.janchwi.domain.auth.service.AuthService;
+import site.janchwi.global.common.Constants;
 import site.janchwi.global.util.CookieUtils;
 import site.janchwi.global.util.SecurityUtils;
 
@@ -24,10 +26,14 @@ public class AuthController {
     /**
      * 로그인
      * POST /v1/auth/login
+     * - X-Device-Id 헤더가 있으면 기기별 세션으로 저장 (다른 기기의 세션은 유지)
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        TokenPairDto tokenPair = authService.login(request);
+    public ResponseEntity<LoginResponse> login(
+            @Valid @RequestBody LoginRequest request,
+            @RequestHeader(name = Constants.DEVICE_ID_HEADER, required = false) String deviceId
+    ) {
+        TokenPairDto tokenPair = authService.login(request, deviceId);
 
         // Refresh Token을 HttpOnly 쿠키로 설정
         ResponseCookie refreshTokenCookie = CookieUtils.createRefreshTokenCookie(tokenPair.getRefreshToken());
@@ -63,6 +69,19 @@ public class AuthController {
         return ResponseEntity.ok(new CheckEmailResponse(available));
     }
 
+    /**
+     * 닉네임 중복 체크
+     * GET /v1/auth/check-nickname?nickname=잔취
+     */
+    @GetMapping("/check-nickname")
+    public ResponseEntity<CheckNicknameResponse> checkNickname(
+            @RequestParam @NotBlank(message = "닉네임을 입력해주세요.")
+            @Size(min = 2, max = 10, message = "닉네임은 2자 이상 10자 이하로 입력해주세요.") String nickname
+    ) {
+        boolean available = authService.checkNicknameAvailable(nickname);
+        return ResponseEntity.ok(new CheckNicknameResponse(available));
+    }
+
     /**
      * 이메일 인증 코드 발송
      * POST /v1/auth/send-verification
@@ -93,6 +112,7 @@ public class AuthController {
     /**
      * Access Token 재발급
      * POST /v1/auth/refresh
+     * - Refresh Token도 새 값으로 교체 (rotation)
      */
     @PostMapping("/refresh")
     public ResponseEntity<RefreshTokenResponse> refreshAccessToken(@CookieValue(name = "refreshToken", required = false) String refreshToken) {
@@ -102,19 +122,24 @@ public class AuthController {
 
         TokenPairDto tokenPair = authService.refreshAccessToken(refreshToken);
 
+        // 교체된 Refresh Token 쿠키 설정
+        ResponseCookie refreshTokenCookie = CookieUtils.createRefreshTokenCookie(tokenPair.getRefreshToken());
+
         return ResponseEntity.ok()
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenPair.getAccessToken())
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
                 .body(new RefreshTokenResponse(tokenPair.getAccessToken()));
     }
 
     /**
      * 로그아웃
      * POST /v1/auth/logout
+     * - Refresh Token 쿠키가 있으면 현재 세션만 종료
      */
     @PostMapping("/logout")
-    public ResponseEntity<MessageResponse> logout() {
+    public ResponseEntity<MessageResponse> logout(@CookieValue(name = "refreshToken", required = false) String refreshToken) {
         Long userId = securityUtils.getCurrentUserId();
-        authService.logout(userId);
+        authService.logout(userId, refreshToken, securityUtils.getCurrentAccessToken());
 
         // Refresh Token 쿠키 삭제
         ResponseCookie deleteCookie = CookieUtils.deleteRefreshTokenCookie();
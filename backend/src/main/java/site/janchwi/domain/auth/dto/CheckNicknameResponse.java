@@ -0,0 +1,10 @@
+package site.janchwi.domain.auth.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CheckNicknameResponse {
+    private Boolean available;
+}
@@ -0,0 +1,24 @@
+package site.janchwi.domain.auth.dto;
+
+/**
+ * 인증 코드 확인 결과
+ * @param remainingAttempts 남은 시도 횟수 (MISMATCH 일 때만 의미 있음)
+ */
+public record VerificationCheck(Status status, int remainingAttempts) {
+
+    public static VerificationCheck of(Status status) {
+        return new VerificationCheck(status, 0);
+    }
+
+    public static VerificationCheck mismatch(int remainingAttempts) {
+        return new VerificationCheck(Status.MISMATCH, Math.max(0, remainingAttempts));
+    }
+
+    public enum Status {
+        VERIFIED,          // 코드 일치
+        MISMATCH,          // 코드 불일치 - 시도 횟수 1 증가
+        NOT_ISSUED,        // 발급된 코드 없음
+        EXPIRED,           // 만료된 코드
+        ATTEMPTS_EXCEEDED  // 시도 횟수 초과
+    }
+}
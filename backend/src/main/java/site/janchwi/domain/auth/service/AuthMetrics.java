@@ -0,0 +1,176 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 흐름 구간별 시간 측정 (Prometheus 히스토그램)
+ * - auth.phase.duration{flow, phase}: 흐름 안의 구간 (DB 조회, BCrypt, 토큰 서명, 세션 저장 등)
+ * - auth.flow.duration{flow, outcome}: 흐름 전체와 결과 (ok, locked, bad_password, unverified 등)
+ * - 흐름별로 쓰는 구간/결과 조합만 기동 시 등록 - 요청 경로는 EnumMap 조회 + nanoTime 만 (레지스트리 조회 없음)
+ */
+@Component
+public class AuthMetrics {
+
+    public enum Phase {
+        LOOKUP,          // 인증 정보 조회
+        PASSWORD_VERIFY, // BCrypt 검증 (격벽 대기 포함)
+        PASSWORD_HASH,   // BCrypt 해싱 (가입, 재해시)
+        ACCOUNT_WRITE,   // 사용자 상태 갱신 (재해시 저장, 실패 횟수 리셋, 인증 완료)
+        CHALLENGE_CHECK, // 인증 코드 확인
+        INSERT,          // 사용자 INSERT
+        TOKEN_VERIFY,    // Refresh Token 서명/만료 확인
+        TOKEN_SIGN,      // JWT 서명
+        SESSION_WRITE,   // Refresh Token 저장/교체
+        COMMIT           // 트랜잭션 커밋
+    }
+
+    public enum Outcome {
+        OK,
+        LOCKED,
+        UNKNOWN_USER,
+        BAD_PASSWORD,
+        INACTIVE,
+        UNVERIFIED,
+        UNDERAGE,
+        CONFLICT,
+        ALREADY_VERIFIED,
+        NOT_ISSUED,
+        MISMATCH,
+        EXPIRED,
+        ATTEMPTS_EXCEEDED,
+        INVALID,
+        REUSED,
+        ERROR // 분류하지 않은 예외 (DB 장애, 처리 용량 초과 등)
+    }
+
+    public enum Flow {
+        LOGIN(EnumSet.of(Phase.LOOKUP, Phase.PASSWORD_VERIFY, Phase.PASSWORD_HASH, Phase.ACCOUNT_WRITE,
+                Phase.TOKEN_SIGN, Phase.SESSION_WRITE, Phase.COMMIT),
+                EnumSet.of(Outcome.OK, Outcome.LOCKED, Outcome.UNKNOWN_USER, Outcome.BAD_PASSWORD,
+                        Outcome.INACTIVE, Outcome.UNVERIFIED, Outcome.ERROR)),
+        SIGNUP(EnumSet.of(Phase.PASSWORD_HASH, Phase.INSERT),
+                EnumSet.of(Outcome.OK, Outcome.UNDERAGE, Outcome.CONFLICT, Outcome.ERROR)),
+        VERIFY_EMAIL(EnumSet.of(Phase.LOOKUP, Phase.CHALLENGE_CHECK, Phase.ACCOUNT_WRITE,
+                Phase.TOKEN_SIGN, Phase.SESSION_WRITE, Phase.COMMIT),
+                EnumSet.of(Outcome.OK, Outcome.UNKNOWN_USER, Outcome.ALREADY_VERIFIED, Outcome.NOT_ISSUED,
+                        Outcome.MISMATCH, Outcome.EXPIRED, Outcome.ATTEMPTS_EXCEEDED, Outcome.ERROR)),
+        REFRESH(EnumSet.of(Phase.TOKEN_VERIFY, Phase.TOKEN_SIGN, Phase.SESSION_WRITE, Phase.COMMIT),
+                EnumSet.of(Outcome.OK, Outcome.INVALID, Outcome.EXPIRED, Outcome.INACTIVE,
+                        Outcome.UNVERIFIED, Outcome.REUSED, Outcome.ERROR));
+
+        private final Set<Phase> phases;
+        private final Set<Outcome> outcomes;
+
+        Flow(Set<Phase> phases, Set<Outcome> outcomes) {
+            this.phases = phases;
+            this.outcomes = outcomes;
+        }
+    }
+
+    private final Map<Flow, Map<Phase, Timer>> phaseTimers = new EnumMap<>(Flow.class);
+    private final Map<Flow, Map<Outcome, Timer>> flowTimers = new EnumMap<>(Flow.class);
+
+    public AuthMetrics(MeterRegistry meterRegistry) {
+        for (Flow flow : Flow.values()) {
+            String flowTag = tag(flow);
+
+            Map<Phase, Timer> phases = new EnumMap<>(Phase.class);
+            for (Phase phase : flow.phases) {
+                phases.put(phase, histogram("auth.phase.duration", "인증 흐름 구간별 소요 시간")
+                        .tag("flow", flowTag)
+                        .tag("phase", tag(phase))
+                        .register(meterRegistry));
+            }
+            phaseTimers.put(flow, phases);
+
+            Map<Outcome, Timer> outcomes = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : flow.outcomes) {
+                outcomes.put(outcome, histogram("auth.flow.duration", "인증 흐름 전체 소요 시간 (결과별)")
+                        .tag("flow", flowTag)
+                        .tag("outcome", tag(outcome))
+                        .register(meterRegistry));
+            }
+            flowTimers.put(flow, outcomes);
+        }
+    }
+
+    /**
+     * 흐름 측정 시작 - try-with-resources 로 감싸 종료 시 결과별 전체 시간 기록
+     * - 결과를 지정하지 않고 끝나면(예상하지 못한 예외) ERROR
+     */
+    public Timing start(Flow flow) {
+        return new Timing(phaseTimers.get(flow), flowTimers.get(flow));
+    }
+
+    private static Timer.Builder histogram(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000)) // 100us
+                .maximumExpectedValue(Duration.ofSeconds(5));
+    }
+
+    private static String tag(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 요청 하나의 측정 상태 (요청 스레드 안에서만 사용)
+     */
+    public static final class Timing implements AutoCloseable {
+
+        private final Map<Phase, Timer> phases;
+        private final Map<Outcome, Timer> outcomes;
+        private final long startedAt;
+        private long markedAt;
+        private Outcome outcome = Outcome.ERROR;
+
+        private Timing(Map<Phase, Timer> phases, Map<Outcome, Timer> outcomes) {
+            this.phases = phases;
+            this.outcomes = outcomes;
+            this.startedAt = System.nanoTime();
+            this.markedAt = startedAt;
+        }
+
+        /**
+         * 직전 구간 끝(또는 시작)부터 지금까지를 phase 로 기록
+         */
+        public void phase(Phase phase) {
+            long now = System.nanoTime();
+            Timer timer = phases.get(phase);
+            if (timer != null) {
+                timer.record(now - markedAt, TimeUnit.NANOSECONDS);
+            }
+            markedAt = now;
+        }
+
+        /**
+         * 기록하지 않을 구간을 건너뜀 (다음 phase 의 시작점만 옮김)
+         */
+        public void skip() {
+            markedAt = System.nanoTime();
+        }
+
+        public void outcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        @Override
+        public void close() {
+            Timer timer = outcomes.get(outcome);
+            if (timer != null) {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
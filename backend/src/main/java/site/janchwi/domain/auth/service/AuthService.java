@@ -2,197 +2,301 @@ package site.janchwi.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import site.janchwi.domain.auth.dto.LoginRequest;
 import site.janchwi.domain.auth.dto.SignupRequest;
 import site.janchwi.domain.auth.dto.TokenPairDto;
-import site.janchwi.domain.refreshtokens.entity.RefreshToken;
+import site.janchwi.domain.auth.dto.VerificationCheck;
+import site.janchwi.domain.auth.service.AuthMetrics.Flow;
+import site.janchwi.domain.auth.service.AuthMetrics.Outcome;
+import site.janchwi.domain.auth.service.AuthMetrics.Phase;
+import site.janchwi.domain.auth.service.AuthMetrics.Timing;
+import site.janchwi.domain.refreshtokens.dto.RefreshOutcome;
 import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.dto.UserCredential;
 import site.janchwi.domain.users.entity.User;
 import site.janchwi.domain.users.repository.UserRepository;
 import site.janchwi.global.common.Constants;
 import site.janchwi.global.config.JwtTokenProvider;
+import site.janchwi.global.config.JwtVerificationCache;
+import site.janchwi.global.config.JwtVerificationResult;
 import site.janchwi.global.email.EmailService;
 import site.janchwi.global.exception.AccountLockedException;
 import site.janchwi.global.exception.EmailNotVerifiedException;
-import site.janchwi.global.exception.HashingException;
+import site.janchwi.global.exception.ServiceOverloadedException;
+import site.janchwi.global.util.HashUtils;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[A-Za-z0-9._-]+");
+
+    // 회원가입 유일 제약(인덱스) 이름 -> 409 메시지
+    private static final Map<String, String> SIGNUP_CONFLICT_MESSAGES = Map.of(
+            "ux_users_email_lower", "이미 사용 중인 이메일입니다.",
+            "uk_users_nickname", "이미 사용 중인 닉네임입니다."
+    );
+
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerificationCache jwtVerificationCache;
     private final EmailService emailService;
-    private final LoginAttemptService loginAttemptService;
+    private final LoginAttemptTracker loginAttemptTracker;
+    private final LastLoginWriter lastLoginWriter;
+    private final VerificationResendThrottle verificationResendThrottle;
+    private final VerificationChallengeStore verificationChallengeStore;
+    private final IdentifierAvailabilityFilter availabilityFilter;
+    private final TransactionTemplate transactionTemplate;
+    private final AuthMetrics authMetrics;
 
     /**
      * 로그인
+     * - 트랜잭션 없이 시작: BCrypt 검증 동안 DB 커넥션을 점유하지 않음
+     * - 인증 정보는 읽기 전용 프로젝션으로 조회 (엔티티 로딩/dirty checking 없음)
+     * - 실패 횟수 증가는 예외를 던지기 전에 자체 트랜잭션으로 커밋
+     * - 성공 시 재해시/실패 횟수 리셋/Refresh Token 저장을 하나의 트랜잭션(커넥션 1개)으로 처리
+     * - 마지막 로그인 시간은 LastLoginWriter가 모아서 일괄 반영
+     * @param deviceId 기기 ID (X-Device-Id, 없으면 새 세션 발급) - 같은 기기의 재로그인만 기존 세션을 교체
      */
-    @Transactional
-    public TokenPairDto login(LoginRequest request) {
+    public TokenPairDto login(LoginRequest request, String deviceId) {
         log.info("로그인 시도: email={}", request.getEmail());
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> {
-                    log.warn("로그인 실패 - 존재하지 않는 이메일: {}", request.getEmail());
-                    return new ResponseStatusException(
-                            HttpStatus.UNAUTHORIZED,
-                            "이메일 또는 비밀번호가 일치하지 않습니다."
-                    );
-                });
-
-        // 계정 잠금 확인
-        if (user.isAccountLocked()) {
-            log.warn("로그인 실패 - 계정 잠금: email={}", request.getEmail());
-            throw new AccountLockedException(
-                    "계정이 일시적으로 잠겼습니다. " + Constants.ACCOUNT_LOCK_DURATION_MINUTES + "분 후 다시 시도해주세요."
-            );
-        }
+        try (Timing timing = authMetrics.start(Flow.LOGIN)) {
+            // 메모리에서 잠금이 확인되면 DB 조회/BCrypt 검증 없이 거절
+            if (loginAttemptTracker.isLocked(request.getEmail())) {
+                log.warn("로그인 실패 - 계정 잠금: email={}", request.getEmail());
+                timing.outcome(Outcome.LOCKED);
+                throw new AccountLockedException(
+                        "계정이 일시적으로 잠겼습니다. " + Constants.ACCOUNT_LOCK_DURATION_MINUTES + "분 후 다시 시도해주세요."
+                );
+            }
 
-        // 계정 잠금이 만료되었으면 실패 횟수 초기화
-        if (user.getAccountLockedUntil() != null && !user.isAccountLocked()) {
-            log.info("계정 잠금 만료 - 실패 횟수 초기화: userId={}", user.getId());
-            loginAttemptService.onLoginSuccess(user.getId());
-        }
+            // 인증 정보 조회
+            UserCredential credential = userRepository.findCredentialByEmail(request.getEmail())
+                    .orElseThrow(() -> {
+                        log.warn("로그인 실패 - 존재하지 않는 이메일: {}", request.getEmail());
+                        timing.outcome(Outcome.UNKNOWN_USER);
+                        return new ResponseStatusException(
+                                HttpStatus.UNAUTHORIZED,
+                                "이메일 또는 비밀번호가 일치하지 않습니다."
+                        );
+                    });
+            timing.phase(Phase.LOOKUP);
+
+            // 계정 잠금 확인
+            if (credential.isAccountLocked()) {
+                log.warn("로그인 실패 - 계정 잠금: email={}", request.getEmail());
+                timing.outcome(Outcome.LOCKED);
+                throw new AccountLockedException(
+                        "계정이 일시적으로 잠겼습니다. " + Constants.ACCOUNT_LOCK_DURATION_MINUTES + "분 후 다시 시도해주세요."
+                );
+            }
 
-        // 계정 활성화 확인
-        if (!user.isActive()) {
-            log.warn("로그인 실패 - 비활성화 계정: email={}", request.getEmail());
-            throw new ResponseStatusException(
-                    HttpStatus.FORBIDDEN,
-                    "비활성화된 계정입니다. 관리자에게 문의해주세요."
-            );
-        }
+            // 계정 잠금이 만료되었으면 저장된 잠금/실패 횟수 정리 (이후 실패 집계는 유지)
+            if (credential.getAccountLockedUntil() != null && !credential.isAccountLocked()) {
+                log.info("계정 잠금 만료 - 실패 횟수 초기화: userId={}", credential.getId());
+                loginAttemptTracker.onLockExpired(credential);
+            }
 
-        // 비밀번호 검증 (이메일 인증 확인보다 먼저 - 보안 강화)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            // 별도 트랜잭션으로 실패 횟수 증가 (원자적 업데이트 + 롤백 방지)
-            loginAttemptService.onLoginFailure(user.getId());
+            // 계정 활성화 확인
+            if (!credential.isActive()) {
+                log.warn("로그인 실패 - 비활성화 계정: email={}", request.getEmail());
+                timing.outcome(Outcome.INACTIVE);
+                throw new ResponseStatusException(
+                        HttpStatus.FORBIDDEN,
+                        "비활성화된 계정입니다. 관리자에게 문의해주세요."
+                );
+            }
+            timing.skip();
+
+            // 비밀번호 검증 (이메일 인증 확인보다 먼저 - 보안 강화)
+            boolean passwordMatches = passwordEncoder.matches(request.getPassword(), credential.getPassword());
+            timing.phase(Phase.PASSWORD_VERIFY);
+            if (!passwordMatches) {
+                // 실패 횟수 증가 (database 모드는 예외 전에 커밋, memory 모드는 일괄 반영)
+                loginAttemptTracker.onLoginFailure(credential);
+
+                log.warn("로그인 실패 - 비밀번호 불일치: email={}", request.getEmail());
+                timing.outcome(Outcome.BAD_PASSWORD);
+
+                throw new ResponseStatusException(
+                        HttpStatus.UNAUTHORIZED,
+                        "이메일 또는 비밀번호가 일치하지 않습니다."
+                );
+            }
 
-            log.warn("로그인 실패 - 비밀번호 불일치: email={}", request.getEmail());
+            // 이메일 인증 확인 (비밀번호가 맞을 때만 확인)
+            if (!credential.isEmailVerified()) {
+                log.warn("로그인 실패 - 이메일 미인증: email={}", request.getEmail());
+                timing.outcome(Outcome.UNVERIFIED);
+                throw new EmailNotVerifiedException("이메일 인증이 필요합니다. 인증 후 로그인해주세요.");
+            }
 
-            throw new ResponseStatusException(
-                    HttpStatus.UNAUTHORIZED,
-                    "이메일 또는 비밀번호가 일치하지 않습니다."
-            );
-        }
+            // 저장된 해시의 strength가 현재 설정과 다르면 재해시 (트랜잭션 밖에서 해싱)
+            String rehashedPassword = rehashPasswordIfNeeded(credential, request.getPassword());
+            if (rehashedPassword != null) {
+                timing.phase(Phase.PASSWORD_HASH);
+            }
 
-        // 이메일 인증 확인 (비밀번호가 맞을 때만 확인)
-        if (!user.isEmailVerified()) {
-            log.warn("로그인 실패 - 이메일 미인증: email={}", request.getEmail());
-            throw new EmailNotVerifiedException("이메일 인증이 필요합니다. 인증 후 로그인해주세요.");
+            // 로그인 성공 처리 + 토큰 생성 (단일 트랜잭션)
+            TokenPairDto tokenPair = transactionTemplate.execute(status -> {
+                if (rehashedPassword != null
+                        && userRepository.updatePassword(credential.getId(), credential.getPassword(), rehashedPassword) > 0) {
+                    log.info("비밀번호 재해시 완료: userId={}", credential.getId());
+                }
+                loginAttemptTracker.onLoginSuccess(credential);
+                timing.phase(Phase.ACCOUNT_WRITE);
+                return generateTokenPair(credential.getId(), resolveSessionId(deviceId), timing);
+            });
+            timing.phase(Phase.COMMIT);
+
+            // 마지막 로그인 시간은 일괄 반영 (로그인마다 users 행을 UPDATE 하지 않음)
+            lastLoginWriter.record(credential.getId(), Instant.now());
+            log.info("로그인 성공: userId={}, email={}", credential.getId(), request.getEmail());
+            timing.outcome(Outcome.OK);
+
+            return tokenPair;
         }
-
-        // 로그인 성공 처리 (별도 트랜잭션으로 원자적 업데이트)
-        loginAttemptService.onLoginSuccess(user.getId());
-        log.info("로그인 성공: userId={}, email={}", user.getId(), request.getEmail());
-
-        // 토큰 생성 및 반환
-        return generateTokenPair(user);
     }
 
     /**
      * 회원가입
+     * - 중복 확인 조회 없이 INSERT 한 번으로 처리 (유일 제약 위반을 409 로 변환)
+     * - 동시에 같은 이메일/닉네임으로 가입해도 하나만 성공하고 나머지는 409
+     * - 비밀번호 해싱은 트랜잭션 밖에서 수행 (BCrypt 동안 DB 커넥션을 점유하지 않음)
      */
-    @Transactional
     public Long signup(SignupRequest request) {
         log.info("회원가입 시도: email={}, nickname={}", request.getEmail(), request.getNickname());
 
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(request.getEmail())) {
-            log.warn("회원가입 실패 - 이메일 중복: {}", request.getEmail());
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT,
-                    "이미 사용 중인 이메일입니다."
-            );
-        }
-
-        // 닉네임 중복 체크
-        if (userRepository.existsByNickname(request.getNickname())) {
-            log.warn("회원가입 실패 - 닉네임 중복: {}", request.getNickname());
-            throw new ResponseStatusException(
-                    HttpStatus.CONFLICT,
-                    "이미 사용 중인 닉네임입니다."
-            );
-        }
-
-        // 만 19세 이상 검증
-        LocalDate birthDate = request.getBirthDate();
-        LocalDate today = LocalDate.now();
-        int age = Period.between(birthDate, today).getYears();
-
-        if (age < Constants.MINIMUM_AGE) {
-            log.warn("회원가입 실패 - 나이 제한: email={}, age={}", request.getEmail(), age);
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "만 " + Constants.MINIMUM_AGE + "세 이상만 가입할 수 있습니다."
-            );
-        }
+        try (Timing timing = authMetrics.start(Flow.SIGNUP)) {
+            // 만 19세 이상 검증
+            LocalDate birthDate = request.getBirthDate();
+            LocalDate today = LocalDate.now();
+            int age = Period.between(birthDate, today).getYears();
+
+            if (age < Constants.MINIMUM_AGE) {
+                log.warn("회원가입 실패 - 나이 제한: email={}, age={}", request.getEmail(), age);
+                timing.outcome(Outcome.UNDERAGE);
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "만 " + Constants.MINIMUM_AGE + "세 이상만 가입할 수 있습니다."
+                );
+            }
 
-        // 사용자 생성
-        User user = User.builder()
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname())
-                .birthDate(birthDate)
-                .profileImageUrl(request.getProfileImageUrl())
-                .gender(request.getGender())
-                .bio(request.getBio())
-                .build();
+            // 사용자 생성
+            String encodedPassword = passwordEncoder.encode(request.getPassword());
+            timing.phase(Phase.PASSWORD_HASH);
+            User user = User.builder()
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .nickname(request.getNickname())
+                    .birthDate(birthDate)
+                    .profileImageUrl(request.getProfileImageUrl())
+                    .gender(request.getGender())
+                    .bio(request.getBio())
+                    .build();
 
-        User savedUser = userRepository.save(user);
-        log.info("회원가입 성공: userId={}, email={}", savedUser.getId(), request.getEmail());
+            User savedUser;
+            try {
+                savedUser = userRepository.save(user);
+            } catch (DataIntegrityViolationException e) {
+                String message = SIGNUP_CONFLICT_MESSAGES.get(violatedConstraint(e));
+                if (message == null) {
+                    throw e;
+                }
+                log.warn("회원가입 실패 - 중복: email={}, nickname={}, reason={}",
+                        request.getEmail(), request.getNickname(), message);
+                timing.outcome(Outcome.CONFLICT);
+                throw new ResponseStatusException(HttpStatus.CONFLICT, message);
+            }
+            timing.phase(Phase.INSERT);
+            availabilityFilter.add(savedUser.getEmail(), savedUser.getNickname());
+            log.info("회원가입 성공: userId={}, email={}", savedUser.getId(), request.getEmail());
+            timing.outcome(Outcome.OK);
 
-        // userId만 반환 (이메일 인증은 로그인 시도 시 안내, 이메일 인증 페이지에서 발송)
-        return savedUser.getId();
+            // userId만 반환 (이메일 인증은 로그인 시도 시 안내, 이메일 인증 페이지에서 발송)
+            return savedUser.getId();
+        }
     }
 
     /**
      * 이메일 중복 체크
+     * - 사용 여부 필터에 없으면 DB 조회 없이 사용 가능, 있을 수도 있으면 DB 확인
      */
-    @Transactional(readOnly = true)
     public boolean checkEmailAvailable(String email) {
-        boolean available = !userRepository.existsByEmail(email);
+        boolean available = availabilityFilter.isEmailAvailable(email);
         log.debug("이메일 중복 체크: email={}, available={}", email, available);
         return available;
     }
 
+    /**
+     * 닉네임 중복 체크 (이메일과 같은 필터 사용)
+     */
+    public boolean checkNicknameAvailable(String nickname) {
+        boolean available = availabilityFilter.isNicknameAvailable(nickname);
+        log.debug("닉네임 중복 체크: nickname={}, available={}", nickname, available);
+        return available;
+    }
+
     /**
      * 이메일 인증 코드 발송
+     * - 재발송 제한은 DB 접근 전에 판단 (연속 요청은 합치거나 429 + Retry-After)
+     * - 가입 여부와 무관하게 같은 제한을 적용하여 이메일 존재 여부를 노출하지 않음
+     * - 코드 저장과 outbox 기록은 하나의 트랜잭션, 실패하면 발송 기록 취소
      */
-    @Transactional
     public void sendVerificationCode(String email) {
         log.info("이메일 인증 코드 발송 요청: email={}", email);
 
-        // 사용자 조회 - 이메일 존재 여부 노출 방지를 위해 조용히 처리
-        User user = userRepository.findByEmail(email).orElse(null);
+        if (verificationResendThrottle.acquire(email) == VerificationResendThrottle.Decision.COALESCED) {
+            log.info("이메일 인증 코드 발송 - 직전 요청에 합침: email={}", email);
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(status -> {
+                issueVerificationCode(email);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            verificationResendThrottle.cancel(email);
+            throw e;
+        }
+    }
+
+    private void issueVerificationCode(String email) {
+        // 인증 정보만 조회 (엔티티 로딩 없음) - 이메일 존재 여부 노출 방지를 위해 조용히 처리
+        UserCredential credential = userRepository.findCredentialByEmail(email).orElse(null);
 
         // 사용자가 없거나 이미 인증된 경우 조용히 성공 처리 (보안)
-        if (user == null) {
+        if (credential == null) {
             log.warn("이메일 인증 코드 발송 - 존재하지 않는 이메일: {}", email);
             // 이메일 존재 여부를 노출하지 않기 위해 예외를 던지지 않음
             return;
         }
 
-        if (user.isEmailVerified()) {
+        if (credential.isEmailVerified()) {
             log.info("이메일 인증 코드 발송 - 이미 인증된 이메일: {}", email);
             // 이메일 존재 여부를 노출하지 않기 위해 예외를 던지지 않음
             return;
@@ -201,138 +305,201 @@ public class AuthService {
         // 6자리 랜덤 코드 생성
         String verificationCode = generateVerificationCode();
 
-        // 코드 해시화 및 저장
-        String codeHash = hashToken(verificationCode);
+        // 코드 해시화 및 저장 (users 행은 갱신하지 않음)
+        byte[] codeHash = HashUtils.sha256(verificationCode);
         Instant expiry = Instant.now().plus(Constants.EMAIL_VERIFICATION_EXPIRY_MINUTES, ChronoUnit.MINUTES);
-        user.setEmailVerificationCode(codeHash, expiry);
+        verificationChallengeStore.issue(credential.getId(), codeHash, expiry);
 
-        // 이메일 발송
+        // 이메일 발송 요청 (outbox 기록 - SMTP 발송은 커밋 후 비동기)
         emailService.sendVerificationEmail(email, verificationCode);
-        log.info("이메일 인증 코드 발송 완료: email={}", email);
+        log.info("이메일 인증 코드 발송 요청 완료: email={}", email);
     }
 
     /**
      * 이메일 인증 코드 검증 (인증 성공 시 자동 로그인 - 토큰 발급)
+     * - 트랜잭션 없이 시작: 코드 확인/오답 횟수 증가는 인증 코드 저장소에서만 처리 (users 행 갱신 없음)
+     * - 오답 횟수는 거절 예외와 무관하게 바로 반영 (롤백되지 않음)
+     * - 코드가 일치할 때만 인증 완료 처리/코드 삭제/토큰 발급을 하나의 트랜잭션으로 처리
      */
-    @Transactional
     public TokenPairDto verifyEmail(String email, String code) {
         log.info("이메일 인증 시도: email={}", email);
 
-        // 사용자 조회
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.warn("이메일 인증 실패 - 존재하지 않는 이메일: {}", email);
-                    return new ResponseStatusException(
-                            HttpStatus.NOT_FOUND,
-                            "해당 이메일로 가입된 사용자를 찾을 수 없습니다."
-                    );
-                });
-
-        // 이미 인증된 사용자
-        if (user.isEmailVerified()) {
-            log.info("이메일 인증 - 이미 인증된 이메일: {}", email);
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "이미 인증된 이메일입니다."
-            );
-        }
-
-        // 인증 코드가 없는 경우
-        if (user.getEmailVerificationCodeHash() == null) {
-            log.warn("이메일 인증 실패 - 인증 코드 미발급: {}", email);
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "인증 코드를 먼저 요청해주세요."
-            );
-        }
-
-        // 시도 횟수 초과 확인
-        if (user.isVerificationAttemptsExceeded()) {
-            log.warn("이메일 인증 실패 - 시도 횟수 초과: email={}", email);
-            throw new ResponseStatusException(
-                    HttpStatus.TOO_MANY_REQUESTS,
-                    "인증 시도 횟수를 초과했습니다. 새로운 인증 코드를 요청해주세요."
-            );
-        }
+        try (Timing timing = authMetrics.start(Flow.VERIFY_EMAIL)) {
+            // 인증 정보 조회 (엔티티 로딩 없음)
+            UserCredential credential = userRepository.findCredentialByEmail(email)
+                    .orElseThrow(() -> {
+                        log.warn("이메일 인증 실패 - 존재하지 않는 이메일: {}", email);
+                        timing.outcome(Outcome.UNKNOWN_USER);
+                        return new ResponseStatusException(
+                                HttpStatus.NOT_FOUND,
+                                "해당 이메일로 가입된 사용자를 찾을 수 없습니다."
+                        );
+                    });
+            timing.phase(Phase.LOOKUP);
+
+            // 이미 인증된 사용자
+            if (credential.isEmailVerified()) {
+                log.info("이메일 인증 - 이미 인증된 이메일: {}", email);
+                timing.outcome(Outcome.ALREADY_VERIFIED);
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST,
+                        "이미 인증된 이메일입니다."
+                );
+            }
 
-        // 만료 시간 확인 (Null 체크 포함)
-        if (user.isEmailVerificationExpired()) {
-            log.warn("이메일 인증 실패 - 인증 코드 만료: email={}", email);
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "인증 코드가 만료되었습니다. 새로운 인증 코드를 요청해주세요."
-            );
-        }
+            // 코드 확인 (시도 횟수 초과 > 만료 > 일치 여부 순)
+            VerificationCheck check = verificationChallengeStore.check(credential.getId(), code);
+            timing.phase(Phase.CHALLENGE_CHECK);
+            switch (check.status()) {
+                case NOT_ISSUED -> {
+                    log.warn("이메일 인증 실패 - 인증 코드 미발급: {}", email);
+                    timing.outcome(Outcome.NOT_ISSUED);
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST,
+                            "인증 코드를 먼저 요청해주세요."
+                    );
+                }
+                case ATTEMPTS_EXCEEDED -> {
+                    log.warn("이메일 인증 실패 - 시도 횟수 초과: email={}", email);
+                    timing.outcome(Outcome.ATTEMPTS_EXCEEDED);
+                    throw new ResponseStatusException(
+                            HttpStatus.TOO_MANY_REQUESTS,
+                            "인증 시도 횟수를 초과했습니다. 새로운 인증 코드를 요청해주세요."
+                    );
+                }
+                case EXPIRED -> {
+                    log.warn("이메일 인증 실패 - 인증 코드 만료: email={}", email);
+                    timing.outcome(Outcome.EXPIRED);
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST,
+                            "인증 코드가 만료되었습니다. 새로운 인증 코드를 요청해주세요."
+                    );
+                }
+                case MISMATCH -> {
+                    log.warn("이메일 인증 실패 - 코드 불일치: email={}, 남은 시도={}회", email, check.remainingAttempts());
+                    timing.outcome(Outcome.MISMATCH);
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST,
+                            "인증 코드가 일치하지 않습니다. (남은 시도: " + check.remainingAttempts() + "회)"
+                    );
+                }
+                case VERIFIED -> log.debug("이메일 인증 코드 일치: email={}", email);
+            }
 
-        // 코드 검증
-        String inputCodeHash = hashToken(code);
-        if (!user.getEmailVerificationCodeHash().equals(inputCodeHash)) {
-            user.incrementVerificationAttempts();
-            log.warn("이메일 인증 실패 - 코드 불일치: email={}, 남은 시도={}회",
-                    email, (Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - user.getVerificationAttempts()));
-            throw new ResponseStatusException(
-                    HttpStatus.BAD_REQUEST,
-                    "인증 코드가 일치하지 않습니다. (남은 시도: " +
-                            (Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - user.getVerificationAttempts()) + "회)"
-            );
+            // 인증 완료 처리 + 자동 로그인 (단일 트랜잭션)
+            TokenPairDto tokenPair = transactionTemplate.execute(status -> {
+                User user = userRepository.findById(credential.getId())
+                        .orElseThrow(() -> new ResponseStatusException(
+                                HttpStatus.NOT_FOUND,
+                                "해당 이메일로 가입된 사용자를 찾을 수 없습니다."
+                        ));
+                user.verifyEmail();
+                verificationChallengeStore.remove(user.getId());
+                timing.phase(Phase.ACCOUNT_WRITE);
+
+                // 자동 로그인: Access Token 및 Refresh Token 생성 (새 세션)
+                return generateTokenPair(user.getId(), resolveSessionId(null), timing);
+            });
+            timing.phase(Phase.COMMIT);
+            log.info("이메일 인증 성공: email={}", email);
+            timing.outcome(Outcome.OK);
+
+            return tokenPair;
         }
-
-        // 인증 완료
-        user.verifyEmail();
-        log.info("이메일 인증 성공: email={}", email);
-
-        // 자동 로그인: Access Token 및 Refresh Token 생성
-        return generateTokenPair(user);
     }
 
     /**
-     * Refresh Token으로 Access Token 재발급
+     * Refresh Token으로 Access Token 재발급 (Refresh Token rotation)
+     * - 서명/만료를 먼저 확인하여 위조 토큰은 DB 조회 없이 거절
+     * - 트랜잭션 없이 시작: 서명 확인/새 토큰 서명 동안 DB 커넥션을 점유하지 않음
+     * - 두 토큰 모두 교체 문장 전에 서명 (사용자 ID 는 서명 확인된 토큰 기준, 거절되면 버림)
+     * - 토큰 조회/사용자 상태 확인/교체/만료 삭제/재사용 감지를 한 문장으로 처리 (엔티티 로딩 없음)
+     * - 거절 시에도 삭제/폐기는 커밋 (결과 판단과 거절 예외는 커밋 후)
      */
-    @Transactional
     public TokenPairDto refreshAccessToken(String refreshTokenValue) {
         log.info("Access Token 재발급 요청");
 
-        // Refresh Token 해시화
-        String tokenHash = hashToken(refreshTokenValue);
+        try (Timing timing = authMetrics.start(Flow.REFRESH)) {
+            JwtVerificationResult verified = jwtTokenProvider.verify(refreshTokenValue);
+            timing.phase(Phase.TOKEN_VERIFY);
+            if (!verified.isValid()) {
+                log.warn("Access Token 재발급 실패 - Refresh Token 검증 실패: {}", verified.getFailure());
+                boolean expired = verified.getFailure() == JwtVerificationResult.Failure.EXPIRED;
+                timing.outcome(expired ? Outcome.EXPIRED : Outcome.INVALID);
+                throw expired ? expiredRefreshToken() : invalidRefreshToken();
+            }
 
-        // DB에서 Refresh Token 조회
-        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(tokenHash)
-                .orElseThrow(() -> {
-                    log.warn("Access Token 재발급 실패 - 유효하지 않은 Refresh Token");
-                    return new ResponseStatusException(
+            // 세션 만료 시각은 로그인 시점 기준으로 고정 (재발급으로 연장하지 않음)
+            String newRefreshToken = jwtTokenProvider.createRefreshToken(verified.getUserId(), verified.getFamilyId());
+            String newAccessToken = jwtTokenProvider.createAccessToken(verified.getUserId());
+            timing.phase(Phase.TOKEN_SIGN);
+
+            Optional<RefreshOutcome> refreshed = transactionTemplate.execute(status -> {
+                Optional<RefreshOutcome> result = refreshTokenRepository
+                        .refresh(HashUtils.sha256(refreshTokenValue), HashUtils.sha256(newRefreshToken),
+                                verified.getUserId(), verified.getFamilyId());
+                timing.phase(Phase.SESSION_WRITE);
+                return result;
+            });
+            timing.phase(Phase.COMMIT);
+
+            RefreshOutcome outcome = refreshed.orElseThrow(() -> {
+                log.warn("Access Token 재발급 실패 - 유효하지 않은 Refresh Token");
+                timing.outcome(Outcome.INVALID);
+                return invalidRefreshToken();
+            });
+
+            switch (outcome.status()) {
+                case ROTATED -> {
+                    // 재발급 성공 - 미리 서명한 토큰 반환
+                }
+                case EXPIRED -> {
+                    log.warn("Access Token 재발급 실패 - Refresh Token 만료: userId={}", outcome.getUserId());
+                    timing.outcome(Outcome.EXPIRED);
+                    throw expiredRefreshToken();
+                }
+                case INACTIVE -> {
+                    log.warn("Access Token 재발급 실패 - 비활성화 계정: userId={}", outcome.getUserId());
+                    timing.outcome(Outcome.INACTIVE);
+                    throw new ResponseStatusException(
+                            HttpStatus.FORBIDDEN,
+                            "비활성화된 계정입니다. 관리자에게 문의해주세요."
+                    );
+                }
+                case UNVERIFIED -> {
+                    log.warn("Access Token 재발급 실패 - 이메일 미인증: userId={}", outcome.getUserId());
+                    timing.outcome(Outcome.UNVERIFIED);
+                    throw new EmailNotVerifiedException("이메일 인증이 필요합니다. 인증 후 로그인해주세요.");
+                }
+                case REUSED -> {
+                    log.warn("Access Token 재발급 실패 - Refresh Token 재사용 감지, 세션 폐기: userId={}", outcome.getUserId());
+                    timing.outcome(Outcome.REUSED);
+                    throw new ResponseStatusException(
                             HttpStatus.UNAUTHORIZED,
-                            "유효하지 않은 Refresh Token입니다."
+                            "이미 사용된 Refresh Token입니다. 다시 로그인해주세요."
                     );
-                });
-
-        // Refresh Token 만료 확인
-        if (refreshToken.getExpiresAt().isBefore(Instant.now())) {
-            log.warn("Access Token 재발급 실패 - Refresh Token 만료: userId={}", refreshToken.getUser().getId());
-            refreshTokenRepository.delete(refreshToken);
-            throw new ResponseStatusException(
-                    HttpStatus.UNAUTHORIZED,
-                    "Refresh Token이 만료되었습니다. 다시 로그인해주세요."
-            );
-        }
-
-        User user = refreshToken.getUser();
+                }
+            }
 
-        // 새로운 Access Token 생성
-        String newAccessToken = jwtTokenProvider.createAccessToken(user.getId());
-        log.info("Access Token 재발급 성공: userId={}", user.getId());
+            log.info("Access Token 재발급 성공: userId={}, sessionId={}", outcome.getUserId(), outcome.getSessionId());
+            timing.outcome(Outcome.OK);
 
-        return TokenPairDto.builder()
-                .userId(user.getId())
-                .accessToken(newAccessToken)
-                .refreshToken(refreshTokenValue) // 기존 Refresh Token 재사용
-                .build();
+            return TokenPairDto.builder()
+                    .userId(outcome.getUserId())
+                    .accessToken(newAccessToken)
+                    .refreshToken(newRefreshToken)
+                    .build();
+        }
     }
 
     /**
-     * 로그아웃 (Refresh Token 삭제)
+     * 로그아웃 (Refresh Token 삭제 및 Access Token 폐기)
+     * - Refresh Token이 있으면 해당 세션과 현재 Access Token만 폐기 (다른 기기는 유지)
+     * - 없으면 모든 세션 삭제 및 지금까지 발급된 Access Token 모두 폐기
+     * @param accessToken 요청에 사용된 Access Token 검증 결과 (없으면 null)
      */
     @Transactional
-    public void logout(Long userId) {
+    public void logout(Long userId, String refreshTokenValue, JwtVerificationResult accessToken) {
         log.info("로그아웃 요청: userId={}", userId);
 
         User user = userRepository.findById(userId)
@@ -341,79 +508,106 @@ public class AuthService {
                         "사용자를 찾을 수 없습니다."
                 ));
 
-        refreshTokenRepository.deleteByUser(user);
+        // 이미 발급된 Access Token도 더 이상 인증에 사용되지 않도록 폐기
+        if (refreshTokenValue != null && !refreshTokenValue.isBlank()) {
+            refreshTokenRepository.deleteSession(userId, HashUtils.sha256(refreshTokenValue));
+            jwtVerificationCache.revokeToken(accessToken);
+        } else {
+            refreshTokenRepository.deleteByUser(user);
+            jwtVerificationCache.revokeUser(userId);
+        }
         log.info("로그아웃 성공: userId={}", userId);
     }
 
     /**
      * Access Token 및 Refresh Token 생성
+     * - 트랜잭션 안에서 호출 (Refresh Token 저장은 세션 잠금 후 같은 세션 교체)
+     * - 새 로그인이므로 새 계열(family)로 시작, 계열 ID 는 Refresh Token 에도 서명해 둠 (재사용 감지)
      */
-    private TokenPairDto generateTokenPair(User user) {
+    private TokenPairDto generateTokenPair(Long userId, String sessionId, Timing timing) {
         // 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(user.getId());
-        String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
+        String accessToken = jwtTokenProvider.createAccessToken(userId);
+        UUID familyId = UUID.randomUUID();
+        String refreshToken = jwtTokenProvider.createRefreshToken(userId, familyId);
+        timing.phase(Phase.TOKEN_SIGN);
 
         // Refresh Token 해시화 및 저장
-        String refreshTokenHash = hashToken(refreshToken);
-        saveOrUpdateRefreshToken(user, refreshTokenHash);
+        Instant expiresAt = Instant.now().plus(Constants.REFRESH_TOKEN_EXPIRY_DAYS, ChronoUnit.DAYS);
+        refreshTokenRepository.replaceSession(userId, sessionId, familyId, HashUtils.sha256(refreshToken), expiresAt);
+        timing.phase(Phase.SESSION_WRITE);
 
         return TokenPairDto.builder()
-                .userId(user.getId())
+                .userId(userId)
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .build();
     }
 
+    private ResponseStatusException expiredRefreshToken() {
+        return new ResponseStatusException(
+                HttpStatus.UNAUTHORIZED,
+                "Refresh Token이 만료되었습니다. 다시 로그인해주세요."
+        );
+    }
+
+    private ResponseStatusException invalidRefreshToken() {
+        return new ResponseStatusException(
+                HttpStatus.UNAUTHORIZED,
+                "유효하지 않은 Refresh Token입니다."
+        );
+    }
+
     /**
-     * 6자리 랜덤 인증 코드 생성
+     * 세션 ID 결정
+     * - 형식이 올바른 기기 ID는 그대로 사용 (같은 기기 재로그인 시 기존 세션 교체)
+     * - 없거나 형식이 잘못되면 새 세션
      */
-    private String generateVerificationCode() {
-        SecureRandom random = new SecureRandom();
-        int codeRange = Constants.EMAIL_VERIFICATION_CODE_MAX - Constants.EMAIL_VERIFICATION_CODE_MIN;
-        int code = random.nextInt(codeRange) + Constants.EMAIL_VERIFICATION_CODE_MIN;
-        return String.valueOf(code);
+    private String resolveSessionId(String deviceId) {
+        if (deviceId != null && deviceId.length() <= Constants.SESSION_ID_MAX_LENGTH
+                && SESSION_ID_PATTERN.matcher(deviceId).matches()) {
+            return deviceId;
+        }
+        return UUID.randomUUID().toString();
     }
 
     /**
-     * Token SHA-256 해시화
+     * 로그인 성공 시 비밀번호 재해시
+     * - 평문 비밀번호를 알 수 있는 유일한 시점이므로 여기서 strength 변경을 반영
+     * - 해싱 격벽이 포화 상태면 로그인을 실패시키지 않고 다음 로그인으로 미룸
+     * @return 새 해시 (재해시 불필요 또는 생략 시 null)
      */
-    private String hashToken(String token) {
+    private String rehashPasswordIfNeeded(UserCredential credential, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(credential.getPassword())) {
+            return null;
+        }
+
         try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            log.error("SHA-256 해시 알고리즘을 찾을 수 없습니다.", e);
-            throw new HashingException("SHA-256 해시 알고리즘을 찾을 수 없습니다.", e);
+            return passwordEncoder.encode(rawPassword);
+        } catch (ServiceOverloadedException e) {
+            log.warn("비밀번호 재해시 생략 - 해싱 대기열 초과: userId={}", credential.getId());
+            return null;
         }
     }
 
     /**
-     * Refresh Token 저장 또는 업데이트
+     * 위반된 제약 이름 추출 (Hibernate 가 SQLState 23505 메시지에서 읽어 둔 값)
      */
-    private void saveOrUpdateRefreshToken(User user, String tokenHash) {
-        Instant expiresAt = Instant.now().plus(Constants.REFRESH_TOKEN_EXPIRY_DAYS, ChronoUnit.DAYS);
-
-        RefreshToken refreshToken = refreshTokenRepository.findByUser(user)
-                .orElse(null);
-
-        if (refreshToken == null) {
-            // 새로 생성
-            refreshToken = RefreshToken.builder()
-                    .user(user)
-                    .tokenHash(tokenHash)
-                    .expiresAt(expiresAt)
-                    .build();
-            refreshTokenRepository.save(refreshToken);
-        } else {
-            // 기존 토큰 업데이트
-            refreshToken.updateTokenHash(tokenHash, expiresAt);
+    private static String violatedConstraint(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT);
+            }
         }
+        return null;
+    }
+
+    /**
+     * 6자리 랜덤 인증 코드 생성
+     */
+    private String generateVerificationCode() {
+        SecureRandom random = new SecureRandom();
+        int codeRange = Constants.EMAIL_VERIFICATION_CODE_MAX - Constants.EMAIL_VERIFICATION_CODE_MIN;
+        int code = random.nextInt(codeRange) + Constants.EMAIL_VERIFICATION_CODE_MIN;
+        return String.valueOf(code);
     }
 }
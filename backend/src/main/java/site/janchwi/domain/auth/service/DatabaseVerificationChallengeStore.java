@@ -0,0 +1,98 @@
+package site.janchwi.domain.auth.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.domain.auth.dto.VerificationCheck;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.security.VerificationChallengeProperties;
+import site.janchwi.global.util.HashUtils;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * PostgreSQL UNLOGGED 테이블 기반 인증 코드 저장소 (security.verification-challenge.store=database, 기본값)
+ * - email_verification_challenges (user_id, code_hash, expires_at, attempts) 만 갱신 - users 행은 건드리지 않음
+ * - 오답 시 시도 횟수 증가는 한 문장 UPDATE ... RETURNING (행 잠금으로 동시 오답도 최대 횟수를 넘지 않음)
+ * - 호출자 트랜잭션에 참여, 트랜잭션 밖에서 호출하면 문장 단위로 바로 커밋
+ * - 만료 후 retention 이 지난 행은 주기적으로 삭제 (여러 노드가 동시에 실행해도 무방)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "security.verification-challenge", name = "store", havingValue = "database",
+        matchIfMissing = true)
+public class DatabaseVerificationChallengeStore implements VerificationChallengeStore {
+
+    private static final String ISSUE_SQL = """
+            INSERT INTO email_verification_challenges (user_id, code_hash, expires_at, attempts)
+            VALUES (?, ?, ?, 0)
+            ON CONFLICT (user_id) DO UPDATE
+            SET code_hash = EXCLUDED.code_hash, expires_at = EXCLUDED.expires_at, attempts = 0
+            """;
+
+    // 판정 가능한(횟수 남음 + 미만료) 코드만 시도 횟수를 차지하고 해시를 반환
+    private static final String CONSUME_ATTEMPT_SQL = """
+            UPDATE email_verification_challenges
+            SET attempts = attempts + 1
+            WHERE user_id = ? AND attempts < ? AND expires_at > now()
+            RETURNING attempts, code_hash
+            """;
+
+    private static final String STATE_SQL =
+            "SELECT attempts FROM email_verification_challenges WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration retention;
+
+    public DatabaseVerificationChallengeStore(JdbcTemplate jdbcTemplate, VerificationChallengeProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retention = properties.getRetention();
+    }
+
+    @Override
+    public void issue(Long userId, byte[] codeHash, Instant expiresAt) {
+        jdbcTemplate.update(ISSUE_SQL, userId, codeHash, Timestamp.from(expiresAt));
+    }
+
+    @Override
+    public VerificationCheck check(Long userId, String code) {
+        List<VerificationCheck> consumed = jdbcTemplate.query(CONSUME_ATTEMPT_SQL, (rs, rowNum) -> {
+            int used = rs.getInt("attempts");
+            return HashUtils.matches(code, rs.getBytes("code_hash"))
+                    ? VerificationCheck.of(VerificationCheck.Status.VERIFIED)
+                    : VerificationCheck.mismatch(Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - used);
+        }, userId, Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS);
+        if (!consumed.isEmpty()) {
+            return consumed.getFirst();
+        }
+
+        // 판정 불가 사유 구분 (실패 경로에서만 조회) - 행이 남아 있으면 횟수 초과 아니면 만료
+        List<VerificationCheck> rejected = jdbcTemplate.query(STATE_SQL, (rs, rowNum) ->
+                VerificationCheck.of(rs.getInt("attempts") >= Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS
+                        ? VerificationCheck.Status.ATTEMPTS_EXCEEDED
+                        : VerificationCheck.Status.EXPIRED), userId);
+        return rejected.isEmpty() ? VerificationCheck.of(VerificationCheck.Status.NOT_ISSUED) : rejected.getFirst();
+    }
+
+    @Override
+    public void remove(Long userId) {
+        jdbcTemplate.update("DELETE FROM email_verification_challenges WHERE user_id = ?", userId);
+    }
+
+    /**
+     * 만료 후 retention 이 지난 코드 삭제 (ix_email_verification_challenges_expires_at 사용)
+     */
+    @Scheduled(fixedDelayString = "${security.verification-challenge.cleanup-interval:5m}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM email_verification_challenges WHERE expires_at < ?",
+                Timestamp.from(Instant.now().minus(retention)));
+        if (purged > 0) {
+            log.debug("만료된 이메일 인증 코드 정리: rows={}", purged);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.config.AvailabilityFilterProperties;
+import site.janchwi.global.util.BloomFilter;
+
+import javax.sql.DataSource;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 이메일/닉네임 사용 여부 확인용 메모리 필터 (Bloom filter)
+ * - 필터에 없으면 "확실히 사용 가능" - DB 조회 없이 응답
+ * - 필터에 있으면(오탐 포함) DB 로 확인
+ * - 기동 시 users 를 스트리밍으로 읽어 구성, 가입 시 추가, 주기적으로 재구성 (탈퇴/크기 증가 반영)
+ * - 다른 노드에서 가입한 사용자는 sync-interval 마다 id 기준으로 따라잡음 (직전 주기 구간까지 다시 읽어 늦은 커밋 포함)
+ * - 구성 전이거나 비활성화(availability-filter.enabled=false)면 항상 DB 조회
+ * - 이메일은 소문자로 정규화 (ux_users_email_lower 와 같은 기준), 닉네임은 그대로 (uk_users_nickname 은 대소문자 구분)
+ */
+@Slf4j
+@Component
+public class IdentifierAvailabilityFilter {
+
+    private static final String SIZE_ESTIMATE_SQL =
+            "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'users'::regclass";
+    private static final String STREAM_SQL = "SELECT id, email, nickname FROM users";
+    private static final String SYNC_SQL = "SELECT id, email, nickname FROM users WHERE id > ?";
+
+    public enum Kind {
+        EMAIL, NICKNAME
+    }
+
+    private final UserRepository userRepository;
+    private final AvailabilityFilterProperties properties;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final Map<Kind, Counter> negatives = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> probableHits = new EnumMap<>(Kind.class);
+    private final Map<Kind, Counter> falsePositives = new EnumMap<>(Kind.class);
+    private final Timer rebuildTimer;
+
+    // 사용 중인 필터 (구성 전에는 null)
+    private volatile Filters current;
+    // 재구성 중인 필터 - 스트리밍 도중 가입한 사용자도 빠지지 않도록 양쪽에 추가
+    private volatile Filters building;
+    // 따라잡기 조회 시작 id (직전 주기에 본 최대 id) / 지금까지 본 최대 id
+    private long syncFromId;
+    private long seenUpToId;
+
+    public IdentifierAvailabilityFilter(UserRepository userRepository, AvailabilityFilterProperties properties,
+                                        DataSource dataSource, PlatformTransactionManager transactionManager,
+                                        MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.properties = properties;
+
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(properties.getFetchSize());
+        // PostgreSQL 은 autocommit 이 꺼진 상태에서만 fetchSize 단위 커서 조회
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        for (Kind kind : Kind.values()) {
+            String tag = kind.name().toLowerCase(Locale.ROOT);
+            negatives.put(kind, checkCounter(meterRegistry, tag, "negative"));
+            probableHits.put(kind, checkCounter(meterRegistry, tag, "probable"));
+            falsePositives.put(kind, Counter.builder("auth.availability.filter.false.positives")
+                    .description("필터는 있다고 했지만 DB 에 없던 조회 수")
+                    .tag("kind", tag)
+                    .register(meterRegistry));
+            registerFilterGauges(meterRegistry, kind, tag);
+        }
+        this.rebuildTimer = Timer.builder("auth.availability.filter.rebuild.duration")
+                .description("사용 여부 필터 재구성 시간 (users 스트리밍 포함)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이메일 사용 가능 여부 (필터에 없으면 DB 조회 생략)
+     */
+    public boolean isEmailAvailable(String email) {
+        return isAvailable(Kind.EMAIL, normalizeEmail(email), email, userRepository::existsByEmail);
+    }
+
+    /**
+     * 닉네임 사용 가능 여부 (필터에 없으면 DB 조회 생략)
+     */
+    public boolean isNicknameAvailable(String nickname) {
+        return isAvailable(Kind.NICKNAME, nickname, nickname, userRepository::existsByNickname);
+    }
+
+    /**
+     * 가입 완료 후 추가
+     */
+    public void add(String email, String nickname) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.put(normalizeEmail(email), nickname);
+        }
+        Filters pending = building;
+        if (pending != null) {
+            pending.put(normalizeEmail(email), nickname);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    /**
+     * users 전체를 스트리밍으로 읽어 새 필터 구성 후 교체
+     * - 크기는 현재 사용자 수(통계 추정치) x growth-factor 와 min-capacity 중 큰 값
+     */
+    @Scheduled(fixedDelayString = "${availability-filter.rebuild-interval:6h}",
+            initialDelayString = "${availability-filter.rebuild-interval:6h}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            Long estimatedRows = streamingJdbcTemplate.queryForObject(SIZE_ESTIMATE_SQL, Long.class);
+            long capacity = Math.max(properties.getMinCapacity(),
+                    (long) ((estimatedRows != null ? estimatedRows : 0) * properties.getGrowthFactor()));
+            Filters filters = new Filters(
+                    BloomFilter.create(capacity, properties.getFalsePositiveRate()),
+                    BloomFilter.create(capacity, properties.getFalsePositiveRate()));
+
+            building = filters;
+            long maxId = stream(filters, STREAM_SQL);
+            current = filters;
+            syncFromId = maxId;
+            seenUpToId = maxId;
+
+            log.info("사용 여부 필터 구성 완료: users={}, capacity={}, bits={}, hashes={}",
+                    filters.emails().insertions(), capacity, filters.emails().bitSize(), filters.emails().hashCount());
+        } catch (RuntimeException e) {
+            // 기존 필터(또는 DB 조회)로 계속 동작
+            log.error("사용 여부 필터 구성 실패 - 기존 필터 유지", e);
+        } finally {
+            building = null;
+            rebuildTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 마지막으로 본 id 이후 가입한 사용자 추가 (다른 노드 가입, 가입 API 밖에서 추가된 행)
+     * - 직전 주기에 본 구간부터 다시 읽어, id 는 먼저 받았지만 늦게 커밋된 행도 포함 (재추가는 비트 변화 없음)
+     */
+    @Scheduled(fixedDelayString = "${availability-filter.sync-interval:30s}",
+            initialDelayString = "${availability-filter.sync-interval:30s}")
+    public synchronized void sync() {
+        Filters filters = current;
+        if (!properties.isEnabled() || filters == null) {
+            return;
+        }
+        try {
+            long maxId = stream(filters, SYNC_SQL, syncFromId);
+            syncFromId = seenUpToId;
+            seenUpToId = Math.max(seenUpToId, maxId);
+        } catch (RuntimeException e) {
+            log.warn("사용 여부 필터 따라잡기 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    boolean isReady() {
+        return current != null;
+    }
+
+    private boolean isAvailable(Kind kind, String key, String value, Predicate<String> existsInDatabase) {
+        Filters filters = properties.isEnabled() ? current : null;
+        if (filters != null && !filters.get(kind).mightContain(key)) {
+            negatives.get(kind).increment();
+            return true;
+        }
+
+        boolean exists = existsInDatabase.test(value);
+        if (filters != null) {
+            probableHits.get(kind).increment();
+            if (!exists) {
+                falsePositives.get(kind).increment();
+            }
+        }
+        return !exists;
+    }
+
+    /**
+     * 커서 단위(fetch-size)로 읽어 필터에 추가
+     * @return 읽은 행의 최대 id (없으면 0)
+     */
+    private long stream(Filters filters, String sql, Object... args) {
+        long[] maxId = {0};
+        readOnlyTransaction.executeWithoutResult(status -> streamingJdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            maxId[0] = Math.max(maxId[0], rs.getLong(1));
+            filters.put(normalizeEmail(rs.getString(2)), rs.getString(3));
+        }, args));
+        return maxId[0];
+    }
+
+    private void registerFilterGauges(MeterRegistry meterRegistry, Kind kind, String tag) {
+        gauge(meterRegistry, "auth.availability.filter.size", "필터 비트 배열 크기", "bytes", tag,
+                filter -> filter.bitSize() / 8.0, kind);
+        gauge(meterRegistry, "auth.availability.filter.entries", "필터에 추가된 항목 수", null, tag,
+                filter -> (double) filter.insertions(), kind);
+        gauge(meterRegistry, "auth.availability.filter.expected.fpp", "채워진 비트 비율로 추정한 오탐률", null, tag,
+                BloomFilter::expectedFalsePositiveRate, kind);
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String description, String baseUnit, String tag,
+                       Function<BloomFilter, Double> value, Kind kind) {
+        Gauge.builder(name, this, self -> {
+                    Filters filters = self.current;
+                    return filters != null ? value.apply(filters.get(kind)) : Double.NaN;
+                })
+                .description(description)
+                .baseUnit(baseUnit)
+                .tag("kind", tag)
+                .register(meterRegistry);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String kind, String result) {
+        return Counter.builder("auth.availability.filter.checks")
+                .description("사용 여부 필터 조회 결과 (negative: DB 조회 생략, probable: DB 확인)")
+                .tag("kind", kind)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 이메일/닉네임 필터 한 쌍 (재구성 시 함께 교체)
+     */
+    private record Filters(BloomFilter emails, BloomFilter nicknames) {
+
+        void put(String normalizedEmail, String nickname) {
+            emails.put(normalizedEmail);
+            nicknames.put(nickname);
+        }
+
+        BloomFilter get(Kind kind) {
+            return kind == Kind.EMAIL ? emails : nicknames;
+        }
+    }
+}
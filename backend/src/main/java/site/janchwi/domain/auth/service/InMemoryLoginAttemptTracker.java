@@ -0,0 +1,269 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import site.janchwi.domain.users.dto.UserCredential;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.security.LoginAttemptProperties;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 메모리 기반 로그인 시도 추적 (security.login-attempts.mode=memory)
+ * - 이메일별 슬라이딩 윈도우로 실패 횟수를 집계하고 잠금 여부를 메모리에서 판단
+ * - 잠긴 계정은 DB 조회/BCrypt 검증 전에 거절
+ * - 변경된 카운터/잠금 시간은 주기적으로 일괄 UPDATE (write-behind)
+ * - 리셋할 값이 없는 로그인 성공은 UPDATE 생략
+ * - 노드 간 공유되지 않으므로 잠금 판단은 노드마다 독립적 (강한 일관성이 필요하면 database 모드)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "security.login-attempts", name = "mode", havingValue = "memory")
+public class InMemoryLoginAttemptTracker implements LoginAttemptTracker {
+
+    private static final String UPDATE_COUNTERS_SQL =
+            "UPDATE users SET failed_login_attempts = ?, account_locked_until = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LongSupplier clock;
+    private final long windowMillis;
+    private final long lockDurationMillis;
+
+    // 이메일(소문자) -> 시도 상태 (키 단위 원자적 갱신)
+    private final ConcurrentHashMap<String, AttemptState> attempts = new ConcurrentHashMap<>();
+    // 사용자 ID -> DB 반영 대기 중인 변경 사항
+    private final ConcurrentHashMap<Long, PendingWrite> pendingWrites = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryLoginAttemptTracker(JdbcTemplate jdbcTemplate, LoginAttemptProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this(jdbcTemplate, properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    InMemoryLoginAttemptTracker(JdbcTemplate jdbcTemplate, LoginAttemptProperties properties,
+                                MeterRegistry meterRegistry, LongSupplier clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.windowMillis = properties.getWindow().toMillis();
+        this.lockDurationMillis = Constants.ACCOUNT_LOCK_DURATION_MINUTES * 60_000L;
+
+        Gauge.builder("auth.login.attempts.tracked", attempts, Map::size)
+                .description("메모리에서 추적 중인 계정 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.attempts.pending", pendingWrites, Map::size)
+                .description("DB 반영 대기 중인 계정 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isLocked(String email) {
+        AttemptState state = attempts.get(key(email));
+        return state != null && state.isLocked(clock.getAsLong());
+    }
+
+    @Override
+    public void onLoginFailure(UserCredential credential) {
+        long now = clock.getAsLong();
+
+        attempts.compute(key(credential.getEmail()), (email, current) -> {
+            AttemptState base = current != null ? current : AttemptState.seed(credential, now);
+            AttemptState updated = base.recordFailure(now, windowMillis, lockDurationMillis);
+
+            // 같은 키의 갱신 순서대로 대기열에 반영 (오래된 상태가 최신 상태를 덮어쓰지 않도록)
+            pendingWrites.put(credential.getId(), PendingWrite.of(updated));
+
+            if (updated.lockedUntil > now) {
+                log.warn("로그인 실패 누적 - 계정 잠금: userId={}", credential.getId());
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public void onLoginSuccess(UserCredential credential) {
+        AttemptState removed = attempts.remove(key(credential.getEmail()));
+        boolean needsReset = removed != null
+                || credential.getFailedLoginAttempts() > 0
+                || credential.getAccountLockedUntil() != null;
+
+        // 리셋할 값이 없으면 DB 쓰기 생략
+        if (needsReset) {
+            pendingWrites.put(credential.getId(), PendingWrite.RESET);
+        }
+    }
+
+    /**
+     * DB 의 만료된 잠금 정리
+     * - 메모리 상태(잠금 해제 이후 실패 시각)는 지우지 않고 그 값으로 DB 반영을 예약
+     * - 반영 전까지 매 시도가 여기를 지나도 실패 집계는 계속 누적됨
+     */
+    @Override
+    public void onLockExpired(UserCredential credential) {
+        long now = clock.getAsLong();
+
+        attempts.compute(key(credential.getEmail()), (email, current) -> {
+            AttemptState state = current != null ? current : AttemptState.seed(credential, now);
+            if (state.lockedUntil() > 0 && !state.isLocked(now)) {
+                state = new AttemptState(state.failures(), 0);
+            }
+            pendingWrites.put(credential.getId(), PendingWrite.of(state));
+            return state;
+        });
+    }
+
+    /**
+     * 대기 중인 변경 사항을 일괄 UPDATE
+     * - 실패 시 대기열에 되돌려 다음 주기에 재시도 (이후 변경이 있으면 최신 값 우선)
+     */
+    @Scheduled(fixedDelayString = "${security.login-attempts.flush-interval:5s}")
+    public void flush() {
+        Map<Long, PendingWrite> drained = new HashMap<>();
+        for (Long userId : pendingWrites.keySet()) {
+            PendingWrite write = pendingWrites.remove(userId);
+            if (write != null) {
+                drained.put(userId, write);
+            }
+        }
+
+        if (!drained.isEmpty()) {
+            write(drained);
+        }
+        evictExpired();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int trackedCount() {
+        return attempts.size();
+    }
+
+    int pendingCount() {
+        return pendingWrites.size();
+    }
+
+    private void write(Map<Long, PendingWrite> drained) {
+        List<Object[]> counters = new ArrayList<>(drained.size());
+        drained.forEach((userId, write) ->
+                counters.add(new Object[]{write.failedAttempts(), toTimestamp(write.lockedUntil()), userId}));
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_COUNTERS_SQL, counters);
+            log.debug("로그인 시도 일괄 반영: accounts={}", counters.size());
+        } catch (DataAccessException e) {
+            log.error("로그인 시도 일괄 반영 실패 - 다음 주기에 재시도: accounts={}", drained.size(), e);
+            drained.forEach(pendingWrites::putIfAbsent);
+        }
+    }
+
+    /**
+     * 윈도우가 지나고 잠금도 풀린 항목 제거 (메모리 회수)
+     */
+    private void evictExpired() {
+        long now = clock.getAsLong();
+        for (String email : attempts.keySet()) {
+            attempts.computeIfPresent(email, (k, state) -> state.isExpired(now, windowMillis) ? null : state);
+        }
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static Timestamp toTimestamp(Instant instant) {
+        return instant != null ? Timestamp.from(instant) : null;
+    }
+
+    /**
+     * 이메일별 시도 상태 (불변 - compute 안에서 교체)
+     * @param failures 윈도우 내 실패 시각 (epoch millis, 오름차순)
+     * @param lockedUntil 잠금 해제 시각 (epoch millis, 0이면 잠금 없음)
+     */
+    private record AttemptState(long[] failures, long lockedUntil) {
+
+        /**
+         * DB에 저장된 실패 횟수/잠금 상태로 초기화 (실패 시각은 알 수 없으므로 현재 시각으로 간주)
+         */
+        static AttemptState seed(UserCredential credential, long now) {
+            Instant lockedUntil = credential.getAccountLockedUntil();
+            if (lockedUntil != null && lockedUntil.toEpochMilli() > now) {
+                return new AttemptState(new long[0], lockedUntil.toEpochMilli());
+            }
+            if (lockedUntil != null) {
+                return new AttemptState(new long[0], 0); // 잠금 만료 - 실패 횟수도 초기화된 것으로 간주
+            }
+
+            int seeded = Math.min(credential.getFailedLoginAttempts(), Constants.MAX_LOGIN_ATTEMPTS - 1);
+            long[] failures = new long[seeded];
+            Arrays.fill(failures, now);
+            return new AttemptState(failures, 0);
+        }
+
+        AttemptState recordFailure(long now, long windowMillis, long lockDurationMillis) {
+            if (isLocked(now)) {
+                return this;
+            }
+
+            long windowStart = now - windowMillis;
+            int from = 0;
+            while (from < failures.length && failures[from] <= windowStart) {
+                from++;
+            }
+
+            long[] updated = Arrays.copyOfRange(failures, from, failures.length + 1);
+            updated[updated.length - 1] = now;
+
+            if (updated.length >= Constants.MAX_LOGIN_ATTEMPTS) {
+                return new AttemptState(new long[0], now + lockDurationMillis);
+            }
+            return new AttemptState(updated, 0);
+        }
+
+        boolean isLocked(long now) {
+            return lockedUntil > now;
+        }
+
+        boolean isExpired(long now, long windowMillis) {
+            return !isLocked(now) && (failures.length == 0 || failures[failures.length - 1] <= now - windowMillis);
+        }
+
+        /**
+         * DB에 저장할 실패 횟수 (잠금 상태면 최대 횟수)
+         */
+        int failedAttempts() {
+            return lockedUntil > 0 ? Constants.MAX_LOGIN_ATTEMPTS : failures.length;
+        }
+    }
+
+    /**
+     * DB 반영 대기 중인 카운터/잠금 시간
+     */
+    private record PendingWrite(int failedAttempts, Instant lockedUntil) {
+
+        static final PendingWrite RESET = new PendingWrite(0, null);
+
+        static PendingWrite of(AttemptState state) {
+            Instant lockedUntil = state.lockedUntil() > 0 ? Instant.ofEpochMilli(state.lockedUntil()) : null;
+            return new PendingWrite(state.failedAttempts(), lockedUntil);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.domain.auth.dto.VerificationCheck;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.security.VerificationChallengeProperties;
+import site.janchwi.global.util.HashUtils;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 노드 로컬 메모리 기반 인증 코드 저장소 (security.verification-challenge.store=memory)
+ * - 사용자 ID -> 코드 해시/만료 시각/시도 횟수 (TTL 맵, 만료 후 retention 이 지나면 정리)
+ * - 시도 횟수는 AtomicInteger 로 잠금 없이 증가 (동시 오답도 최대 횟수를 넘지 않음)
+ * - 노드 간 공유되지 않으므로 단일 노드 전용
+ */
+@Component
+@ConditionalOnProperty(prefix = "security.verification-challenge", name = "store", havingValue = "memory")
+public class InMemoryVerificationChallengeStore implements VerificationChallengeStore {
+
+    private final LongSupplier clock;
+    private final long retentionMillis;
+
+    private final ConcurrentHashMap<Long, Challenge> challenges = new ConcurrentHashMap<>();
+
+    @Autowired
+    public InMemoryVerificationChallengeStore(VerificationChallengeProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    InMemoryVerificationChallengeStore(VerificationChallengeProperties properties, MeterRegistry meterRegistry,
+                                       LongSupplier clock) {
+        this.clock = clock;
+        this.retentionMillis = properties.getRetention().toMillis();
+
+        Gauge.builder("auth.verification.challenges", challenges, Map::size)
+                .description("메모리에 보관 중인 이메일 인증 코드 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void issue(Long userId, byte[] codeHash, Instant expiresAt) {
+        challenges.put(userId, new Challenge(codeHash, expiresAt.toEpochMilli(), new AtomicInteger()));
+    }
+
+    @Override
+    public VerificationCheck check(Long userId, String code) {
+        Challenge challenge = challenges.get(userId);
+        if (challenge == null) {
+            return VerificationCheck.of(VerificationCheck.Status.NOT_ISSUED);
+        }
+        if (challenge.attempts().get() >= Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS) {
+            return VerificationCheck.of(VerificationCheck.Status.ATTEMPTS_EXCEEDED);
+        }
+        if (challenge.expiresAtMillis() <= clock.getAsLong()) {
+            return VerificationCheck.of(VerificationCheck.Status.EXPIRED);
+        }
+
+        // 시도 횟수를 먼저 차지한 요청만 판정 (동시 요청이 최대 횟수를 넘겨 대입하지 못하게)
+        int used = challenge.attempts().incrementAndGet();
+        if (used > Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS) {
+            return VerificationCheck.of(VerificationCheck.Status.ATTEMPTS_EXCEEDED);
+        }
+        if (HashUtils.matches(code, challenge.codeHash())) {
+            return VerificationCheck.of(VerificationCheck.Status.VERIFIED);
+        }
+        return VerificationCheck.mismatch(Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - used);
+    }
+
+    @Override
+    public void remove(Long userId) {
+        challenges.remove(userId);
+    }
+
+    /**
+     * 만료 후 retention 이 지난 코드 정리 (메모리 회수)
+     */
+    @Scheduled(fixedDelayString = "${security.verification-challenge.cleanup-interval:5m}")
+    public void evictExpired() {
+        long threshold = clock.getAsLong() - retentionMillis;
+        challenges.values().removeIf(challenge -> challenge.expiresAtMillis() <= threshold);
+    }
+
+    int size() {
+        return challenges.size();
+    }
+
+    /**
+     * 발급된 코드 (교체 시 새 인스턴스로 바뀌므로 이전 코드의 시도 횟수가 섞이지 않음)
+     */
+    private record Challenge(byte[] codeHash, long expiresAtMillis, AtomicInteger attempts) {
+    }
+}
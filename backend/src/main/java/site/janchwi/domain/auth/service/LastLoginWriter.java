@@ -0,0 +1,141 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.security.LoginAttemptProperties;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 마지막 로그인 시간 일괄 반영 (write-behind)
+ * - 로그인마다 users 행을 UPDATE 하지 않고 메모리에 모아 둠 (사용자별 최신 값만 유지)
+ * - 주기(last-login.flush-interval) 또는 버퍼 크기(last-login.batch-size) 도달 시
+ *   UPDATE ... FROM (VALUES ...) 한 문장으로 여러 행 반영
+ * - 종료 시 남은 값 반영
+ */
+@Slf4j
+@Component
+public class LastLoginWriter {
+
+    // 한 문장에 담을 최대 행 수 (바인드 파라미터 2개/행, PostgreSQL 최대 32767개)
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, Instant> buffer = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Counter flushedRows;
+
+    public LastLoginWriter(JdbcTemplate jdbcTemplate, TaskScheduler taskScheduler,
+                           LoginAttemptProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.taskScheduler = taskScheduler;
+        this.batchSize = properties.getLastLogin().getBatchSize();
+
+        Gauge.builder("auth.last.login.buffered", buffer, Map::size)
+                .description("DB 반영 대기 중인 마지막 로그인 시간 수")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("auth.last.login.flushed")
+                .description("일괄 반영된 마지막 로그인 시간 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 마지막 로그인 시간 기록 (같은 사용자는 더 늦은 시각만 유지)
+     */
+    public void record(Long userId, Instant lastLoginAt) {
+        buffer.merge(userId, lastLoginAt, (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+
+        if (buffer.size() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::flush, Instant.now());
+        }
+    }
+
+    /**
+     * 버퍼를 비우고 일괄 UPDATE
+     * - 실패한 값은 버퍼로 되돌려 다음 주기에 재시도 (그 사이 더 늦은 로그인이 있으면 그 값 유지)
+     */
+    @Scheduled(fixedDelayString = "${security.login-attempts.last-login.flush-interval:10s}")
+    public synchronized void flush() {
+        flushRequested.set(false);
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<Long, Instant>> drained = new ArrayList<>(buffer.size());
+        for (Long userId : buffer.keySet()) {
+            Instant lastLoginAt = buffer.remove(userId);
+            if (lastLoginAt != null) {
+                drained.add(Map.entry(userId, lastLoginAt));
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<Long, Instant>> chunk =
+                    drained.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, drained.size()));
+            try {
+                jdbcTemplate.update(updateSql(chunk.size()), bindArgs(chunk));
+                flushedRows.increment(chunk.size());
+            } catch (DataAccessException e) {
+                log.error("마지막 로그인 시간 일괄 반영 실패 - 다음 주기에 재시도: rows={}", chunk.size(), e);
+                chunk.forEach(entry -> buffer.merge(entry.getKey(), entry.getValue(),
+                        (current, failed) -> current.isAfter(failed) ? current : failed));
+            }
+        }
+        log.debug("마지막 로그인 시간 일괄 반영: rows={}", drained.size());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    int bufferedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * UPDATE users u SET last_login_at = v.last_login_at
+     * FROM (VALUES (?, ?), ...) AS v(id, last_login_at) WHERE u.id = v.id
+     * - 이미 더 늦은 값이 저장되어 있으면 덮어쓰지 않음 (다른 노드의 반영과 경합 시)
+     */
+    private static String updateSql(int rows) {
+        StringBuilder sql = new StringBuilder(160 + rows * 40)
+                .append("UPDATE users AS u SET last_login_at = v.last_login_at FROM (VALUES ");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(CAST(? AS bigint), CAST(? AS timestamptz))");
+        }
+        return sql.append(") AS v(id, last_login_at)")
+                .append(" WHERE u.id = v.id AND (u.last_login_at IS NULL OR u.last_login_at < v.last_login_at)")
+                .toString();
+    }
+
+    private static Object[] bindArgs(List<Map.Entry<Long, Instant>> chunk) {
+        Object[] args = new Object[chunk.size() * 2];
+        int i = 0;
+        for (Map.Entry<Long, Instant> entry : chunk) {
+            args[i++] = entry.getKey();
+            args[i++] = Timestamp.from(entry.getValue());
+        }
+        return args;
+    }
+}
@@ -2,32 +2,65 @@ package site.janchwi.domain.auth.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import site.janchwi.domain.users.dto.UserCredential;
 import site.janchwi.domain.users.repository.UserRepository;
 import site.janchwi.global.common.Constants;
 
 import java.time.Instant;
 
 /**
- * 로그인 시도 카운팅 전용 서비스
- * REQUIRES_NEW 트랜잭션으로 부모 트랜잭션 롤백과 무관하게 실패 횟수 저장
+ * 로그인 시도 카운팅 전용 서비스 (DB 기반, security.login-attempts.mode=database)
+ * - 매 시도마다 users 행을 원자적으로 갱신 - 여러 노드 간 강한 일관성
+ * - 호출자 트랜잭션에 참여 (REQUIRED) - 로그인 1건당 커넥션 1개만 사용
+ * - 로그인은 트랜잭션 없이 호출하므로 실패 횟수는 자체 트랜잭션으로 즉시 커밋됨
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class LoginAttemptService {
+@ConditionalOnProperty(prefix = "security.login-attempts", name = "mode", havingValue = "database", matchIfMissing = true)
+public class LoginAttemptService implements LoginAttemptTracker {
 
     private final UserRepository userRepository;
 
+    /**
+     * 잠금 여부는 조회한 인증 정보(accountLockedUntil)로 판단
+     */
+    @Override
+    public boolean isLocked(String email) {
+        return false;
+    }
+
+    @Override
+    @Transactional
+    public void onLoginFailure(UserCredential credential) {
+        onLoginFailure(credential.getId());
+    }
+
+    @Override
+    @Transactional
+    public void onLoginSuccess(UserCredential credential) {
+        onLoginSuccess(credential.getId());
+    }
+
+    /**
+     * 리셋을 바로 커밋하므로 이후 실패는 0부터 다시 집계
+     */
+    @Override
+    @Transactional
+    public void onLockExpired(UserCredential credential) {
+        onLoginSuccess(credential.getId());
+    }
+
     /**
      * 로그인 실패 시 호출
      * - 실패 횟수 +1 (원자적 업데이트)
      * - 최대 횟수 도달 시 자동 계정 잠금
-     * - 별도 트랜잭션으로 반드시 커밋됨
+     * - 로그인 예외 발생 전에 커밋되어 롤백되지 않음
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void onLoginFailure(Long userId) {
         Instant lockUntil = Instant.now().plusSeconds(Constants.ACCOUNT_LOCK_DURATION_MINUTES * 60L);
 
@@ -48,18 +81,14 @@ public class LoginAttemptService {
      * 로그인 성공 시 호출
      * - 실패 횟수 리셋
      * - 계정 잠금 해제
-     * - 마지막 로그인 시간 업데이트
+     * - 리셋할 값이 없으면 UPDATE 되는 행 없음
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Transactional
     public void onLoginSuccess(Long userId) {
-        Instant now = Instant.now();
-
-        int updated = userRepository.resetFailedLoginAttempts(userId, now);
+        int updated = userRepository.resetFailedLoginAttempts(userId);
 
         if (updated > 0) {
             log.debug("로그인 성공 - 실패 횟수 리셋: userId={}", userId);
-        } else {
-            log.warn("로그인 성공 카운트 리셋 실패: userId={} (사용자 없음)", userId);
         }
     }
 }
@@ -0,0 +1,31 @@
+package site.janchwi.domain.auth.service;
+
+import site.janchwi.domain.users.dto.UserCredential;
+
+/**
+ * 로그인 시도 추적
+ * - security.login-attempts.mode 로 구현 선택 (database | memory)
+ */
+public interface LoginAttemptTracker {
+
+    /**
+     * DB 조회 전 계정 잠금 여부 확인 (추적 정보가 없으면 false)
+     */
+    boolean isLocked(String email);
+
+    /**
+     * 로그인 실패 시 호출 - 최대 횟수 도달 시 계정 잠금
+     */
+    void onLoginFailure(UserCredential credential);
+
+    /**
+     * 로그인 성공 시 호출 - 실패 횟수 리셋 및 계정 잠금 해제
+     */
+    void onLoginSuccess(UserCredential credential);
+
+    /**
+     * DB 에 저장된 잠금이 만료된 계정의 로그인 시도 시 호출 (비밀번호 확인 전)
+     * - 저장된 잠금 시간/실패 횟수만 정리하고, 잠금 해제 이후의 실패 집계는 유지
+     */
+    void onLockExpired(UserCredential credential);
+}
@@ -0,0 +1,29 @@
+package site.janchwi.domain.auth.service;
+
+import site.janchwi.domain.auth.dto.VerificationCheck;
+
+import java.time.Instant;
+
+/**
+ * 이메일 인증 코드 저장소 (users 행과 분리)
+ * - security.verification-challenge.store 로 구현 선택 (database | memory)
+ * - 코드는 SHA-256 해시로만 보관, 사용자당 최신 코드 1개
+ */
+public interface VerificationChallengeStore {
+
+    /**
+     * 새 코드 발급 (기존 코드는 교체, 시도 횟수 초기화)
+     */
+    void issue(Long userId, byte[] codeHash, Instant expiresAt);
+
+    /**
+     * 코드 확인 - 시도 횟수 증가와 판정을 원자적으로 처리
+     * - 시도 횟수 초과 > 만료 > 일치 여부 순으로 판정
+     */
+    VerificationCheck check(Long userId, String code);
+
+    /**
+     * 인증 완료 후 코드 삭제
+     */
+    void remove(Long userId);
+}
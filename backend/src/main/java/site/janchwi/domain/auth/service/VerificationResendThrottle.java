@@ -0,0 +1,218 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.exception.RateLimitExceededException;
+import site.janchwi.global.security.VerificationResendProperties;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 이메일 인증 코드 재발송 제한 (노드 로컬 메모리)
+ * - 정규화한 이메일(trim + 소문자) 단위로 발송 시각을 기록
+ * - coalesce-window 안의 재요청은 직전 발송에 합쳐 성공으로 응답 (재시도/연타가 메일을 여러 통 만들지 않음)
+ * - cooldown 안의 재요청, window 내 발송 횟수 초과는 Retry-After 와 함께 429
+ * - DB 조회 전에 판단하고, 가입 여부와 무관하게 같은 규칙을 적용 (이메일 존재 여부를 노출하지 않음)
+ * - 추적 이메일 수가 max-keys 에 닿으면 윈도우가 지난 항목을 정리하고, 그래도 많으면 마지막 발송이 오래된 순으로 제거
+ *   (새 이메일은 거절하지 않음 - 임의 이메일로 맵을 채워 다른 사용자의 발송을 막을 수 없도록)
+ */
+@Component
+public class VerificationResendThrottle {
+
+    // 가득 찼을 때 한 번에 비우는 비율 (전체 순회 비용을 이후 삽입들에 분산)
+    private static final double EVICT_HEADROOM = 0.1;
+
+    public enum Decision {
+        SEND,     // 새 코드 발급 및 발송
+        COALESCED // 직전 발송에 합침 (발송 없음)
+    }
+
+    private final LongSupplier clock;
+    private final long coalesceMillis;
+    private final long cooldownMillis;
+    private final long windowMillis;
+    private final int maxSendsPerWindow;
+    private final int maxKeys;
+
+    // 이메일(정규화) -> 윈도우 내 발송 시각 (키 단위 원자적 갱신)
+    private final ConcurrentHashMap<String, long[]> sends = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+    private final LongAdder evictions = new LongAdder();
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public VerificationResendThrottle(VerificationResendProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    VerificationResendThrottle(VerificationResendProperties properties, MeterRegistry meterRegistry,
+                               LongSupplier clock) {
+        this.clock = clock;
+        this.coalesceMillis = properties.getCoalesceWindow().toMillis();
+        this.cooldownMillis = properties.getCooldown().toMillis();
+        this.windowMillis = properties.getWindow().toMillis();
+        this.maxSendsPerWindow = properties.getMaxSendsPerWindow();
+        this.maxKeys = properties.getMaxKeys();
+
+        Gauge.builder("auth.verification.resend.tracked", sends, Map::size)
+                .description("재발송 제한을 위해 추적 중인 이메일 수")
+                .register(meterRegistry);
+        this.sentCounter = resendCounter(meterRegistry, "sent");
+        this.coalescedCounter = resendCounter(meterRegistry, "coalesced");
+        this.rejectedCounter = resendCounter(meterRegistry, "rejected");
+        FunctionCounter.builder("auth.verification.resend.evicted", evictions, LongAdder::sum)
+                .description("추적 이메일 수 상한으로 윈도우가 끝나기 전에 제거한 항목 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 가능 여부 판단 및 발송 시각 기록
+     * @return SEND 면 발송 진행, COALESCED 면 발송 없이 성공 응답
+     * @throws RateLimitExceededException cooldown 중이거나 윈도우 내 발송 횟수 초과
+     */
+    public Decision acquire(String email) {
+        long now = clock.getAsLong();
+        String key = key(email);
+        if (sends.size() >= maxKeys && !sends.containsKey(key)) {
+            makeRoom(now);
+        }
+
+        long[] retryAfterMillis = {0};
+        Decision[] decision = {Decision.SEND};
+
+        sends.compute(key, (k, sentAt) -> {
+            long[] recent = withinWindow(sentAt, now);
+            if (recent.length > 0) {
+                long elapsed = now - recent[recent.length - 1];
+                if (elapsed < coalesceMillis) {
+                    decision[0] = Decision.COALESCED;
+                    return recent;
+                }
+                if (elapsed < cooldownMillis) {
+                    retryAfterMillis[0] = cooldownMillis - elapsed;
+                    return recent;
+                }
+                if (recent.length >= maxSendsPerWindow) {
+                    retryAfterMillis[0] = Math.max(1, recent[0] + windowMillis - now);
+                    return recent;
+                }
+            }
+            long[] updated = Arrays.copyOf(recent, recent.length + 1);
+            updated[recent.length] = now;
+            return updated;
+        });
+
+        if (retryAfterMillis[0] > 0) {
+            rejectedCounter.increment();
+            long retryAfterSeconds = Math.max(1, (retryAfterMillis[0] + 999) / 1000);
+            throw new RateLimitExceededException(
+                    "인증 코드는 " + retryAfterSeconds + "초 후에 다시 요청할 수 있습니다.", retryAfterSeconds);
+        }
+        (decision[0] == Decision.SEND ? sentCounter : coalescedCounter).increment();
+        return decision[0];
+    }
+
+    /**
+     * 발송 처리 실패 시 마지막 발송 기록 취소 (사용자가 cooldown 없이 다시 요청할 수 있도록)
+     */
+    public void cancel(String email) {
+        sends.computeIfPresent(key(email), (k, sentAt) ->
+                sentAt.length <= 1 ? null : Arrays.copyOf(sentAt, sentAt.length - 1));
+    }
+
+    /**
+     * 윈도우가 지난 항목 제거 (메모리 회수)
+     */
+    @Scheduled(fixedDelayString = "${security.verification-resend.evict-interval:1m}")
+    public void evictExpired() {
+        evictExpired(clock.getAsLong());
+    }
+
+    int trackedCount() {
+        return sends.size();
+    }
+
+    /**
+     * 상한의 90% 까지 비움 - 윈도우가 지난 항목 먼저, 부족하면 마지막 발송이 오래된 순
+     * - 한 스레드만 수행 (나머지는 기다리지 않고 진행, 잠시 상한을 넘을 수 있음)
+     */
+    private void makeRoom(long now) {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            evictExpired(now);
+            int target = (int) (maxKeys * (1 - EVICT_HEADROOM));
+            int excess = sends.size() - target;
+            if (excess <= 0) {
+                return;
+            }
+
+            // excess 번째로 오래된 마지막 발송 시각 이하를 제거
+            long[] lastSent = sends.values().stream().mapToLong(sentAt -> sentAt[sentAt.length - 1]).sorted().toArray();
+            long cutoff = lastSent[Math.min(excess, lastSent.length) - 1];
+            for (String email : sends.keySet()) {
+                if (sends.size() <= target) {
+                    break;
+                }
+                sends.computeIfPresent(email, (k, sentAt) -> {
+                    if (sentAt[sentAt.length - 1] > cutoff) {
+                        return sentAt;
+                    }
+                    evictions.increment();
+                    return null;
+                });
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private void evictExpired(long now) {
+        for (String email : sends.keySet()) {
+            sends.computeIfPresent(email, (k, sentAt) -> {
+                long[] recent = withinWindow(sentAt, now);
+                return recent.length == 0 ? null : recent;
+            });
+        }
+    }
+
+    /**
+     * 윈도우(및 cooldown) 안의 발송 시각만 남김
+     */
+    private long[] withinWindow(long[] sentAt, long now) {
+        if (sentAt == null) {
+            return new long[0];
+        }
+        long retainFrom = now - Math.max(windowMillis, cooldownMillis);
+        int from = 0;
+        while (from < sentAt.length && sentAt[from] <= retainFrom) {
+            from++;
+        }
+        return from == 0 ? sentAt : Arrays.copyOfRange(sentAt, from, sentAt.length);
+    }
+
+    private static Counter resendCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("auth.verification.resend")
+                .description("인증 코드 발송 요청 처리 결과")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String key(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
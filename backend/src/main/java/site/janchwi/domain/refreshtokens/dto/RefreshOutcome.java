@@ -0,0 +1,25 @@
+package site.janchwi.domain.refreshtokens.dto;
+
+/**
+ * Refresh Token 재발급 쿼리 결과 (엔티티 로딩 없는 네이티브 프로젝션)
+ */
+public interface RefreshOutcome {
+
+    Long getUserId();
+
+    String getSessionId();
+
+    String getStatus();
+
+    default Status status() {
+        return Status.valueOf(getStatus());
+    }
+
+    enum Status {
+        ROTATED,     // 새 토큰으로 교체됨
+        EXPIRED,     // 만료 - 세션 삭제됨
+        INACTIVE,    // 비활성화 계정 - 세션 삭제됨
+        UNVERIFIED,  // 이메일 미인증 - 세션 삭제됨
+        REUSED       // 이미 교체된 토큰 재사용 - 계열 폐기됨
+    }
+}
@@ -4,9 +4,17 @@ import jakarta.persistence.*;
 import lombok.*;
 import site.janchwi.domain.users.entity.User;
 import site.janchwi.global.common.BaseEntity;
+import site.janchwi.global.util.HashUtils;
 
 import java.time.Instant;
-
+import java.util.UUID;
+
+/**
+ * 기기(세션)별 Refresh Token
+ * - 사용자당 세션마다 한 행 (같은 세션 재로그인 시 기존 행 교체)
+ * - expires_at 기준 일 단위 범위 파티션 (RefreshTokenPartitionManager)
+ * - 쓰기는 RefreshTokenRepository 의 네이티브 쿼리(세션 교체/rotation)로만 수행
+ */
 @Entity
 @Table(name = "refresh_tokens")
 @Getter
@@ -23,14 +31,18 @@ public class RefreshToken extends BaseEntity {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(nullable = false, unique = true, length = 255)
-    private String tokenHash; // SHA-256 해시값
+    @Column(nullable = false, length = 64)
+    private String sessionId; // 기기 ID (X-Device-Id) 또는 서버 발급 UUID
 
     @Column(nullable = false)
-    private Instant expiresAt;
+    private UUID familyId; // 로그인 시 발급, 재발급 동안 유지
+
+    @Column(nullable = false, length = HashUtils.SHA_256_LENGTH)
+    private byte[] tokenHash; // SHA-256 해시 (32바이트 bytea)
 
-    public void updateTokenHash(String tokenHash, Instant expiresAt) {
-        this.tokenHash = tokenHash;
-        this.expiresAt = expiresAt;
-    }
+    @Column(length = HashUtils.SHA_256_LENGTH)
+    private byte[] previousTokenHash; // 직전에 교체된 토큰 해시 (재사용 감지)
+
+    @Column(nullable = false)
+    private Instant expiresAt; // 파티션 키 - 로그인 시 정해지고 재발급으로 바뀌지 않음
 }
@@ -1,17 +1,128 @@
 package site.janchwi.domain.refreshtokens.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import site.janchwi.domain.refreshtokens.dto.RefreshOutcome;
 import site.janchwi.domain.refreshtokens.entity.RefreshToken;
 import site.janchwi.domain.users.entity.User;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
-    Optional<RefreshToken> findByUser(User user);
-    Optional<RefreshToken> findByTokenHash(String tokenHash);
     void deleteByUser(User user);
-    long deleteByExpiresAtBefore(Instant expiryDate);
+
+    /**
+     * 로그인 세션 저장
+     * - 같은 (사용자, 세션)의 기존 행을 삭제하고 새 토큰/계열로 삽입
+     * - 파티션 테이블은 파티션 키(expires_at)가 없는 유일 제약을 둘 수 없어 ON CONFLICT 대신 삭제 후 삽입
+     * - READ COMMITTED 에서는 같은 세션의 동시 삭제 후 삽입이 서로의 새 행을 보지 못해 둘 다 삽입되므로
+     *   먼저 세션 단위 advisory lock 을 잡아 직렬화 (트랜잭션 종료 시 해제)
+     * - 잠금을 기다린 쪽은 다음 문장에서 새 스냅샷을 사용하므로 앞서 커밋된 행까지 삭제
+     * @return 삽입된 행 수 (항상 1)
+     */
+    @Transactional
+    default int replaceSession(Long userId, String sessionId, UUID familyId, byte[] tokenHash, Instant expiresAt) {
+        lockSession(userId, sessionId);
+        return deleteAndInsertSession(userId, sessionId, familyId, tokenHash, expiresAt);
+    }
+
+    /**
+     * (사용자, 세션) 단위 트랜잭션 advisory lock (해시 충돌 시 다른 세션과 함께 직렬화될 뿐 정확성에는 영향 없음)
+     */
+    @Query(value = """
+        SELECT 1 FROM pg_advisory_xact_lock(hashtextextended(CAST(:userId AS text) || ':' || :sessionId, 0))
+    """, nativeQuery = true)
+    int lockSession(@Param("userId") Long userId, @Param("sessionId") String sessionId);
+
+    /**
+     * 같은 세션 행 삭제 후 삽입 (한 문장) - replaceSession 의 세션 잠금 안에서만 호출
+     */
+    @Modifying
+    @Query(value = """
+        WITH replaced AS (
+            DELETE FROM refresh_tokens
+            WHERE user_id = :userId AND session_id = :sessionId
+        )
+        INSERT INTO refresh_tokens (user_id, session_id, family_id, token_hash, previous_token_hash,
+                                    expires_at, created_at, updated_at)
+        VALUES (:userId, :sessionId, :familyId, :tokenHash, NULL, :expiresAt, now(), now())
+    """, nativeQuery = true)
+    int deleteAndInsertSession(@Param("userId") Long userId,
+                               @Param("sessionId") String sessionId,
+                               @Param("familyId") UUID familyId,
+                               @Param("tokenHash") byte[] tokenHash,
+                               @Param("expiresAt") Instant expiresAt);
+
+    /**
+     * Refresh Token 재발급 (한 문장, 엔티티 로딩 없음)
+     * - 토큰과 사용자 상태(활성/이메일 인증)를 함께 조회하여 행 잠금
+     * - 유효하면 새 토큰으로 교체 (기존 해시는 previous_token_hash 로 보관)
+     * - 만료 시각은 로그인 시점 기준으로 고정 (파티션 키이므로 행이 파티션 간 이동하지 않음)
+     * - 만료/비활성/미인증이면 해당 세션 삭제
+     * - 토큰이 없는데 서명된 계열(familyId)이 아직 살아 있으면 교체된 지 몇 세대가 지났든 재사용이므로 계열 전체 폐기 (탈취 의심)
+     *   (계열의 현재 토큰만 저장되므로, 서명이 유효한데 해시가 없는 같은 계열 토큰은 모두 이전 세대)
+     * - 계열 클레임이 없는 이전 형식 토큰은 직전 세대(previous_token_hash)만 확인
+     * @return 처리 결과 (알 수 없는 토큰이면 empty)
+     */
+    @Query(value = """
+        WITH target AS (
+            SELECT rt.id, rt.user_id, rt.session_id,
+                   CASE
+                       WHEN rt.expires_at <= now() THEN 'EXPIRED'
+                       WHEN NOT u.is_active THEN 'INACTIVE'
+                       WHEN NOT u.is_email_verified THEN 'UNVERIFIED'
+                       ELSE 'ROTATED'
+                   END AS status
+            FROM refresh_tokens rt
+            JOIN users u ON u.id = rt.user_id
+            WHERE rt.token_hash = :tokenHash
+            FOR UPDATE OF rt
+        ),
+        rotated AS (
+            UPDATE refresh_tokens rt
+            SET previous_token_hash = rt.token_hash,
+                token_hash = :newTokenHash,
+                updated_at = now()
+            FROM target t
+            WHERE rt.id = t.id AND t.status = 'ROTATED'
+        ),
+        purged AS (
+            DELETE FROM refresh_tokens rt
+            USING target t
+            WHERE rt.id = t.id AND t.status <> 'ROTATED'
+        ),
+        reused AS (
+            DELETE FROM refresh_tokens
+            WHERE user_id = :userId
+              AND (family_id = CAST(:familyId AS uuid)
+                   OR family_id IN (SELECT family_id FROM refresh_tokens WHERE previous_token_hash = :tokenHash))
+              AND NOT EXISTS (SELECT 1 FROM target)
+            RETURNING user_id
+        )
+        SELECT t.user_id AS "userId", t.session_id AS "sessionId", t.status AS "status"
+        FROM target t
+        UNION ALL
+        SELECT min(r.user_id), NULL, 'REUSED'
+        FROM reused r
+        HAVING count(*) > 0
+    """, nativeQuery = true)
+    Optional<RefreshOutcome> refresh(@Param("tokenHash") byte[] tokenHash,
+                                     @Param("newTokenHash") byte[] newTokenHash,
+                                     @Param("userId") Long userId,
+                                     @Param("familyId") UUID familyId);
+
+    /**
+     * 단일 세션 로그아웃 (다른 기기의 세션은 유지)
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE user_id = :userId AND token_hash = :tokenHash", nativeQuery = true)
+    int deleteSession(@Param("userId") Long userId, @Param("tokenHash") byte[] tokenHash);
 }
@@ -0,0 +1,33 @@
+package site.janchwi.domain.users.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 로그인 검증용 사용자 인증 정보 (읽기 전용 프로젝션)
+ * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않고 dirty checking 대상도 아님
+ * - 프로필 정보(bio, profileImageUrl 등)는 조회하지 않음
+ */
+@Getter
+@AllArgsConstructor
+public class UserCredential {
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final boolean isActive;
+    private final boolean isEmailVerified;
+    private final Instant accountLockedUntil;
+    private final Integer failedLoginAttempts;
+
+    /**
+     * 계정 잠금 여부 확인
+     */
+    public boolean isAccountLocked() {
+        if (accountLockedUntil == null) {
+            return false;
+        }
+        return Instant.now().isBefore(accountLockedUntil);
+    }
+}
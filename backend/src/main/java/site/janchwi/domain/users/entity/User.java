@@ -46,16 +46,6 @@ public class User extends BaseEntity {
     @Builder.Default
     private boolean isEmailVerified = false;
 
-    @Column(length = 255)
-    private String emailVerificationCodeHash; // 6자리 인증 코드의 SHA-256 해시
-
-    @Column
-    private Instant emailVerificationExpiry;
-
-    @Column(nullable = false)
-    @Builder.Default
-    private Integer verificationAttempts = 0; // 인증 시도 횟수 (브루트포스 방지)
-
     // 계정 상태 관련
     @Column(nullable = false)
     @Builder.Default
@@ -72,36 +62,10 @@ public class User extends BaseEntity {
     private Instant accountLockedUntil; // 계정 잠금 해제 시간
 
     /**
-     * 이메일 인증 완료 처리
+     * 이메일 인증 완료 처리 (인증 코드는 VerificationChallengeStore 에서 관리)
      */
     public void verifyEmail() {
         this.isEmailVerified = true;
-        this.emailVerificationCodeHash = null;
-        this.emailVerificationExpiry = null;
-        this.verificationAttempts = 0;
-    }
-
-    /**
-     * 이메일 인증 코드 설정 (해시로 저장)
-     */
-    public void setEmailVerificationCode(String codeHash, Instant expiry) {
-        this.emailVerificationCodeHash = codeHash;
-        this.emailVerificationExpiry = expiry;
-        this.verificationAttempts = 0; // 새 코드 발급 시 시도 횟수 초기화
-    }
-
-    /**
-     * 인증 시도 횟수 증가
-     */
-    public void incrementVerificationAttempts() {
-        this.verificationAttempts++;
-    }
-
-    /**
-     * 인증 시도 횟수 초과 확인 (최대 5회)
-     */
-    public boolean isVerificationAttemptsExceeded() {
-        return this.verificationAttempts >= 5;
     }
 
     /**
@@ -136,14 +100,4 @@ public class User extends BaseEntity {
         }
         return Instant.now().isBefore(accountLockedUntil);
     }
-
-    /**
-     * 이메일 인증 만료 확인 (Null 체크 포함)
-     */
-    public boolean isEmailVerificationExpired() {
-        if (emailVerificationExpiry == null) {
-            return true;
-        }
-        return emailVerificationExpiry.isBefore(Instant.now());
-    }
 }
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import site.janchwi.domain.users.dto.UserCredential;
 import site.janchwi.domain.users.entity.User;
 
 import java.time.Instant;
@@ -12,8 +13,32 @@ import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-    boolean existsByEmail(String email);
+    /**
+     * 이메일로 사용자 조회 (대소문자 무시 - ux_users_email_lower 인덱스 사용)
+     */
+    @Query("SELECT u FROM User u WHERE lower(u.email) = lower(:email)")
+    Optional<User> findByEmail(@Param("email") String email);
+
+    /**
+     * 로그인 검증용 인증 정보만 조회 (엔티티 로딩 없음, 대소문자 무시)
+     * @param email 이메일
+     * @return 인증 정보 프로젝션
+     */
+    @Query("""
+        SELECT new site.janchwi.domain.users.dto.UserCredential(
+            u.id, u.email, u.password, u.isActive, u.isEmailVerified, u.accountLockedUntil, u.failedLoginAttempts
+        )
+        FROM User u
+        WHERE lower(u.email) = lower(:email)
+    """)
+    Optional<UserCredential> findCredentialByEmail(@Param("email") String email);
+
+    /**
+     * 이메일 사용 여부 (대소문자 무시 - ux_users_email_lower 인덱스 사용)
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM users WHERE lower(email) = lower(:email))", nativeQuery = true)
+    boolean existsByEmail(@Param("email") String email);
+
     boolean existsByNickname(String nickname);
 
     /**
@@ -41,20 +66,38 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /**
      * 로그인 성공 시 실패 횟수 리셋 및 계정 잠금 해제 (원자적 업데이트)
+     * - 리셋할 값이 없으면 행을 갱신하지 않음 (불필요한 튜플 버전 생성 방지)
+     * - 마지막 로그인 시간은 LastLoginWriter가 일괄 반영
      * @param userId 사용자 ID
-     * @param lastLoginAt 마지막 로그인 시간
-     * @return 업데이트된 행 수
+     * @return 업데이트된 행 수 (리셋할 값이 없었으면 0)
      */
     @Modifying
     @Query("""
         UPDATE User u
         SET u.failedLoginAttempts = 0,
-            u.accountLockedUntil = NULL,
-            u.lastLoginAt = :lastLoginAt
+            u.accountLockedUntil = NULL
         WHERE u.id = :userId
+          AND (u.failedLoginAttempts <> 0 OR u.accountLockedUntil IS NOT NULL)
+    """)
+    int resetFailedLoginAttempts(@Param("userId") Long userId);
+
+    /**
+     * 비밀번호 해시 교체 (로그인 시 재해시용)
+     * - 조회 이후 비밀번호가 변경되었다면 덮어쓰지 않도록 기존 해시 일치 조건 포함
+     * @param userId 사용자 ID
+     * @param currentPassword 조회 시점의 비밀번호 해시
+     * @param newPassword 새 비밀번호 해시
+     * @return 업데이트된 행 수
+     */
+    @Modifying
+    @Query("""
+        UPDATE User u
+        SET u.password = :newPassword
+        WHERE u.id = :userId AND u.password = :currentPassword
     """)
-    int resetFailedLoginAttempts(
+    int updatePassword(
         @Param("userId") Long userId,
-        @Param("lastLoginAt") Instant lastLoginAt
+        @Param("currentPassword") String currentPassword,
+        @Param("newPassword") String newPassword
     );
 }
@@ -17,6 +17,10 @@ public final class Constants {
     public static final int REFRESH_TOKEN_EXPIRY_DAYS = 7;
     public static final int REFRESH_TOKEN_COOKIE_MAX_AGE_SECONDS = 7 * 24 * 60 * 60; // 7일
 
+    // 세션(기기) 관련
+    public static final String DEVICE_ID_HEADER = "X-Device-Id";
+    public static final int SESSION_ID_MAX_LENGTH = 64;
+
     // 비밀번호 관련
     public static final int PASSWORD_MIN_LENGTH = 8;
     public static final int PASSWORD_MAX_LENGTH = 20;
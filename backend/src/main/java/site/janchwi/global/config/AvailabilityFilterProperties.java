@@ -0,0 +1,19 @@
+package site.janchwi.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "availability-filter")
+public class AvailabilityFilterProperties {
+    private boolean enabled = true;
+    private double falsePositiveRate = 0.01; // 목표 오탐률 (오탐인 경우만 DB 조회)
+    private long minCapacity = 100_000;      // 최소 예상 원소 수
+    private double growthFactor = 2.0;       // 재구성 시 현재 사용자 수 대비 여유 배수 (다음 재구성까지의 가입 수용)
+    private int fetchSize = 1000;            // users 스트리밍 조회 시 한 번에 가져올 행 수
+    // rebuild-interval(재구성 주기), sync-interval(다른 노드 가입 따라잡기 주기)은 @Scheduled 에서 직접 참조
+}
@@ -20,21 +20,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerificationCache jwtVerificationCache;
+    private final PublicRouteRegistry publicRouteRegistry;
 
-    private static final List<String> WHITELIST = List.of(
-            "/v1/auth/login",
-            "/v1/auth/signup",
-            "/v1/auth/check-email",
-            "/v1/auth/send-verification",
-            "/v1/auth/verify-email",
-            "/v1/auth/refresh",
-            "/actuator/health",
-            "/actuator/info",
-            "/swagger-ui",
-            "/v3/api-docs",
-            "/swagger-resources"
-    );
+    /**
+     * 공개 경로는 토큰 검증 생략
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return publicRouteRegistry.isPublic(request);
+    }
 
     @Override
     protected void doFilterInternal(
@@ -44,12 +39,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         String path = request.getRequestURI();
 
-        // WHITELIST에 포함된 경로는 토큰 검증 생략
-        if (WHITELIST.stream().anyMatch(path::startsWith)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         // Authorization 헤더에서 토큰 추출
         String authHeader = request.getHeader("Authorization");
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
@@ -59,21 +48,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String token = authHeader.substring(7); // "Bearer " 제거
 
-        // 토큰 검증
-        if (!jwtTokenProvider.validate(token)) {
-            log.warn("JWT 토큰 검증 실패: path={}", path);
+        // 토큰 검증 및 userId 추출 (캐시 적중 시 서명 검증 생략)
+        JwtVerificationResult result = jwtVerificationCache.verify(token);
+        if (!result.isValid()) {
+            log.warn("JWT 토큰 검증 실패: path={}, reason={}", path, result.getFailure());
             filterChain.doFilter(request, response);
             return;
         }
 
-        // 토큰에서 userId 추출 및 SecurityContext에 저장
-        Long userId = jwtTokenProvider.getUserId(token);
+        // SecurityContext에 저장
+        Long userId = result.getUserId();
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(
                         String.valueOf(userId),
                         null,
                         List.of(new SimpleGrantedAuthority("USER"))
                 );
+        // 검증 결과(jti 포함)는 세션 로그아웃 시 현재 Access Token 폐기에 사용
+        authentication.setDetails(result);
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
         log.debug("JWT 인증 성공: userId={}, path={}", userId, path);
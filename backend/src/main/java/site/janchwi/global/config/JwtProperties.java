@@ -13,4 +13,16 @@ public class JwtProperties {
     private String secret;
     private Long accessTokenExpiry;  // 1일 (밀리초)
     private Long refreshTokenExpiry; // 7일 (밀리초)
+    private Cache cache = new Cache();
+
+    /**
+     * 검증된 Access Token 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = false;
+        private int maxSize = 10000; // 최대 캐시 항목 수 (전체 stripe 합계)
+        private int stripes = 16;    // 잠금 분할 수 (2의 거듭제곱으로 올림)
+    }
 }
@@ -1,83 +1,141 @@
 package site.janchwi.global.config;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.RequiredTypeException;
+import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SecurityException;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // Refresh Token 계열(family) 클레임 - 교체된 지 여러 세대가 지난 토큰도 계열로 재사용 감지
+    static final String FAMILY_CLAIM = "fam";
+    // 밀리초 단위 발급 시각 - iat 는 초 단위라 로그아웃 직후 같은 초의 재로그인 토큰을 구분할 수 없음
+    static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
+
     private final JwtProperties jwtProperties;
 
-    /**
-     * Secret Key를 SecretKey 객체로 변환
-     */
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+    // 서명 키와 파서는 불변/스레드 안전하므로 기동 시 한 번만 생성하여 재사용
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     /**
      * Access Token 생성
+     * - jti: 세션 로그아웃 시 해당 토큰만 폐기하기 위한 식별자
+     * - iat_ms: 사용자 전체 폐기 시각과 밀리초 단위로 비교
      */
     public String createAccessToken(Long userId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpiry());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
      * Refresh Token 생성
+     * - jti(무작위 UUID) 포함: 같은 초에 여러 기기에서 발급해도 토큰(해시)이 겹치지 않음
+     * - fam: 로그인 시 정한 계열 ID (rotation 동안 유지, null 이면 생략)
      */
-    public String createRefreshToken(Long userId) {
+    public String createRefreshToken(Long userId, UUID familyId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiry());
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(String.valueOf(userId))
+                .claim(FAMILY_CLAIM, familyId != null ? familyId.toString() : null)
                 .issuedAt(now)
                 .expiration(expiry)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * 토큰 검증 (서명 및 만료 시간 확인)
+     * 토큰 검증 (서명 및 만료 시간 확인) 및 인증 주체 추출
+     * - 한 번의 파싱으로 서명 검증과 클레임 추출을 함께 처리
+     * - 실패 시 예외 대신 실패 사유를 담은 결과 반환
      */
-    public boolean validate(String token) {
+    public JwtVerificationResult verify(String token) {
+        Claims claims;
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (Exception e) {
-            return false;
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.EXPIRED);
+        } catch (SecurityException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.INVALID_SIGNATURE);
+        } catch (MalformedJwtException | IllegalArgumentException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.MALFORMED);
+        } catch (UnsupportedJwtException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.UNSUPPORTED);
+        } catch (JwtException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.INVALID_CLAIMS);
+        }
+
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        if (claims.getSubject() == null || issuedAt == null || expiration == null) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.INVALID_CLAIMS);
+        }
+
+        try {
+            String familyId = claims.get(FAMILY_CLAIM, String.class);
+            Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+            return JwtVerificationResult.verified(
+                    Long.valueOf(claims.getSubject()),
+                    claims.getId(),
+                    issuedAtMillis != null ? Instant.ofEpochMilli(issuedAtMillis) : issuedAt.toInstant(),
+                    expiration.toInstant(),
+                    familyId != null ? UUID.fromString(familyId) : null
+            );
+        } catch (IllegalArgumentException | RequiredTypeException e) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.INVALID_CLAIMS);
         }
     }
 
+    /**
+     * 토큰 검증 (서명 및 만료 시간 확인)
+     */
+    public boolean validate(String token) {
+        return verify(token).isValid();
+    }
+
     /**
      * 토큰에서 userId 추출
+     * @throws JwtException 유효하지 않은 토큰인 경우
      */
     public Long getUserId(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.valueOf(claims.getSubject());
+        JwtVerificationResult result = verify(token);
+        if (!result.isValid()) {
+            throw new JwtException("유효하지 않은 토큰입니다: " + result.getFailure());
+        }
+        return result.getUserId();
     }
 }
@@ -0,0 +1,255 @@
+package site.janchwi.global.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.util.HashUtils;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증된 Access Token 캐시
+ * - 키: 토큰의 SHA-256 다이제스트 (원문 토큰은 보관하지 않음)
+ * - 값: 검증 완료된 userId / 발급 / 만료 시간
+ * - 만료 시간 및 stripe별 LRU로 제거, stripe 단위 잠금으로 요청 스레드 간 경합 최소화
+ * - 세션 로그아웃 시 revokeToken()으로 해당 Access Token(jti)만 거부, 전체 로그아웃 시 revokeUser()로
+ *   해당 시점 이전에 발급된 토큰을 거부 (노드 로컬)
+ */
+@Slf4j
+@Component
+public class JwtVerificationCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties jwtProperties;
+    private final boolean enabled;
+    private final Segment[] segments;
+    private final int segmentMask;
+
+    // userId -> 이 시각 이전에 발급된 토큰은 폐기됨
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+    // jti -> 토큰 만료 시각 (로그아웃한 세션의 Access Token, 만료 후 정리)
+    private final Map<String, Instant> revokedTokens = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JwtVerificationCache(JwtTokenProvider jwtTokenProvider, JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtProperties = jwtProperties;
+
+        JwtProperties.Cache cacheProperties = jwtProperties.getCache();
+        this.enabled = cacheProperties.isEnabled();
+
+        int stripes = cacheProperties.getStripes() <= 1 ? 1 : Integer.highestOneBit((cacheProperties.getStripes() - 1) << 1);
+        int capacityPerSegment = Math.max(1, cacheProperties.getMaxSize() / stripes);
+        this.segments = new Segment[stripes];
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(capacityPerSegment);
+        }
+        this.segmentMask = stripes - 1;
+
+        FunctionCounter.builder("jwt.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("검증된 토큰 캐시 조회 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("검증된 토큰 캐시 조회 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.cache.evictions", evictions, LongAdder::sum)
+                .description("만료 또는 LRU로 제거된 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.size", this, JwtVerificationCache::size)
+                .description("현재 캐시 항목 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.revoked.users", revokedBefore, Map::size)
+                .description("토큰 폐기 기록이 남아있는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("jwt.cache.revoked.tokens", revokedTokens, Map::size)
+                .description("폐기 기록이 남아있는 Access Token 수")
+                .register(meterRegistry);
+
+        log.info("JWT 검증 캐시 초기화: enabled={}, stripes={}, capacityPerStripe={}",
+                enabled, stripes, capacityPerSegment);
+    }
+
+    /**
+     * 토큰 검증 (캐시 우선)
+     * - 캐시 적중 시 서명 검증 생략
+     * - 미스 시 JwtTokenProvider로 검증 후 성공 결과만 캐시
+     * - 폐기 여부는 적중/미스와 무관하게 항상 확인
+     */
+    public JwtVerificationResult verify(String token) {
+        if (!enabled) {
+            return checkRevoked(jwtTokenProvider.verify(token));
+        }
+
+        TokenKey key = TokenKey.of(token);
+        Segment segment = segments[key.spread() & segmentMask];
+        long now = System.currentTimeMillis();
+
+        JwtVerificationResult cached = segment.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return checkRevoked(cached);
+        }
+
+        misses.increment();
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+        if (result.isValid()) {
+            segment.put(key, result);
+        }
+        return checkRevoked(result);
+    }
+
+    /**
+     * Access Token 하나 폐기 (세션 로그아웃 훅 - 다른 기기의 토큰은 유지)
+     * - jti 가 없는 이전 형식 토큰은 사용자 단위 폐기로 대신함
+     */
+    public void revokeToken(JwtVerificationResult token) {
+        if (token == null || !token.isValid()) {
+            return;
+        }
+        if (token.getTokenId() == null) {
+            revokeUser(token.getUserId());
+            return;
+        }
+        revokedTokens.put(token.getTokenId(), token.getExpiresAt());
+        log.debug("Access Token 폐기: userId={}, jti={}", token.getUserId(), token.getTokenId());
+    }
+
+    /**
+     * 사용자의 기존 Access Token 모두 폐기 (전체 로그아웃 훅)
+     * - 발급 시각(iat_ms)과 밀리초 단위로 비교하므로 폐기 직후 재로그인한 토큰은 유효
+     * - iat_ms 가 없는 이전 형식 토큰은 초 단위 iat 로 비교 (폐기한 초에 발급된 토큰까지 거부)
+     */
+    public void revokeUser(Long userId) {
+        Instant revokedAt = Instant.now();
+        revokedBefore.merge(userId, revokedAt, (previous, current) -> previous.isAfter(current) ? previous : current);
+        log.debug("Access Token 폐기: userId={}, revokedBefore={}", userId, revokedAt);
+    }
+
+    /**
+     * 만료된 캐시 항목 및 더 이상 필요 없는 폐기 기록 정리
+     * - 폐기 시각 이후 Access Token 수명이 지나면 해당 시점 이전 토큰은 모두 만료됨
+     */
+    @Scheduled(fixedDelay = 600000)
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        for (Segment segment : segments) {
+            purged += segment.purgeExpired(now);
+        }
+
+        Instant revocationHorizon = Instant.ofEpochMilli(now - jwtProperties.getAccessTokenExpiry());
+        revokedBefore.values().removeIf(revokedAt -> revokedAt.isBefore(revocationHorizon));
+        Instant nowInstant = Instant.ofEpochMilli(now);
+        revokedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(nowInstant));
+
+        if (purged > 0) {
+            log.debug("만료된 JWT 캐시 항목 정리: {}개", purged);
+        }
+    }
+
+    /**
+     * 현재 캐시 항목 수
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    private JwtVerificationResult checkRevoked(JwtVerificationResult result) {
+        if (!result.isValid()) {
+            return result;
+        }
+        Instant revokedAt = revokedBefore.get(result.getUserId());
+        if (revokedAt != null && result.getIssuedAt().isBefore(revokedAt)) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.REVOKED);
+        }
+        if (result.getTokenId() != null && revokedTokens.containsKey(result.getTokenId())) {
+            return JwtVerificationResult.failed(JwtVerificationResult.Failure.REVOKED);
+        }
+        return result;
+    }
+
+    /**
+     * 토큰 SHA-256 다이제스트 (256비트를 그대로 보관하여 충돌 가능성 배제)
+     */
+    private record TokenKey(long a, long b, long c, long d) {
+
+        static TokenKey of(String token) {
+            ByteBuffer hash = ByteBuffer.wrap(HashUtils.sha256(token));
+            return new TokenKey(hash.getLong(), hash.getLong(), hash.getLong(), hash.getLong());
+        }
+
+        int spread() {
+            return (int) (a ^ (a >>> 32));
+        }
+    }
+
+    /**
+     * stripe 하나 - 접근 순서 LinkedHashMap 기반 LRU
+     */
+    private final class Segment {
+
+        private final LinkedHashMap<TokenKey, JwtVerificationResult> entries;
+
+        Segment(int capacity) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<TokenKey, JwtVerificationResult> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized JwtVerificationResult get(TokenKey key, long now) {
+            JwtVerificationResult result = entries.get(key);
+            if (result != null && result.getExpiresAt().toEpochMilli() <= now) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return result;
+        }
+
+        synchronized void put(TokenKey key, JwtVerificationResult result) {
+            entries.put(key, result);
+        }
+
+        synchronized int purgeExpired(long now) {
+            int purged = 0;
+            Iterator<JwtVerificationResult> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().getExpiresAt().toEpochMilli() <= now) {
+                    iterator.remove();
+                    purged++;
+                }
+            }
+            evictions.add(purged);
+            return purged;
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package site.janchwi.global.config;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JWT 검증 결과
+ * - 검증 성공 시 userId, 토큰 ID(jti), 발급/만료 시간(Refresh Token 은 계열 ID 포함)을 담은 인증 주체
+ * - 검증 실패 시 실패 사유(Failure)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class JwtVerificationResult {
+
+    /**
+     * 검증 실패 사유
+     */
+    public enum Failure {
+        EXPIRED,            // 만료된 토큰
+        INVALID_SIGNATURE,  // 서명 불일치
+        MALFORMED,          // 형식 오류
+        UNSUPPORTED,        // 지원하지 않는 토큰 (서명 없는 JWT 등)
+        INVALID_CLAIMS,     // subject 등 필수 클레임 누락/오류
+        REVOKED             // 로그아웃 등으로 폐기된 토큰
+    }
+
+    // 실패 결과는 상태가 없으므로 사유별로 하나만 생성하여 재사용
+    private static final Map<Failure, JwtVerificationResult> FAILURES = new EnumMap<>(Failure.class);
+
+    static {
+        for (Failure failure : Failure.values()) {
+            FAILURES.put(failure, new JwtVerificationResult(null, null, null, null, null, failure));
+        }
+    }
+
+    private final Long userId;
+    private final String tokenId;   // jti (jti 도입 전 Access Token 은 null)
+    private final Instant issuedAt; // iat_ms 가 있으면 밀리초, 없으면 초 단위
+    private final Instant expiresAt;
+    private final UUID familyId; // Refresh Token 계열 (Access Token, 계열 클레임 도입 전 토큰은 null)
+    private final Failure failure;
+
+    public static JwtVerificationResult verified(Long userId, Instant issuedAt, Instant expiresAt) {
+        return verified(userId, null, issuedAt, expiresAt, null);
+    }
+
+    public static JwtVerificationResult verified(Long userId, String tokenId, Instant issuedAt, Instant expiresAt,
+                                                 UUID familyId) {
+        return new JwtVerificationResult(userId, tokenId, issuedAt, expiresAt, familyId, null);
+    }
+
+    public static JwtVerificationResult failed(Failure failure) {
+        return FAILURES.get(failure);
+    }
+
+    /**
+     * 검증 성공 여부
+     */
+    public boolean isValid() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,117 @@
+package site.janchwi.global.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 인증 없이 접근 가능한 공개 경로 목록 (단일 관리 지점)
+ * - SecurityConfig의 인가 규칙과 JwtAuthenticationFilter의 생략 판단이 모두 이 목록을 사용
+ * - 기동 시 문자 단위 트라이로 컴파일하여 요청마다 객체 할당 없이 조회
+ * - 패턴 규칙: "/a/b" 정확히 일치, "/a/**" 는 "/a" 와 "/a/..." 하위 경로 모두 일치
+ */
+@Component
+public class PublicRouteRegistry {
+
+    private static final String PREFIX_SUFFIX = "/**";
+
+    private static final List<String> PUBLIC_ROUTES = List.of(
+            "/v1/auth/login",
+            "/v1/auth/signup",
+            "/v1/auth/check-email",
+            "/v1/auth/check-nickname",
+            "/v1/auth/send-verification",
+            "/v1/auth/verify-email",
+            "/v1/auth/refresh",
+            "/actuator/health/**",
+            "/actuator/info",
+            "/actuator/prometheus", // 관리 포트(management.server.port)에서만 노출 - 외부로 열지 않음
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/swagger-resources/**"
+    );
+
+    private final Node root = new Node();
+    private final String[] patterns;
+
+    public PublicRouteRegistry() {
+        for (String route : PUBLIC_ROUTES) {
+            register(route);
+        }
+        this.patterns = PUBLIC_ROUTES.toArray(String[]::new);
+    }
+
+    /**
+     * 공개 경로 패턴 (Spring Security requestMatchers 용)
+     */
+    public String[] patterns() {
+        return patterns.clone();
+    }
+
+    /**
+     * 요청이 공개 경로인지 확인 (context-path 제외 후 비교)
+     */
+    public boolean isPublic(HttpServletRequest request) {
+        return matches(request.getRequestURI(), request.getContextPath().length());
+    }
+
+    /**
+     * path의 from 위치부터 공개 경로와 일치하는지 확인
+     */
+    public boolean matches(String path, int from) {
+        Node node = root;
+        int length = path.length();
+
+        for (int i = from; i < length; i++) {
+            char c = path.charAt(i);
+            if (node.prefix && c == '/') {
+                return true;
+            }
+            if (c >= Node.FANOUT) {
+                return false;
+            }
+            node = node.children[c];
+            if (node == null) {
+                return false;
+            }
+        }
+
+        return node != root && (node.exact || node.prefix);
+    }
+
+    private void register(String route) {
+        boolean prefix = route.endsWith(PREFIX_SUFFIX);
+        String path = prefix ? route.substring(0, route.length() - PREFIX_SUFFIX.length()) : route;
+
+        Node node = root;
+        for (int i = 0; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (c >= Node.FANOUT) {
+                throw new IllegalArgumentException("공개 경로는 ASCII 문자만 사용할 수 있습니다: " + route);
+            }
+            if (node.children[c] == null) {
+                node.children[c] = new Node();
+            }
+            node = node.children[c];
+        }
+
+        if (prefix) {
+            node.prefix = true;
+        } else {
+            node.exact = true;
+        }
+    }
+
+    /**
+     * 트라이 노드 (ASCII 문자 인덱스 배열)
+     */
+    private static final class Node {
+        private static final int FANOUT = 128;
+
+        private final Node[] children = new Node[FANOUT];
+        private boolean exact;  // 이 위치에서 끝나는 경로가 공개
+        private boolean prefix; // 이 위치 이하 모든 하위 경로가 공개
+    }
+}
@@ -0,0 +1,233 @@
+package site.janchwi.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import site.janchwi.global.exception.RateLimitExceededException;
+import site.janchwi.global.security.RateLimitProperties;
+import site.janchwi.global.security.TokenBucketRateLimiter;
+import site.janchwi.global.util.JsonFields;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * /v1/auth 경로 요청 빈도 제한 (서비스 계층 도달 전에 차단)
+ * - security.rate-limit.routes 의 경로별로 클라이언트 IP, 정규화한 이메일 단위 토큰 버킷 적용
+ * - 이메일은 GET 이면 email 쿼리 파라미터, 그 외에는 JSON 본문의 최상위 email 필드만 사용 (본문은 다시 읽을 수 있게 감싸서 전달)
+ *   (본문을 읽는 경로에서 쿼리 파라미터를 쓰면 요청마다 다른 값을 붙여 이메일 제한을 우회할 수 있음)
+ * - 본문은 Content-Length 유무(chunked 포함)와 무관하게 max-body-bytes 까지 읽고, 넘으면 413 (이메일 제한 우회 방지)
+ * - 거절 시 RateLimitExceededException 을 GlobalExceptionHandler 로 넘겨 ErrorResponse + Retry-After 로 응답
+ * - Security 필터 체인의 CORS 필터 다음에 실행 (429 응답에도 CORS 헤더 포함)
+ * - 클라이언트 IP 는 getRemoteAddr() - 프록시 뒤에서는 server.forward-headers-strategy 로 복원
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimitProperties properties;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final Map<String, CompiledRoute> routesByPath = new HashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, TokenBucketRateLimiter rateLimiter,
+                           @Qualifier("handlerExceptionResolver") HandlerExceptionResolver handlerExceptionResolver,
+                           MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.handlerExceptionResolver = handlerExceptionResolver;
+
+        properties.getRoutes().forEach((name, route) -> routesByPath.put(route.getPath(), new CompiledRoute(
+                name,
+                route.getPerIp(),
+                route.getPerEmail(),
+                rejectedCounter(meterRegistry, name, "ip"),
+                rejectedCounter(meterRegistry, name, "email"))));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || route(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        CompiledRoute route = route(request);
+
+        if (route.perIp() != null) {
+            long waitMillis = rateLimiter.tryAcquire(route.name() + "|ip|" + request.getRemoteAddr(), route.perIp());
+            if (waitMillis > 0) {
+                route.ipRejected().increment();
+                reject(request, response, waitMillis);
+                return;
+            }
+        }
+
+        HttpServletRequest forwarded = request;
+        if (route.perEmail() != null) {
+            String email;
+            if (HttpMethod.GET.matches(request.getMethod())) {
+                email = request.getParameter("email");
+            } else {
+                CachedBodyRequest cached = CachedBodyRequest.read(request, properties.getMaxBodyBytes());
+                if (cached == null) {
+                    rejectTooLarge(request, response);
+                    return;
+                }
+                forwarded = cached;
+                email = JsonFields.topLevelString(cached.body(), "email");
+            }
+            if (email != null) {
+                String key = route.name() + "|email|" + email.trim().toLowerCase(Locale.ROOT);
+                long waitMillis = rateLimiter.tryAcquire(key, route.perEmail());
+                if (waitMillis > 0) {
+                    route.emailRejected().increment();
+                    reject(request, response, waitMillis);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(forwarded, response);
+    }
+
+    private CompiledRoute route(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        int contextPathLength = request.getContextPath().length();
+        return routesByPath.get(contextPathLength == 0 ? uri : uri.substring(contextPathLength));
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitMillis) {
+        long retryAfterSeconds = Math.max(1, (waitMillis + 999) / 1000);
+        log.debug("요청 빈도 제한: path={}, ip={}, retryAfter={}s",
+                request.getRequestURI(), request.getRemoteAddr(), retryAfterSeconds);
+        handlerExceptionResolver.resolveException(request, response, null, new RateLimitExceededException(
+                "요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.", retryAfterSeconds));
+    }
+
+    private void rejectTooLarge(HttpServletRequest request, HttpServletResponse response) {
+        log.debug("요청 본문 크기 초과: path={}, ip={}", request.getRequestURI(), request.getRemoteAddr());
+        handlerExceptionResolver.resolveException(request, response, null, new ResponseStatusException(
+                HttpStatus.CONTENT_TOO_LARGE, "요청 본문이 너무 큽니다."));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String route, String key) {
+        return Counter.builder("auth.rate.limit.rejected")
+                .description("요청 빈도 제한으로 거절한 요청 수")
+                .tag("route", route)
+                .tag("key", key)
+                .register(meterRegistry);
+    }
+
+    private record CompiledRoute(String name, RateLimitProperties.Limit perIp, RateLimitProperties.Limit perEmail,
+                                 Counter ipRejected, Counter emailRejected) {
+    }
+
+    /**
+     * 본문을 미리 읽어 두고 컨트롤러에서 다시 읽을 수 있게 하는 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] bytes;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] bytes) {
+            super(request);
+            this.bytes = bytes;
+        }
+
+        /**
+         * 본문을 max-body-bytes 까지 읽음 (Content-Length 가 없는 chunked 본문 포함)
+         * @return 본문이 max-body-bytes 를 넘으면 null
+         */
+        static CachedBodyRequest read(HttpServletRequest request, int maxBytes) throws IOException {
+            if (request.getContentLengthLong() > maxBytes) {
+                return null;
+            }
+            // 한 바이트 더 읽어 선언한 길이 없이 보낸 큰 본문도 판별
+            byte[] bytes = request.getInputStream().readNBytes(maxBytes + 1);
+            return bytes.length > maxBytes ? null : new CachedBodyRequest(request, bytes);
+        }
+
+        String body() {
+            return new String(bytes, charset());
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(bytes);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문은 이미 메모리에 있으므로 바로 읽을 수 있고, 다 읽으면 끝
+                 */
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        if (!isFinished()) {
+                            listener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset()));
+        }
+
+        private Charset charset() {
+            String encoding = getCharacterEncoding();
+            return encoding != null ? Charset.forName(encoding, StandardCharsets.UTF_8) : StandardCharsets.UTF_8;
+        }
+    }
+}
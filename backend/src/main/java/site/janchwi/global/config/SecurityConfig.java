@@ -1,17 +1,25 @@
 package site.janchwi.global.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+import site.janchwi.global.security.BulkheadPasswordEncoder;
+import site.janchwi.global.security.CalibratedBCryptPasswordEncoder;
+import site.janchwi.global.security.PasswordHashingProperties;
 
 @Configuration
 @EnableWebSecurity
@@ -20,8 +28,34 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final CorsConfigurationSource corsConfigurationSource;
+    private final PublicRouteRegistry publicRouteRegistry;
+    private final RateLimitFilter rateLimitFilter;
 
+    /**
+     * 공개 경로 전용 경량 필터 체인
+     * - JWT 필터 없이 CORS와 요청 빈도 제한만 적용하고 모두 허용
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain publicFilterChain(HttpSecurity http) throws Exception {
+        RequestMatcher publicRoutes = publicRouteRegistry::isPublic;
+
+        http
+                .securityMatcher(publicRoutes)
+                .csrf(AbstractHttpConfigurer::disable)
+                .cors(cors -> cors.configurationSource(corsConfigurationSource))
+                .sessionManagement(session ->
+                        session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+                )
+                .requestCache(AbstractHttpConfigurer::disable)
+                .authorizeHttpRequests(auth -> auth.anyRequest().permitAll())
+                .addFilterAfter(rateLimitFilter, CorsFilter.class);
+
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 // CSRF 비활성화 (JWT 사용)
@@ -37,30 +71,50 @@ public class SecurityConfig {
 
                 // 인증/인가 설정
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/v1/auth/login",
-                                "/v1/auth/signup",
-                                "/v1/auth/check-email",
-                                "/v1/auth/send-verification",
-                                "/v1/auth/verify-email",
-                                "/v1/auth/refresh",
-                                "/actuator/health",
-                                "/actuator/info",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/swagger-resources/**"
-                        ).permitAll()
+                        .requestMatchers(publicRouteRegistry.patterns()).permitAll()
                         .anyRequest().authenticated()
                 )
 
+                // 요청 빈도 제한 (CORS 다음, 인증 전)
+                .addFilterAfter(rateLimitFilter, CorsFilter.class)
+
                 // JWT 필터 추가
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
 
+    /**
+     * JWT 필터는 Security 필터 체인에서만 실행 (서블릿 필터 자동 등록 비활성화)
+     */
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration(JwtAuthenticationFilter filter) {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * 요청 빈도 제한 필터도 Security 필터 체인에서만 실행 (CORS 헤더가 붙은 뒤 거절하도록)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration(RateLimitFilter filter) {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
+    /**
+     * BCrypt 연산은 전용 격벽 스레드 풀에서 실행 (요청 스레드 고갈 방지)
+     * - strength는 기동 시 장비 성능에 맞춰 보정 (로그인 성공 시 재해시로 점진 반영)
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties, MeterRegistry meterRegistry) {
+        CalibratedBCryptPasswordEncoder bcrypt = CalibratedBCryptPasswordEncoder.create(passwordHashingProperties);
+        Gauge.builder("auth.password.hashing.strength", bcrypt, CalibratedBCryptPasswordEncoder::getStrength)
+                .description("현재 적용 중인 BCrypt strength")
+                .register(meterRegistry);
+
+        return new BulkheadPasswordEncoder(bcrypt, passwordHashingProperties, meterRegistry);
     }
 }
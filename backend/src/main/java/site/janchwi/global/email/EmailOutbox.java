@@ -0,0 +1,92 @@
+package site.janchwi.global.email;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import site.janchwi.global.email.template.EmailTemplate;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 이메일 발송 요청 기록 (transactional outbox)
+ * - 호출한 트랜잭션과 같은 커넥션으로 email_outbox 에 INSERT (롤백되면 발송도 취소)
+ * - 본문 대신 템플릿/언어/슬롯 값만 기록하고 렌더링은 발송 시점에 수행
+ * - 커밋 직후 디스패처를 깨워 주기를 기다리지 않고 발송 (연속 커밋은 예약 한 번으로 합침)
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskScheduler taskScheduler;
+    private final EmailOutboxDispatcher dispatcher;
+    private final AtomicBoolean wakeUpScheduled = new AtomicBoolean();
+
+    /**
+     * 발송 요청 기록
+     * @param expiresAt 이 시각 이후에는 발송하지 않음 (null 이면 제한 없음)
+     */
+    public void enqueue(String recipient, EmailTemplate template, Locale locale,
+                        Map<String, String> variables, Instant expiresAt) {
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (recipient, template, locale, variables, expires_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, recipient, template.name(), locale.toLanguageTag(), encode(variables),
+                expiresAt != null ? Timestamp.from(expiresAt) : null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUpDispatcher();
+                }
+            });
+        } else {
+            wakeUpDispatcher();
+        }
+    }
+
+    private void wakeUpDispatcher() {
+        if (wakeUpScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(() -> {
+                wakeUpScheduled.set(false);
+                dispatcher.dispatchDue();
+            }, Instant.now());
+        }
+    }
+
+    /**
+     * 슬롯 값 직렬화 (application/x-www-form-urlencoded 형식: code=123456&expiryMinutes=15)
+     */
+    static String encode(Map<String, String> variables) {
+        StringJoiner joiner = new StringJoiner("&");
+        variables.forEach((name, value) -> joiner.add(
+                URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)));
+        return joiner.toString();
+    }
+
+    static Map<String, String> decode(String encoded) {
+        Map<String, String> variables = new LinkedHashMap<>();
+        if (encoded.isEmpty()) {
+            return variables;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            variables.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return variables;
+    }
+}
@@ -0,0 +1,247 @@
+package site.janchwi.global.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.email.template.EmailTemplate;
+import site.janchwi.global.email.template.EmailTemplateEngine;
+import site.janchwi.global.email.template.RenderedEmail;
+import site.janchwi.global.exception.EmailSendException;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * email_outbox 발송 워커
+ * - 발송 시점이 된 행을 FOR UPDATE SKIP LOCKED 로 가져가며 lease 만큼 next_attempt_at 을 미룸
+ *   (여러 노드가 동시에 돌아도 같은 행을 중복으로 가져가지 않고, 워커가 죽으면 lease 후 재시도)
+ * - 가져간 행은 가상 스레드에서 템플릿 렌더링 후 발송 (DB 트랜잭션/커넥션을 잡지 않은 채 SMTP 왕복)
+ * - 성공 시 삭제, 실패 시 지수 백오프 후 재시도, 최대 시도 초과/만료 시 DEAD
+ * - DEAD 로 바꿀 때 슬롯 값(인증 코드 등)은 비우고, dead-retention 이 지나면 행 삭제
+ * - 발송 후 삭제 전에 DB 오류가 나면 lease 후 한 번 더 발송될 수 있음 (at-least-once)
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String CLAIM_SQL = """
+            UPDATE email_outbox o
+            SET attempts = o.attempts + 1,
+                next_attempt_at = now() + ? * interval '1 millisecond'
+            FROM (
+                SELECT id
+                FROM email_outbox
+                WHERE status = 'PENDING' AND next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ) due
+            WHERE o.id = due.id
+            RETURNING o.id, o.recipient, o.template, o.locale, o.variables, o.attempts, o.expires_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SmtpEmailSender sender;
+    private final EmailTemplateEngine templateEngine;
+    private final EmailOutboxProperties properties;
+    private final ThreadFactory workerFactory = Thread.ofVirtual().name("email-dispatch-", 0).factory();
+    private final ReentrantLock dispatchLock = new ReentrantLock();
+    private final AtomicBoolean rerunRequested = new AtomicBoolean();
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter dead;
+    private final Timer sendTimer;
+
+    public EmailOutboxDispatcher(JdbcTemplate jdbcTemplate, SmtpEmailSender sender, EmailTemplateEngine templateEngine,
+                                 EmailOutboxProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sender = sender;
+        this.templateEngine = templateEngine;
+        this.properties = properties;
+        this.sent = Counter.builder("email.outbox.sent")
+                .description("발송 완료된 이메일 수")
+                .register(meterRegistry);
+        this.retried = Counter.builder("email.outbox.retried")
+                .description("발송 실패 후 재시도 예약된 이메일 수")
+                .register(meterRegistry);
+        this.dead = Counter.builder("email.outbox.dead")
+                .description("최대 시도 초과 또는 만료로 발송을 포기한 이메일 수")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.outbox.send.duration")
+                .description("SMTP 발송 1건 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시점이 된 행을 모두 처리할 때까지 workers 개씩 가져가 동시 발송
+     * - 이미 다른 스레드가 발송 중이면 기다리지 않고 재실행만 요청 후 반환 (공유 스케줄러 스레드를 SMTP 왕복 동안 붙잡지 않음)
+     * - 발송 중이던 스레드가 끝난 뒤 요청이 있었으면 한 번 더 실행 (커밋 직후 기록된 행을 다음 주기까지 미루지 않음)
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:1s}")
+    public void dispatchDue() {
+        rerunRequested.set(true);
+        while (rerunRequested.get() && dispatchLock.tryLock()) {
+            try {
+                rerunRequested.set(false);
+                dispatchBatches();
+            } finally {
+                dispatchLock.unlock();
+            }
+        }
+    }
+
+    private void dispatchBatches() {
+        try {
+            List<OutboxMessage> batch;
+            do {
+                batch = claim();
+                deliverAll(batch);
+            } while (batch.size() == properties.getWorkers());
+        } catch (DataAccessException e) {
+            log.warn("이메일 outbox 조회 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    private List<OutboxMessage> claim() {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> {
+                    Timestamp expiresAt = rs.getTimestamp("expires_at");
+                    return new OutboxMessage(
+                            rs.getLong("id"),
+                            rs.getString("recipient"),
+                            rs.getString("template"),
+                            rs.getString("locale"),
+                            rs.getString("variables"),
+                            rs.getInt("attempts"),
+                            expiresAt != null ? expiresAt.toInstant() : null);
+                },
+                properties.getLease().toMillis(), properties.getWorkers());
+    }
+
+    /**
+     * 행마다 가상 스레드 하나 (close() 가 모든 발송 완료까지 대기)
+     */
+    private void deliverAll(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(workerFactory)) {
+            for (OutboxMessage message : batch) {
+                executor.submit(() -> deliver(message));
+            }
+        }
+    }
+
+    private void deliver(OutboxMessage message) {
+        try {
+            if (message.expiresAt() != null && !message.expiresAt().isAfter(Instant.now())) {
+                markDead(message, "발송 기한 만료");
+                return;
+            }
+
+            RenderedEmail email;
+            try {
+                email = templateEngine.render(EmailTemplate.valueOf(message.template()),
+                        Locale.forLanguageTag(message.locale()), EmailOutbox.decode(message.variables()));
+            } catch (IllegalArgumentException e) {
+                // 알 수 없는 템플릿/누락된 슬롯 값 - 재시도해도 같은 결과
+                markDead(message, describe(e));
+                return;
+            }
+
+            try {
+                sendTimer.record(() -> sender.send(message.recipient(), email));
+            } catch (EmailSendException e) {
+                onFailure(message, e);
+                return;
+            }
+
+            jdbcTemplate.update("DELETE FROM email_outbox WHERE id = ?", message.id());
+            sent.increment();
+        } catch (DataAccessException e) {
+            log.warn("이메일 outbox 상태 반영 실패 - lease 만료 후 재시도: id={}", message.id(), e);
+        }
+    }
+
+    private void onFailure(OutboxMessage message, EmailSendException e) {
+        String error = describe(e);
+        if (message.attempts() >= properties.getMaxAttempts()) {
+            markDead(message, error);
+            return;
+        }
+
+        Duration backoff = backoff(message.attempts());
+        jdbcTemplate.update("""
+                UPDATE email_outbox
+                SET next_attempt_at = now() + ? * interval '1 millisecond', last_error = ?
+                WHERE id = ?
+                """, backoff.toMillis(), error, message.id());
+        retried.increment();
+        log.warn("이메일 발송 재시도 예약: id={}, attempts={}, backoff={}", message.id(), message.attempts(), backoff);
+    }
+
+    private void markDead(OutboxMessage message, String error) {
+        jdbcTemplate.update("""
+                UPDATE email_outbox
+                SET status = 'DEAD', variables = '', dead_at = now(), last_error = ?
+                WHERE id = ?
+                """, error, message.id());
+        dead.increment();
+        log.error("이메일 발송 포기 (DEAD): id={}, attempts={}, reason={}", message.id(), message.attempts(), error);
+    }
+
+    /**
+     * 보관 기한이 지난 DEAD 행 삭제
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.purge-interval:1h}")
+    public void purgeDead() {
+        try {
+            int purged = jdbcTemplate.update(
+                    "DELETE FROM email_outbox WHERE status = 'DEAD' AND dead_at < now() - ? * interval '1 millisecond'",
+                    properties.getDeadRetention().toMillis());
+            if (purged > 0) {
+                log.info("보관 기한이 지난 DEAD 이메일 삭제: {}건", purged);
+            }
+        } catch (DataAccessException e) {
+            log.warn("DEAD 이메일 정리 실패 - 다음 주기에 재시도", e);
+        }
+    }
+
+    /**
+     * initial-backoff * 2^(시도-1), 최대 max-backoff, ±20% 지터 (여러 행이 같은 시각에 몰리지 않도록)
+     */
+    Duration backoff(int attempts) {
+        long initial = properties.getInitialBackoff().toMillis();
+        long max = properties.getMaxBackoff().toMillis();
+        long exponential = initial << Math.min(attempts - 1, 20);
+        long capped = Math.min(exponential, max);
+        double jitter = ThreadLocalRandom.current().nextDouble(0.8, 1.2);
+        return Duration.ofMillis((long) (capped * jitter));
+    }
+
+    private static String describe(RuntimeException e) {
+        Throwable cause = e.getCause() != null ? e.getCause() : e;
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private record OutboxMessage(long id, String recipient, String template, String locale, String variables,
+                                 int attempts, Instant expiresAt) {
+    }
+}
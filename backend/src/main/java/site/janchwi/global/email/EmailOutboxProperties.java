@@ -0,0 +1,23 @@
+package site.janchwi.global.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "email.outbox")
+public class EmailOutboxProperties {
+    private int workers = 4;                                 // 동시에 열 수 있는 SMTP 세션 수 (= 한 번에 가져갈 행 수)
+    private Duration pollInterval = Duration.ofSeconds(1);   // 대기 행 확인 주기 (커밋 직후에는 바로 발송 시도)
+    private Duration lease = Duration.ofMinutes(1);          // 발송 중인 행을 다른 워커가 가져가지 않는 시간 (SMTP 타임아웃 합보다 길게)
+    private int maxAttempts = 5;                             // 초과 시 DEAD
+    private Duration initialBackoff = Duration.ofSeconds(5); // 재시도 간격 (시도마다 2배, 최대 max-backoff)
+    private Duration maxBackoff = Duration.ofMinutes(5);
+    private Duration deadRetention = Duration.ofDays(7);     // DEAD 행 보관 기간 (원인 확인용, 슬롯 값은 비워 둠)
+    private Duration purgeInterval = Duration.ofHours(1);    // 보관 기간이 지난 DEAD 행 삭제 주기
+}
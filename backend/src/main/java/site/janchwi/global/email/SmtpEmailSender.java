@@ -0,0 +1,76 @@
+package site.janchwi.global.email;
+
+import jakarta.activation.DataHandler;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import jakarta.mail.util.ByteArrayDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.email.template.RenderedEmail;
+import site.janchwi.global.exception.EmailSendException;
+
+/**
+ * SMTP 발송 (EmailOutboxDispatcher 워커 스레드에서만 호출)
+ * - 메시지 작성은 JavaMailSender, 전송은 SmtpTransportPool 의 재사용 연결로 수행
+ * - 본문은 multipart/alternative (텍스트 + HTML), 렌더링된 UTF-8 바이트를 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SmtpEmailSender {
+
+    private static final String TEXT_CONTENT_TYPE = "text/plain; charset=UTF-8";
+    private static final String HTML_CONTENT_TYPE = "text/html; charset=UTF-8";
+
+    private final JavaMailSender mailSender;
+    private final SmtpTransportPool transportPool;
+
+    @Value("${spring.mail.username}")
+    private String senderEmail;
+
+    /**
+     * 이메일 발송 (SMTP)
+     */
+    public void send(String toEmail, RenderedEmail email) {
+        try {
+            MimeMessage message = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+
+            helper.setFrom(senderEmail, "잔취 (Janchwi)");
+            helper.setTo(toEmail);
+            helper.setSubject(email.subject());
+
+            // 뒤에 올수록 우선 표시 (RFC 2046) - HTML 을 지원하지 않는 클라이언트는 텍스트 파트 사용
+            MimeMultipart alternative = new MimeMultipart("alternative");
+            alternative.addBodyPart(bodyPart(email.text(), TEXT_CONTENT_TYPE));
+            alternative.addBodyPart(bodyPart(email.html(), HTML_CONTENT_TYPE));
+            message.setContent(alternative);
+
+            transportPool.send(message);
+
+            log.info("이메일 발송 성공: {}", toEmail);
+        } catch (EmailSendException e) {
+            log.error("이메일 발송 실패: {} - {}", toEmail, e.getMessage(), e);
+            throw e;
+        } catch (MessagingException e) {
+            log.error("이메일 발송 실패: {} - {}", toEmail, e.getMessage(), e);
+            throw new EmailSendException("이메일 발송에 실패했습니다.", e);
+        } catch (Exception e) {
+            log.error("이메일 발송 중 예외 발생: {} - {}", toEmail, e.getMessage(), e);
+            throw new EmailSendException("이메일 발송에 실패했습니다.", e);
+        }
+    }
+
+    private static MimeBodyPart bodyPart(byte[] content, String contentType) throws MessagingException {
+        MimeBodyPart part = new MimeBodyPart();
+        part.setDataHandler(new DataHandler(new ByteArrayDataSource(content, contentType)));
+        part.setHeader("Content-Type", contentType);
+        return part;
+    }
+}
@@ -0,0 +1,20 @@
+package site.janchwi.global.email;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "email.smtp-pool")
+public class SmtpPoolProperties {
+    private int maxConnections = 4;                          // 동시에 열어 둘 SMTP 연결 수 (email.outbox.workers 와 맞춤)
+    private int maxMessagesPerConnection = 100;              // 이 수만큼 보낸 연결은 닫고 새로 연결
+    private Duration idleTimeout = Duration.ofSeconds(30);   // 이 시간 동안 쓰지 않은 연결은 닫음 (서버 측 끊김 이전)
+    private Duration validateAfterIdle = Duration.ofSeconds(2); // 이 시간 이상 쉬었던 연결은 NOOP 으로 확인 후 사용
+    private Duration borrowTimeout = Duration.ofSeconds(10); // 연결을 얻기 위해 기다리는 최대 시간
+}
@@ -0,0 +1,202 @@
+package site.janchwi.global.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import site.janchwi.global.exception.EmailSendException;
+
+import java.util.Iterator;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증된 SMTP 연결 풀
+ * - 메시지마다 TCP + STARTTLS + AUTH 를 새로 하지 않고 연결을 재사용
+ * - 일정 시간 이상 쉬었던 연결은 NOOP 으로 확인 (SMTPTransport.isConnected)
+ * - max-messages-per-connection 만큼 보냈거나 idle-timeout 동안 쓰이지 않은 연결은 닫음
+ * - 발송 실패한 연결은 상태를 알 수 없으므로 풀로 돌려놓지 않고 닫음
+ */
+@Slf4j
+@Component
+public class SmtpTransportPool {
+
+    private final JavaMailSenderImpl mailSender;
+    private final SmtpPoolProperties properties;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger open = new AtomicInteger();
+
+    private final Counter opened;
+    private final Timer handshakeTimer;
+    private final DistributionSummary messagesPerConnection;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender, SmtpPoolProperties properties, MeterRegistry meterRegistry) {
+        this.mailSender = mailSender;
+        this.properties = properties;
+        this.permits = new Semaphore(properties.getMaxConnections(), true);
+
+        this.opened = Counter.builder("email.smtp.connections.opened")
+                .description("새로 연 SMTP 연결 수 (분당 증가량 = 분당 연결 수)")
+                .register(meterRegistry);
+        this.handshakeTimer = Timer.builder("email.smtp.handshake.duration")
+                .description("SMTP 연결 수립 시간 (TCP + STARTTLS + AUTH)")
+                .register(meterRegistry);
+        this.messagesPerConnection = DistributionSummary.builder("email.smtp.messages.per.connection")
+                .description("연결을 닫을 때까지 보낸 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connections.open", open, AtomicInteger::get)
+                .description("열려 있는 SMTP 연결 수")
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connections.idle", idle, LinkedBlockingDeque::size)
+                .description("풀에서 대기 중인 SMTP 연결 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 풀의 연결로 메시지 발송
+     * - 어떤 예외로 끝나든 연결은 반납하거나 닫고 허가(permit)는 돌려줌
+     */
+    public void send(MimeMessage message) {
+        acquirePermit();
+        PooledTransport pooled = null;
+        boolean sent = false;
+        try {
+            pooled = borrow();
+            message.saveChanges(); // JavaMailSender.send 와 같이 Message-ID 등 헤더 확정
+            pooled.transport.sendMessage(message, message.getAllRecipients());
+            pooled.sent++;
+            sent = true;
+        } catch (MessagingException e) {
+            throw new EmailSendException("이메일 발송에 실패했습니다.", e);
+        } finally {
+            try {
+                if (pooled != null) {
+                    if (sent) {
+                        release(pooled);
+                    } else {
+                        close(pooled);
+                    }
+                }
+            } finally {
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * idle-timeout 을 넘긴 대기 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${email.smtp-pool.idle-timeout:30s}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (Iterator<PooledTransport> it = idle.iterator(); it.hasNext(); ) {
+            PooledTransport pooled = it.next();
+            if (now - pooled.lastUsedAt >= properties.getIdleTimeout().toNanos() && idle.remove(pooled)) {
+                close(pooled);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            close(pooled);
+        }
+    }
+
+    int openCount() {
+        return open.get();
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(properties.getBorrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new EmailSendException("SMTP 연결을 얻지 못했습니다.", null);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EmailSendException("SMTP 연결 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 최근에 반납된 연결부터 사용 (LIFO - 적게 쓰이는 연결은 idle-timeout 으로 자연히 정리)
+     */
+    private PooledTransport borrow() throws MessagingException {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (isUsable(pooled)) {
+                return pooled;
+            }
+            close(pooled);
+        }
+        return connect();
+    }
+
+    private boolean isUsable(PooledTransport pooled) {
+        long idleNanos = System.nanoTime() - pooled.lastUsedAt;
+        if (idleNanos >= properties.getIdleTimeout().toNanos()) {
+            return false;
+        }
+        // SMTPTransport.isConnected() 는 NOOP 을 보내 응답을 확인
+        return idleNanos < properties.getValidateAfterIdle().toNanos() || pooled.transport.isConnected();
+    }
+
+    private void release(PooledTransport pooled) {
+        if (pooled.sent >= properties.getMaxMessagesPerConnection()) {
+            close(pooled);
+            return;
+        }
+        pooled.lastUsedAt = System.nanoTime();
+        idle.offerFirst(pooled);
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        long startedAt = System.nanoTime();
+        transport.connect(mailSender.getHost(), mailSender.getPort(),
+                emptyToNull(mailSender.getUsername()), emptyToNull(mailSender.getPassword()));
+        handshakeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        opened.increment();
+        open.incrementAndGet();
+        return new PooledTransport(transport);
+    }
+
+    private void close(PooledTransport pooled) {
+        messagesPerConnection.record(pooled.sent);
+        open.decrementAndGet();
+        try {
+            pooled.transport.close();
+        } catch (MessagingException e) {
+            log.debug("SMTP 연결 종료 중 예외 (무시)", e);
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    private static final class PooledTransport {
+
+        private final Transport transport;
+        private int sent;
+        private long lastUsedAt = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+    }
+}
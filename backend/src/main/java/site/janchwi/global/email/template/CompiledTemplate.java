@@ -0,0 +1,93 @@
+package site.janchwi.global.email.template;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 기동 시 한 번 파싱된 템플릿
+ * - 문자열을 리터럴 조각과 {{slot}} 으로 나누고, 리터럴은 UTF-8 바이트로 미리 인코딩
+ * - 렌더링은 리터럴 바이트 복사 + 슬롯 값 인코딩만 수행 (포맷 문자열 재해석 없음)
+ * - 구조: literals[0] slot[0] literals[1] slot[1] ... literals[n]
+ */
+final class CompiledTemplate {
+
+    private static final Pattern SLOT = Pattern.compile("\\{\\{\\s*([A-Za-z][A-Za-z0-9]*)\\s*}}");
+
+    private final String name;
+    private final byte[][] literals;
+    private final String[] slotNames;
+    private final boolean escapeHtml;
+    private final int literalLength;
+
+    private CompiledTemplate(String name, byte[][] literals, String[] slotNames, boolean escapeHtml) {
+        this.name = name;
+        this.literals = literals;
+        this.slotNames = slotNames;
+        this.escapeHtml = escapeHtml;
+
+        int total = 0;
+        for (byte[] literal : literals) {
+            total += literal.length;
+        }
+        this.literalLength = total;
+    }
+
+    /**
+     * @param escapeHtml 슬롯 값을 HTML 이스케이프할지 여부 (HTML 본문)
+     * @throws IllegalStateException 닫히지 않은 {{ 가 있는 경우
+     */
+    static CompiledTemplate compile(String name, String source, boolean escapeHtml) {
+        List<byte[]> literals = new ArrayList<>();
+        List<String> slotNames = new ArrayList<>();
+
+        Matcher matcher = SLOT.matcher(source);
+        int from = 0;
+        while (matcher.find()) {
+            literals.add(literal(name, source.substring(from, matcher.start())));
+            slotNames.add(matcher.group(1));
+            from = matcher.end();
+        }
+        literals.add(literal(name, source.substring(from)));
+
+        return new CompiledTemplate(name, literals.toArray(byte[][]::new), slotNames.toArray(String[]::new), escapeHtml);
+    }
+
+    void renderTo(Map<String, String> values, RenderBuffer out) {
+        for (int i = 0; i < slotNames.length; i++) {
+            out.write(literals[i]);
+            String value = values.get(slotNames[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("템플릿 값 누락: " + name + " {{" + slotNames[i] + "}}");
+            }
+            out.write(escapeHtml ? HtmlUtils.htmlEscape(value) : value);
+        }
+        out.write(literals[slotNames.length]);
+    }
+
+    Set<String> slots() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(List.of(slotNames)));
+    }
+
+    /**
+     * 리터럴 바이트 합 (렌더링 버퍼 초기 크기 산정용)
+     */
+    int literalLength() {
+        return literalLength;
+    }
+
+    private static byte[] literal(String name, String text) {
+        if (text.contains("{{")) {
+            throw new IllegalStateException("잘못된 템플릿 슬롯: " + name + " - " + text.substring(text.indexOf("{{")).lines().findFirst().orElse(""));
+        }
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
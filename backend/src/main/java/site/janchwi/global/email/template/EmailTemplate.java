@@ -0,0 +1,18 @@
+package site.janchwi.global.email.template;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 이메일 템플릿 종류
+ * - 리소스: templates/email/{baseName}_{언어}.html, .txt (.txt 첫 줄은 "Subject: 제목")
+ */
+@Getter
+@RequiredArgsConstructor
+public enum EmailTemplate {
+    VERIFICATION("verification"),     // 이메일 인증 코드 (code, expiryMinutes, maxAttempts)
+    PASSWORD_RESET("password-reset"), // 비밀번호 재설정 링크 (resetUrl, expiryMinutes)
+    ACCOUNT_LOCKED("account-locked"); // 로그인 실패 누적 계정 잠금 (maxAttempts, lockMinutes)
+
+    private final String baseName;
+}
@@ -0,0 +1,157 @@
+package site.janchwi.global.email.template;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 이메일 템플릿 엔진
+ * - 기동 시 모든 템플릿/언어를 CompiledTemplate 으로 컴파일 (누락/오류 템플릿은 기동 실패)
+ * - HTML 본문과 텍스트 대체 본문(multipart/alternative)을 같은 값으로 렌더링
+ * - 렌더링 버퍼는 풀로 재사용 (발송 워커가 가상 스레드이므로 ThreadLocal 대신 큐)
+ * - 지원하지 않는 언어는 기본 언어(한국어)로 렌더링
+ */
+@Slf4j
+@Component
+public class EmailTemplateEngine {
+
+    static final Locale DEFAULT_LOCALE = Locale.KOREAN;
+    static final List<Locale> SUPPORTED_LOCALES = List.of(Locale.KOREAN, Locale.ENGLISH);
+
+    private static final String TEMPLATE_LOCATION = "templates/email/";
+    private static final String SUBJECT_PREFIX = "Subject: ";
+    private static final int MAX_POOLED_BUFFERS = 16;
+
+    private final Map<EmailTemplate, Map<String, Compiled>> templates = new EnumMap<>(EmailTemplate.class);
+    private final ConcurrentLinkedQueue<RenderBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final int initialBufferCapacity;
+
+    public EmailTemplateEngine() {
+        int largest = 0;
+        for (EmailTemplate template : EmailTemplate.values()) {
+            Map<String, Compiled> byLanguage = new HashMap<>();
+            for (Locale locale : SUPPORTED_LOCALES) {
+                Compiled compiled = load(template, locale);
+                byLanguage.put(locale.getLanguage(), compiled);
+                largest = Math.max(largest, compiled.html().literalLength());
+            }
+            verifySameSlots(template, byLanguage);
+            templates.put(template, byLanguage);
+        }
+        // 가장 큰 HTML 리터럴 + 슬롯 값 여유분 (대부분 재할당 없이 렌더링)
+        this.initialBufferCapacity = largest + 1024;
+        log.info("이메일 템플릿 컴파일 완료: templates={}, locales={}", templates.size(), SUPPORTED_LOCALES.size());
+    }
+
+    /**
+     * 템플릿 렌더링
+     * @throws IllegalArgumentException 템플릿 슬롯에 해당하는 값이 없는 경우
+     */
+    public RenderedEmail render(EmailTemplate template, Locale locale, Map<String, String> values) {
+        Map<String, Compiled> byLanguage = templates.get(template);
+        Compiled compiled = byLanguage.get(locale != null ? locale.getLanguage() : DEFAULT_LOCALE.getLanguage());
+        if (compiled == null) {
+            compiled = byLanguage.get(DEFAULT_LOCALE.getLanguage());
+        }
+
+        RenderBuffer buffer = acquireBuffer();
+        try {
+            compiled.subject().renderTo(values, buffer);
+            String subject = buffer.toUtf8String();
+
+            buffer.reset();
+            compiled.html().renderTo(values, buffer);
+            byte[] html = buffer.toByteArray();
+
+            buffer.reset();
+            compiled.text().renderTo(values, buffer);
+            byte[] text = buffer.toByteArray();
+
+            return new RenderedEmail(subject, html, text);
+        } finally {
+            releaseBuffer(buffer);
+        }
+    }
+
+    /**
+     * 요청 언어를 템플릿이 있는 언어로 변환 (지원하지 않거나 없으면 기본 언어)
+     * - 지역/확장 태그는 버림 (outbox 에는 언어 코드만 기록)
+     */
+    public static Locale supportedLocale(Locale requested) {
+        if (requested != null) {
+            for (Locale supported : SUPPORTED_LOCALES) {
+                if (supported.getLanguage().equals(requested.getLanguage())) {
+                    return supported;
+                }
+            }
+        }
+        return DEFAULT_LOCALE;
+    }
+
+    private RenderBuffer acquireBuffer() {
+        RenderBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : new RenderBuffer(initialBufferCapacity);
+    }
+
+    private void releaseBuffer(RenderBuffer buffer) {
+        buffer.reset();
+        // 큰 값으로 비정상적으로 커진 버퍼는 버림
+        if (buffer.capacity() <= initialBufferCapacity * 4 && buffers.size() < MAX_POOLED_BUFFERS) {
+            buffers.offer(buffer);
+        }
+    }
+
+    private static Compiled load(EmailTemplate template, Locale locale) {
+        String name = template.getBaseName() + "_" + locale.getLanguage();
+        String html = read(name + ".html");
+        String text = read(name + ".txt");
+
+        if (!text.startsWith(SUBJECT_PREFIX)) {
+            throw new IllegalStateException("텍스트 템플릿 첫 줄은 제목이어야 합니다: " + name + ".txt");
+        }
+        int subjectEnd = text.indexOf('\n');
+        String subject = text.substring(SUBJECT_PREFIX.length(), subjectEnd).strip();
+        String body = text.substring(subjectEnd + 1).stripLeading();
+
+        Compiled compiled = new Compiled(
+                CompiledTemplate.compile(name + " (subject)", subject, false),
+                CompiledTemplate.compile(name + ".html", html, true),
+                CompiledTemplate.compile(name + ".txt", body, false));
+
+        if (!compiled.html().slots().equals(compiled.text().slots())
+                || !compiled.html().slots().containsAll(compiled.subject().slots())) {
+            throw new IllegalStateException("HTML/텍스트 템플릿 슬롯이 다릅니다: " + name);
+        }
+        return compiled;
+    }
+
+    private static void verifySameSlots(EmailTemplate template, Map<String, Compiled> byLanguage) {
+        var expected = byLanguage.get(DEFAULT_LOCALE.getLanguage()).html().slots();
+        byLanguage.forEach((language, compiled) -> {
+            if (!compiled.html().slots().equals(expected)) {
+                throw new IllegalStateException("언어별 템플릿 슬롯이 다릅니다: " + template + " (" + language + ")");
+            }
+        });
+    }
+
+    private static String read(String fileName) {
+        try {
+            return new ClassPathResource(TEMPLATE_LOCATION + fileName).getContentAsString(StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이메일 템플릿을 읽을 수 없습니다: " + fileName, e);
+        }
+    }
+
+    private record Compiled(CompiledTemplate subject, CompiledTemplate html, CompiledTemplate text) {
+    }
+}
@@ -0,0 +1,49 @@
+package site.janchwi.global.email.template;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 렌더링용 바이트 버퍼 (EmailTemplateEngine 이 풀로 재사용)
+ */
+final class RenderBuffer {
+
+    private byte[] bytes;
+    private int length;
+
+    RenderBuffer(int initialCapacity) {
+        this.bytes = new byte[initialCapacity];
+    }
+
+    void write(byte[] chunk) {
+        ensureCapacity(length + chunk.length);
+        System.arraycopy(chunk, 0, bytes, length, chunk.length);
+        length += chunk.length;
+    }
+
+    void write(String value) {
+        write(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, length);
+    }
+
+    String toUtf8String() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    void reset() {
+        length = 0;
+    }
+
+    int capacity() {
+        return bytes.length;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(required, bytes.length * 2));
+        }
+    }
+}
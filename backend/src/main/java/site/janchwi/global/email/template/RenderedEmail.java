@@ -0,0 +1,7 @@
+package site.janchwi.global.email.template;
+
+/**
+ * 렌더링 결과 - 본문은 UTF-8 인코딩된 바이트 (MIME 파트에 그대로 사용)
+ */
+public record RenderedEmail(String subject, byte[] html, byte[] text) {
+}
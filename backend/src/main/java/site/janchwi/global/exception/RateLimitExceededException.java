@@ -0,0 +1,16 @@
+package site.janchwi.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 빈도 제한을 넘었을 때 사용 (429 + Retry-After)
+ */
+@Getter
+public class RateLimitExceededException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
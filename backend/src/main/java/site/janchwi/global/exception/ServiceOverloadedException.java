@@ -0,0 +1,16 @@
+package site.janchwi.global.exception;
+
+import lombok.Getter;
+
+/**
+ * 처리 용량 초과로 요청을 즉시 거절할 때 사용 (503 + Retry-After)
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,161 @@
+package site.janchwi.global.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.janchwi.global.common.Constants;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * refresh_tokens 일(UTC) 단위 범위 파티션 관리
+ * - 파티션 이름: refresh_tokens_pYYYYMMDD, 범위: [해당일 00:00Z, 다음날 00:00Z)
+ * - 오늘부터 (만료 기간 + partitions-ahead) 일까지 미리 생성
+ * - 범위가 모두 지난 파티션은 DETACH 후 DROP (행 삭제 없음 - dead tuple/WAL 없음)
+ * - 파티션 DDL은 부모 테이블 잠금이 필요하므로 lock_timeout 을 두고, 실패하면 다음 실행에서 재시도
+ */
+@Slf4j
+@Component
+public class RefreshTokenPartitionManager {
+
+    static final String PARTITION_PREFIX = "refresh_tokens_p";
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'refresh_tokens'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenCleanupProperties properties;
+    private final Counter createdPartitions;
+    private final Counter droppedPartitions;
+    private final Counter droppedRows;
+
+    public RefreshTokenPartitionManager(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                        TokenCleanupProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.createdPartitions = Counter.builder("auth.token.partitions.created")
+                .description("생성된 refresh_tokens 파티션 수")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("auth.token.partitions.dropped")
+                .description("만료되어 삭제된 refresh_tokens 파티션 수")
+                .register(meterRegistry);
+        this.droppedRows = Counter.builder("auth.token.cleanup.rows")
+                .description("파티션 삭제로 정리된 만료 Refresh Token 수 (통계 기반 추정치)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오늘부터 (만료 기간 + partitions-ahead) 일까지 파티션 생성 (이미 있으면 생략)
+     * @return 새로 생성한 파티션 수
+     */
+    public int ensurePartitions(LocalDate today) {
+        Set<LocalDate> existing = new TreeSet<>(partitionDays());
+        LocalDate last = today.plusDays(Constants.REFRESH_TOKEN_EXPIRY_DAYS + properties.getPartitionsAhead());
+
+        int created = 0;
+        for (LocalDate day = today; !day.isAfter(last); day = day.plusDays(1)) {
+            if (!existing.contains(day) && createPartition(day)) {
+                created++;
+            }
+        }
+        return created;
+    }
+
+    /**
+     * 범위가 모두 지난(오늘 이전) 파티션 분리 후 삭제
+     * @return 삭제한 파티션 수
+     */
+    public int dropExpiredPartitions(LocalDate today) {
+        int dropped = 0;
+        for (LocalDate day : partitionDays()) {
+            if (day.isBefore(today) && detachAndDrop(day)) {
+                dropped++;
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 현재 파티션 일자 목록 (오름차순, 이름 규칙에 맞지 않는 파티션은 관리 대상에서 제외)
+     */
+    List<LocalDate> partitionDays() {
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(PARTITIONS_SQL, String.class)) {
+            if (!name.startsWith(PARTITION_PREFIX)) {
+                continue;
+            }
+            try {
+                days.add(LocalDate.parse(name.substring(PARTITION_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE));
+            } catch (DateTimeParseException e) {
+                log.warn("관리 대상이 아닌 refresh_tokens 파티션: {}", name);
+            }
+        }
+        days.sort(null);
+        return days;
+    }
+
+    boolean createPartition(LocalDate day) {
+        String sql = "CREATE TABLE IF NOT EXISTS " + partitionName(day) + " PARTITION OF refresh_tokens"
+                + " FOR VALUES FROM ('" + day.atStartOfDay(ZoneOffset.UTC).toInstant() + "')"
+                + " TO ('" + day.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant() + "')";
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                setLockTimeout();
+                jdbcTemplate.execute(sql);
+            });
+            createdPartitions.increment();
+            log.info("refresh_tokens 파티션 생성: {}", partitionName(day));
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("refresh_tokens 파티션 생성 실패 - 다음 실행에서 재시도: {}", partitionName(day), e);
+            return false;
+        }
+    }
+
+    private boolean detachAndDrop(LocalDate day) {
+        String partition = partitionName(day);
+        try {
+            Long estimatedRows = transactionTemplate.execute(status -> {
+                setLockTimeout();
+                Long rows = jdbcTemplate.queryForObject(
+                        "SELECT greatest(reltuples, 0)::bigint FROM pg_class WHERE relname = ?", Long.class, partition);
+                jdbcTemplate.execute("ALTER TABLE refresh_tokens DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                return rows;
+            });
+            droppedPartitions.increment();
+            droppedRows.increment(estimatedRows != null ? estimatedRows : 0);
+            log.info("만료된 refresh_tokens 파티션 삭제: {} (약 {}개)", partition, estimatedRows);
+            return true;
+        } catch (DataAccessException e) {
+            log.warn("refresh_tokens 파티션 삭제 실패 - 다음 실행에서 재시도: {}", partition, e);
+            return false;
+        }
+    }
+
+    private void setLockTimeout() {
+        jdbcTemplate.execute("SET LOCAL lock_timeout = '" + properties.getLockTimeout().toMillis() + "ms'");
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
@@ -0,0 +1,17 @@
+package site.janchwi.global.scheduler;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "scheduler.token-cleanup")
+public class TokenCleanupProperties {
+    private int partitionsAhead = 3;                      // 만료 기간 이후로 미리 만들어 둘 일 파티션 수
+    private Duration lockTimeout = Duration.ofSeconds(5); // 파티션 생성/분리 시 잠금 대기 한도 (초과 시 다음 실행에서 재시도)
+}
@@ -1,20 +1,34 @@
 package site.janchwi.global.scheduler;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
 
-import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 
+/**
+ * 만료된 Refresh Token 정리
+ * - refresh_tokens 는 expires_at 기준 일 단위 파티션이므로 행 삭제 대신 지난 파티션을 DROP
+ * - 앞으로 필요한 파티션도 같은 실행에서 미리 생성
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenPartitionManager partitionManager;
+    private final Timer cleanupTimer;
+
+    public TokenCleanupScheduler(RefreshTokenPartitionManager partitionManager, MeterRegistry meterRegistry) {
+        this.partitionManager = partitionManager;
+        this.cleanupTimer = Timer.builder("auth.token.cleanup.duration")
+                .description("만료된 Refresh Token 정리 1회 실행 시간")
+                .register(meterRegistry);
+    }
 
     /**
      * 만료된 Refresh Token 정리
@@ -22,12 +36,25 @@ public class TokenCleanupScheduler {
      * - zone="Asia/Seoul"로 명시적 지정하여 서버 타임존과 무관하게 동작
      */
     @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void cleanupExpiredTokens() {
         log.info("만료된 Refresh Token 정리 시작");
 
-        long deletedCount = refreshTokenRepository.deleteByExpiresAtBefore(Instant.now());
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        cleanupTimer.record(() -> {
+            int created = partitionManager.ensurePartitions(today);
+            int dropped = partitionManager.dropExpiredPartitions(today);
+            log.info("만료된 Refresh Token 정리 완료: 파티션 {}개 삭제, {}개 생성", dropped, created);
+        });
+    }
 
-        log.info("만료된 Refresh Token 정리 완료: {}개 삭제", deletedCount);
+    /**
+     * 기동 시 파티션 확보 (중단 기간 동안 생성되지 못한 파티션 보충)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensurePartitionsOnStartup() {
+        int created = partitionManager.ensurePartitions(LocalDate.now(ZoneOffset.UTC));
+        if (created > 0) {
+            log.info("refresh_tokens 파티션 보충: {}개", created);
+        }
     }
 }
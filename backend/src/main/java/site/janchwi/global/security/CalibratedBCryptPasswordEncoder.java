@@ -0,0 +1,101 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 배포 장비에 맞춰 BCrypt strength를 보정하는 PasswordEncoder
+ * - 기동 시 목표 지연 시간(target-latency)을 넘지 않는 가장 큰 strength 선택
+ * - upgradeEncoding(): 저장된 해시의 strength가 현재 값과 다르면 true (상향/하향 모두)
+ *   → 로그인 성공 시 재해시하여 장비 변경 후에도 로그인 지연 시간을 일정하게 유지
+ */
+@Slf4j
+public class CalibratedBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private static final int CALIBRATION_SAMPLES = 3;
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+
+    @Getter
+    private final int strength;
+    private final boolean rehashEnabled;
+    private final BCryptPasswordEncoder delegate;
+
+    public CalibratedBCryptPasswordEncoder(int strength, boolean rehashEnabled) {
+        this.strength = strength;
+        this.rehashEnabled = rehashEnabled;
+        this.delegate = new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * 설정에 따라 고정 strength 사용 또는 기동 시 보정
+     */
+    public static CalibratedBCryptPasswordEncoder create(PasswordHashingProperties properties) {
+        if (properties.getStrength() > 0) {
+            log.info("BCrypt strength 고정 사용: {}", properties.getStrength());
+            return new CalibratedBCryptPasswordEncoder(properties.getStrength(), properties.isRehashOnLogin());
+        }
+
+        int strength = calibrate(properties.getTargetLatency(), properties.getMinStrength(), properties.getMaxStrength());
+        return new CalibratedBCryptPasswordEncoder(strength, properties.isRehashOnLogin());
+    }
+
+    /**
+     * 최소 strength에서 해시 시간을 측정한 뒤, strength +1 마다 2배가 되는 특성으로
+     * 목표 시간 이내의 최대 strength 계산
+     */
+    static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder baseline = new BCryptPasswordEncoder(minStrength);
+        baseline.encode(CALIBRATION_PASSWORD); // 워밍업
+
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            baseline.encode(CALIBRATION_PASSWORD);
+            samples[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(samples);
+        long baselineNanos = Math.max(1, samples[CALIBRATION_SAMPLES / 2]); // 중앙값
+
+        int strength = minStrength;
+        long estimatedNanos = baselineNanos;
+        while (strength < maxStrength && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            strength++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt strength 보정 완료: strength={}, baseline(strength {})={}ms, 예상={}ms, 목표={}ms",
+                strength, minStrength, baselineNanos / 1_000_000, estimatedNanos / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (!rehashEnabled || encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        if (!matcher.matches()) {
+            return false;
+        }
+        return Integer.parseInt(matcher.group(2)) != strength;
+    }
+}
@@ -0,0 +1,32 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.login-attempts")
+public class LoginAttemptProperties {
+    private Mode mode = Mode.DATABASE;                // 로그인 시도 추적 방식
+    private Duration window = Duration.ofMinutes(15); // 실패 횟수 집계 구간 (memory 모드)
+    private LastLogin lastLogin = new LastLogin();
+
+    /**
+     * 마지막 로그인 시간 일괄 반영 설정 (반영 주기는 last-login.flush-interval)
+     */
+    @Getter
+    @Setter
+    public static class LastLogin {
+        private int batchSize = 500; // 버퍼가 이 크기에 도달하면 주기를 기다리지 않고 반영
+    }
+
+    public enum Mode {
+        DATABASE, // 매 시도마다 users 행 갱신 (노드 간 강한 일관성)
+        MEMORY    // 노드 로컬 메모리에서 판단 후 주기적으로 일괄 반영
+    }
+}
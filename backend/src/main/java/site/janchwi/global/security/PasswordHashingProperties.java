@@ -0,0 +1,25 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.password-hashing")
+public class PasswordHashingProperties {
+    private int poolSize = 0;           // 해싱 전용 스레드 수 (0이면 CPU 코어 수)
+    private int queueCapacity = 64;     // 대기열 크기 (초과 시 즉시 503)
+    private long retryAfterSeconds = 1; // 거절 시 Retry-After 헤더 값
+
+    // BCrypt 비용(strength) 보정
+    private int strength = 0;                               // 고정 strength (0이면 기동 시 보정)
+    private Duration targetLatency = Duration.ofMillis(250); // 해시 1회 목표 시간
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    private boolean rehashOnLogin = true;                   // 로그인 성공 시 현재 strength로 재해시
+}
@@ -0,0 +1,43 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private int maxKeys = 100_000;         // 추적할 최대 버킷 수 (전체 shard 합계, 초과분은 추적 없이 통과)
+    private int shards = 16;               // 맵 분할 수 (2의 거듭제곱으로 올림)
+    private int maxBodyBytes = 8192;       // 이메일 추출을 위해 읽을 최대 요청 본문 크기
+    private Map<String, Route> routes = new LinkedHashMap<>(); // 이름 -> 경로별 제한
+
+    /**
+     * 경로별 제한 (per-ip / per-email 중 설정한 것만 적용)
+     */
+    @Getter
+    @Setter
+    public static class Route {
+        private String path;    // context-path 제외, 정확히 일치
+        private Limit perIp;
+        private Limit perEmail; // GET 은 email 쿼리 파라미터, 그 외는 요청 본문(JSON)의 email (trim + 소문자)
+    }
+
+    /**
+     * 토큰 버킷 - capacity 개까지 연속 허용, refill-interval 마다 1개 충전
+     */
+    @Getter
+    @Setter
+    public static class Limit {
+        private int capacity;
+        private Duration refillInterval;
+    }
+}
@@ -0,0 +1,162 @@
+package site.janchwi.global.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 키 단위 토큰 버킷 (노드 로컬 메모리)
+ * - 버킷 상태는 "버킷이 가득 차는 시각" 하나 (GCRA) - AtomicLong CAS 로 잠금 없이 차감
+ * - 가득 찬 버킷은 없는 것과 같으므로 언제든 제거 가능 - 주기적으로 정리하고, shard 가 차면 그 자리에서 정리
+ * - shard 별 최대 키 수를 넘으면 새 키는 추적 없이 통과 (메모리 상한 유지, 다른 키의 제한은 그대로)
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    // shard 가 가득 찼을 때 그 자리 정리는 이 간격에 한 번만 (정리 비용을 이용한 부하 방지)
+    private static final long INLINE_SWEEP_INTERVAL_MILLIS = 1_000;
+
+    private final LongSupplier clock;
+    private final Shard[] shards;
+    private final int shardMask;
+    private final LongAdder overflows = new LongAdder();
+
+    @Autowired
+    public TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::currentTimeMillis);
+    }
+
+    TokenBucketRateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.clock = clock;
+
+        int shardCount = properties.getShards() <= 1 ? 1 : Integer.highestOneBit((properties.getShards() - 1) << 1);
+        int capacityPerShard = Math.max(1, properties.getMaxKeys() / shardCount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(capacityPerShard);
+        }
+        this.shardMask = shardCount - 1;
+
+        Gauge.builder("auth.rate.limit.buckets", this, TokenBucketRateLimiter::size)
+                .description("추적 중인 토큰 버킷 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.rate.limit.overflow", overflows, LongAdder::sum)
+                .description("버킷 수 상한으로 추적 없이 통과시킨 요청 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 1개 차감 시도
+     * @param key 제한 단위 (경로 + 구분 + 값)
+     * @return 허용이면 0, 거절이면 다음 토큰까지 남은 시간 (밀리초)
+     */
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = clock.getAsLong();
+        long interval = limit.getRefillInterval().toMillis();
+        long tolerance = interval * (limit.getCapacity() - 1);
+
+        Shard shard = shards[spread(key.hashCode()) & shardMask];
+        AtomicLong fullAt = shard.bucket(key, now);
+        if (fullAt == null) {
+            overflows.increment();
+            return 0;
+        }
+
+        while (true) {
+            long current = fullAt.get();
+            long base = Math.max(current, now);
+            long waitMillis = base - now - tolerance;
+            if (waitMillis > 0) {
+                return waitMillis;
+            }
+            if (fullAt.compareAndSet(current, base + interval)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 가득 찬 버킷 제거 (메모리 회수)
+     */
+    @Scheduled(fixedDelayString = "${security.rate-limit.evict-interval:1m}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        int evicted = 0;
+        for (Shard shard : shards) {
+            evicted += shard.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("가득 찬 토큰 버킷 정리: {}개", evicted);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.buckets.size();
+        }
+        return size;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * shard 하나 - 키 -> 버킷이 가득 차는 시각 (밀리초, 이 시각이 지나면 capacity 만큼 허용)
+     */
+    private static final class Shard {
+
+        private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweepAt = new AtomicLong();
+        private final int capacity;
+
+        Shard(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * 버킷 조회 또는 생성 (상한 초과 시 null)
+         */
+        AtomicLong bucket(String key, long now) {
+            AtomicLong bucket = buckets.get(key);
+            if (bucket != null) {
+                return bucket;
+            }
+            if (buckets.size() >= capacity) {
+                long lastSweep = lastSweepAt.get();
+                if (now - lastSweep >= INLINE_SWEEP_INTERVAL_MILLIS && lastSweepAt.compareAndSet(lastSweep, now)) {
+                    evictIdle(now);
+                }
+                if (buckets.size() >= capacity) {
+                    return null;
+                }
+            }
+            AtomicLong created = new AtomicLong(now);
+            AtomicLong existing = buckets.putIfAbsent(key, created);
+            return existing != null ? existing : created;
+        }
+
+        int evictIdle(long now) {
+            int evicted = 0;
+            for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+                AtomicLong bucket = entry.getValue();
+                if (bucket.get() <= now && buckets.remove(entry.getKey(), bucket)) {
+                    evicted++;
+                }
+            }
+            return evicted;
+        }
+    }
+}
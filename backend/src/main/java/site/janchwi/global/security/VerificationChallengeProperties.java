@@ -0,0 +1,22 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.verification-challenge")
+public class VerificationChallengeProperties {
+    private Store store = Store.DATABASE;             // 인증 코드 저장소
+    private Duration retention = Duration.ofHours(1);     // 만료 후 보관 기간 (그동안은 "만료됨"으로 응답, 이후 정리)
+
+    public enum Store {
+        DATABASE, // UNLOGGED 테이블 (노드 간 공유)
+        MEMORY    // 노드 로컬 메모리 (단일 노드 전용 - 발급/검증 요청이 같은 노드로 가야 함)
+    }
+}
@@ -0,0 +1,20 @@
+package site.janchwi.global.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "security.verification-resend")
+public class VerificationResendProperties {
+    private Duration coalesceWindow = Duration.ofSeconds(10); // 이 시간 안의 재요청은 직전 발송에 합침 (성공 응답, 발송 없음)
+    private Duration cooldown = Duration.ofSeconds(60);       // 직전 발송 후 다음 발송까지 최소 간격 (그 전에는 429)
+    private Duration window = Duration.ofHours(1);            // 발송 횟수 집계 구간
+    private int maxSendsPerWindow = 5;                        // 구간 내 최대 발송 횟수
+    private int maxKeys = 100_000;                            // 추적할 최대 이메일 수 (넘으면 마지막 발송이 오래된 항목부터 제거)
+}
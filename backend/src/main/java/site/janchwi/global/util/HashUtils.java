@@ -0,0 +1,44 @@
+package site.janchwi.global.util;
+
+import site.janchwi.global.exception.HashingException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * 토큰/인증 코드 SHA-256 해시
+ * - 스레드별 MessageDigest 재사용 (호출마다 getInstance 하지 않음)
+ * - 16진수 문자열 대신 32바이트 그대로 반환 (DB 에는 bytea 로 저장)
+ */
+public final class HashUtils {
+
+    public static final int SHA_256_LENGTH = 32;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new HashingException("SHA-256 해시 알고리즘을 찾을 수 없습니다.", e);
+        }
+    });
+
+    private HashUtils() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * SHA-256 다이제스트 (UTF-8)
+     */
+    public static byte[] sha256(String value) {
+        // digest() 는 계산 후 내부 상태를 초기화하므로 같은 스레드에서 바로 재사용 가능
+        return SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 원문의 SHA-256 다이제스트와 저장된 해시 비교 (비교 시간이 일치 위치에 따라 달라지지 않음)
+     */
+    public static boolean matches(String value, byte[] hash) {
+        return hash != null && MessageDigest.isEqual(sha256(value), hash);
+    }
+}
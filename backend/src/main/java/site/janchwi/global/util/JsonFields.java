@@ -0,0 +1,111 @@
+package site.janchwi.global.util;
+
+/**
+ * JSON 본문에서 최상위 문자열 필드 하나만 읽기 (객체 매핑 없이 한 번 훑기)
+ * - 요청이 컨트롤러에 닿기 전 필터에서 키(email 등)만 필요할 때 사용
+ * - 이스케이프된 키/값도 해석, 같은 키가 여러 번이면 마지막 값 (Jackson 바인딩과 같은 기준)
+ * - 형식이 깨졌거나 값이 문자열이 아니면 null
+ */
+public final class JsonFields {
+
+    private JsonFields() {
+    }
+
+    public static String topLevelString(String json, String name) {
+        String found = null;
+        int depth = 0;
+        int length = json.length();
+        int i = 0;
+
+        while (i < length) {
+            char c = json.charAt(i);
+            if (c == '"') {
+                int end = endOfString(json, i);
+                if (end < 0) {
+                    return null;
+                }
+                int next = skipWhitespace(json, end + 1);
+                if (depth == 1 && next < length && json.charAt(next) == ':' && name.equals(unescape(json, i + 1, end))) {
+                    int valueStart = skipWhitespace(json, next + 1);
+                    if (valueStart < length && json.charAt(valueStart) == '"') {
+                        int valueEnd = endOfString(json, valueStart);
+                        if (valueEnd < 0) {
+                            return null;
+                        }
+                        found = unescape(json, valueStart + 1, valueEnd);
+                        i = valueEnd + 1;
+                        continue;
+                    }
+                    found = null;
+                }
+                i = end + 1;
+                continue;
+            }
+            if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            }
+            i++;
+        }
+        return found;
+    }
+
+    /**
+     * 여는 따옴표 위치 -> 닫는 따옴표 위치 (없으면 -1)
+     */
+    private static int endOfString(String json, int open) {
+        for (int i = open + 1; i < json.length(); i++) {
+            char c = json.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '"') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int skipWhitespace(String json, int from) {
+        int i = from;
+        while (i < json.length() && Character.isWhitespace(json.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static String unescape(String json, int from, int to) {
+        if (json.indexOf('\\', from) < 0 || json.indexOf('\\', from) >= to) {
+            return json.substring(from, to);
+        }
+        StringBuilder sb = new StringBuilder(to - from);
+        for (int i = from; i < to; i++) {
+            char c = json.charAt(i);
+            if (c != '\\' || i + 1 >= to) {
+                sb.append(c);
+                continue;
+            }
+            char escaped = json.charAt(++i);
+            switch (escaped) {
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (i + 4 >= to) {
+                        return null;
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(json, i + 1, i + 5, 16));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                    i += 4;
+                }
+                default -> sb.append(escaped); // \" \\ \/
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
+import site.janchwi.global.config.JwtVerificationResult;
 
 @Component
 public class SecurityUtils {
@@ -26,4 +27,12 @@ public class SecurityUtils {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 인증 정보입니다.");
         }
     }
+
+    /**
+     * 현재 요청의 Access Token 검증 결과 (JWT 인증이 아니면 null)
+     */
+    public JwtVerificationResult getCurrentAccessToken() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getDetails() instanceof JwtVerificationResult token ? token : null;
+    }
 }
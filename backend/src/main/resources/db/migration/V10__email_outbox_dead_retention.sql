@@ -0,0 +1,15 @@
+-- DEAD 행 보관 기한 및 슬롯 값 제거
+-- - 슬롯 값(인증 코드 등)은 발송에만 필요하므로 DEAD 로 바꿀 때 비움 (원인 확인용 last_error 만 보관)
+-- - dead_at 기준으로 보관 기한이 지난 DEAD 행은 EmailOutboxDispatcher 가 삭제
+
+ALTER TABLE email_outbox
+    ADD COLUMN dead_at TIMESTAMP(6) WITH TIME ZONE;
+
+UPDATE email_outbox
+SET variables = '', dead_at = now()
+WHERE status = 'DEAD';
+
+-- 보관 기한 정리 (DEAD 행만 색인)
+CREATE INDEX ix_email_outbox_dead_at
+    ON email_outbox (dead_at)
+    WHERE status = 'DEAD';
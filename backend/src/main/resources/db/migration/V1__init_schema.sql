@@ -0,0 +1,39 @@
+-- 초기 스키마 (기존 ddl-auto: update 로 생성되던 구조와 동일)
+-- 이미 테이블이 있는 DB는 baseline(V1)으로 건너뜀
+
+CREATE TABLE users (
+    id                            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    email                         VARCHAR(255)             NOT NULL,
+    password                      VARCHAR(60)              NOT NULL,
+    nickname                      VARCHAR(10)              NOT NULL,
+    birth_date                    DATE                     NOT NULL,
+    profile_image_url             VARCHAR(500),
+    gender                        VARCHAR(10),
+    bio                           VARCHAR(50),
+    is_email_verified             BOOLEAN                  NOT NULL DEFAULT FALSE,
+    email_verification_code_hash  VARCHAR(255),
+    email_verification_expiry     TIMESTAMP(6) WITH TIME ZONE,
+    verification_attempts         INTEGER                  NOT NULL DEFAULT 0,
+    is_active                     BOOLEAN                  NOT NULL DEFAULT TRUE,
+    last_login_at                 TIMESTAMP(6) WITH TIME ZONE,
+    failed_login_attempts         INTEGER                  NOT NULL DEFAULT 0,
+    account_locked_until          TIMESTAMP(6) WITH TIME ZONE,
+    created_at                    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at                    TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname),
+    CONSTRAINT ck_users_gender CHECK (gender IN ('MALE', 'FEMALE', 'OTHER'))
+);
+
+CREATE TABLE refresh_tokens (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    user_id     BIGINT                      NOT NULL,
+    token_hash  VARCHAR(255)                NOT NULL,
+    expires_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT pk_refresh_tokens PRIMARY KEY (id),
+    CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
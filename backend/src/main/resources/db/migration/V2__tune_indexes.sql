@@ -0,0 +1,37 @@
+-- 조회 패턴에 맞춘 인덱스
+
+-- 이메일은 대소문자 구분 없이 유일 (로그인/중복 확인은 lower(email) 로 조회)
+-- 기존 대소문자 구분 유일 제약은 중복 인덱스이므로 제거 (ddl-auto 로 생성된 DB는 제약 이름이 다르므로 컬럼 기준으로 탐색)
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT con.conname
+        FROM pg_constraint con
+        JOIN pg_attribute att ON att.attrelid = con.conrelid AND att.attnum = ANY (con.conkey)
+        WHERE con.conrelid = 'users'::regclass
+          AND con.contype = 'u'
+          AND cardinality(con.conkey) = 1
+          AND att.attname = 'email'
+    LOOP
+        EXECUTE format('ALTER TABLE users DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_users_email_lower ON users (lower(email));
+
+-- 미인증 사용자 전용 부분 인덱스 (인증 완료 사용자는 인덱스에 포함되지 않음)
+CREATE INDEX IF NOT EXISTS ix_users_unverified_created_at
+    ON users (created_at)
+    WHERE is_email_verified = FALSE;
+
+CREATE INDEX IF NOT EXISTS ix_users_unverified_verification_expiry
+    ON users (email_verification_expiry)
+    WHERE is_email_verified = FALSE AND email_verification_code_hash IS NOT NULL;
+
+-- 사용자별 Refresh Token 조회/삭제 (로그인, 로그아웃)
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_user_id ON refresh_tokens (user_id);
+
+-- 만료 토큰 정리 (TokenCleanupScheduler)
+CREATE INDEX IF NOT EXISTS ix_refresh_tokens_expires_at ON refresh_tokens (expires_at);
@@ -0,0 +1,30 @@
+-- 기기(세션)별 Refresh Token
+-- - (user_id, session_id) 당 한 행: 로그인은 INSERT ... ON CONFLICT DO UPDATE 한 문장으로 저장
+-- - family_id: 로그인 시 새로 발급, 재발급(rotation) 동안 유지 - 재사용 감지 시 계열 전체 폐기
+-- - previous_token_hash: 직전에 교체된 토큰 해시 (재사용 감지용)
+
+ALTER TABLE refresh_tokens
+    ADD COLUMN session_id          VARCHAR(64),
+    ADD COLUMN family_id           UUID,
+    ADD COLUMN previous_token_hash VARCHAR(255);
+
+-- 기존 토큰은 사용자당 하나였으므로 각각 별도 세션으로 이관
+UPDATE refresh_tokens
+SET session_id = 'legacy-' || id,
+    family_id  = gen_random_uuid();
+
+ALTER TABLE refresh_tokens
+    ALTER COLUMN session_id SET NOT NULL,
+    ALTER COLUMN family_id SET NOT NULL;
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT uk_refresh_tokens_user_session UNIQUE (user_id, session_id);
+
+-- user_id 단독 조회는 uk_refresh_tokens_user_session 의 선두 컬럼으로 처리
+DROP INDEX IF EXISTS ix_refresh_tokens_user_id;
+
+CREATE INDEX ix_refresh_tokens_family_id ON refresh_tokens (family_id);
+
+CREATE INDEX ix_refresh_tokens_previous_token_hash
+    ON refresh_tokens (previous_token_hash)
+    WHERE previous_token_hash IS NOT NULL;
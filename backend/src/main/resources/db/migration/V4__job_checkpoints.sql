@@ -0,0 +1,10 @@
+-- 배치 작업 진행 상황 (노드 재시작 시 이어서 실행)
+CREATE TABLE job_checkpoints (
+    job_name        VARCHAR(64)                 NOT NULL,
+    cutoff          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    processed_rows  BIGINT                      NOT NULL DEFAULT 0,
+    started_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    completed_at    TIMESTAMP(6) WITH TIME ZONE,
+    CONSTRAINT pk_job_checkpoints PRIMARY KEY (job_name)
+);
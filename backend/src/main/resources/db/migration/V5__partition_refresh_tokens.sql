@@ -0,0 +1,64 @@
+-- refresh_tokens 를 expires_at 기준 일(UTC) 단위 범위 파티션으로 전환
+-- - 만료 정리는 행 삭제 대신 지난 파티션을 DETACH 후 DROP (dead tuple/WAL 없음)
+-- - 파티션 키가 포함되지 않는 유일 제약은 만들 수 없으므로
+--   (user_id, session_id) 유일성은 쓰기 경로(같은 세션 행 삭제 후 삽입)에서 보장
+-- - 이후 파티션은 RefreshTokenPartitionManager 가 미리 생성/정리
+
+CREATE TABLE refresh_tokens_partitioned (
+    id                  BIGINT                      NOT NULL,
+    user_id             BIGINT                      NOT NULL,
+    session_id          VARCHAR(64)                 NOT NULL,
+    family_id           UUID                        NOT NULL,
+    token_hash          VARCHAR(255)                NOT NULL,
+    previous_token_hash VARCHAR(255),
+    expires_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    created_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    updated_at          TIMESTAMP(6) WITH TIME ZONE NOT NULL
+) PARTITION BY RANGE (expires_at);
+
+-- 어제부터 (만료 기간 7일 + 여유 3일) 까지의 파티션 생성
+DO $$
+DECLARE
+    today DATE := (now() AT TIME ZONE 'UTC')::date;
+    day   DATE;
+BEGIN
+    FOR i IN -1..10 LOOP
+        day := today + i;
+        EXECUTE format(
+            'CREATE TABLE %I PARTITION OF refresh_tokens_partitioned FOR VALUES FROM (%L) TO (%L)',
+            'refresh_tokens_p' || to_char(day, 'YYYYMMDD'),
+            day::timestamp AT TIME ZONE 'UTC',
+            (day + 1)::timestamp AT TIME ZONE 'UTC'
+        );
+    END LOOP;
+END $$;
+
+-- 아직 만료되지 않은(어제 이후) 토큰만 이관
+INSERT INTO refresh_tokens_partitioned (id, user_id, session_id, family_id, token_hash, previous_token_hash,
+                                        expires_at, created_at, updated_at)
+SELECT id, user_id, session_id, family_id, token_hash, previous_token_hash, expires_at, created_at, updated_at
+FROM refresh_tokens
+WHERE expires_at >= ((now() AT TIME ZONE 'UTC')::date - 1)::timestamp AT TIME ZONE 'UTC';
+
+DROP TABLE refresh_tokens;
+ALTER TABLE refresh_tokens_partitioned RENAME TO refresh_tokens;
+
+-- PostgreSQL 16 은 파티션 테이블의 IDENTITY 컬럼을 지원하지 않으므로 시퀀스 기본값 사용
+CREATE SEQUENCE refresh_tokens_id_seq OWNED BY refresh_tokens.id;
+ALTER TABLE refresh_tokens ALTER COLUMN id SET DEFAULT nextval('refresh_tokens_id_seq');
+SELECT setval('refresh_tokens_id_seq', COALESCE((SELECT max(id) FROM refresh_tokens), 0) + 1, false);
+
+-- 파티션 키를 포함한 제약 (token_hash 는 jti 포함 토큰의 SHA-256 이므로 사실상 전역 유일)
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT pk_refresh_tokens PRIMARY KEY (id, expires_at),
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash, expires_at),
+    ADD CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users (id);
+
+CREATE INDEX ix_refresh_tokens_user_session ON refresh_tokens (user_id, session_id);
+CREATE INDEX ix_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX ix_refresh_tokens_previous_token_hash
+    ON refresh_tokens (previous_token_hash)
+    WHERE previous_token_hash IS NOT NULL;
+
+-- 청크 삭제 체크포인트는 파티션 DROP 으로 대체
+DROP TABLE job_checkpoints;
@@ -0,0 +1,14 @@
+-- 토큰/인증 코드 해시를 16진수 문자열(64자)에서 SHA-256 원본 32바이트(bytea)로 전환
+-- - 기존 값은 decode(hex) 로 그대로 변환되므로 발급된 Refresh Token/인증 코드는 계속 유효
+-- - 인덱스 키가 절반 이하로 줄어 token_hash 조회 시 캐시 적중률 향상
+-- - 파티션 테이블의 컬럼 타입 변경은 모든 파티션과 인덱스에 전파됨
+
+ALTER TABLE refresh_tokens
+    ALTER COLUMN token_hash TYPE BYTEA USING decode(token_hash, 'hex'),
+    ALTER COLUMN previous_token_hash TYPE BYTEA USING decode(previous_token_hash, 'hex');
+
+ALTER TABLE refresh_tokens
+    ADD CONSTRAINT ck_refresh_tokens_token_hash_length CHECK (octet_length(token_hash) = 32);
+
+ALTER TABLE users
+    ALTER COLUMN email_verification_code_hash TYPE BYTEA USING decode(email_verification_code_hash, 'hex');
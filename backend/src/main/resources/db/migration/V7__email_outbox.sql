@@ -0,0 +1,23 @@
+-- 이메일 발송 outbox
+-- - 발송 요청은 업무 트랜잭션 안에서 행으로만 기록 (SMTP 왕복은 요청 스레드/DB 커넥션 밖에서 수행)
+-- - EmailOutboxDispatcher 가 FOR UPDATE SKIP LOCKED 로 가져가 발송, 성공 시 삭제
+-- - 실패 시 next_attempt_at 을 지수 백오프로 미루고, 최대 시도 횟수 초과 또는 만료 시 DEAD 로 보관
+
+CREATE TABLE email_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    recipient       VARCHAR(255)                NOT NULL,
+    subject         VARCHAR(255)                NOT NULL,
+    body            TEXT                        NOT NULL,
+    status          VARCHAR(10)                 NOT NULL DEFAULT 'PENDING',
+    attempts        INTEGER                     NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now(),
+    expires_at      TIMESTAMP(6) WITH TIME ZONE,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL DEFAULT now(),
+    CONSTRAINT ck_email_outbox_status CHECK (status IN ('PENDING', 'DEAD'))
+);
+
+-- 발송 대상 조회 (PENDING 행만 색인)
+CREATE INDEX ix_email_outbox_pending_next_attempt_at
+    ON email_outbox (next_attempt_at)
+    WHERE status = 'PENDING';
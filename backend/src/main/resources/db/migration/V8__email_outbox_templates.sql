@@ -0,0 +1,12 @@
+-- 이메일 outbox 를 발송 시점 렌더링으로 전환
+-- - 렌더링된 제목/본문(약 6KB) 대신 템플릿 이름, 언어, 슬롯 값만 보관
+-- - 기존 행은 새 형식으로 옮길 수 없어 삭제 (인증 코드는 15분 후 만료되며 재요청 가능)
+
+DELETE FROM email_outbox;
+
+ALTER TABLE email_outbox
+    DROP COLUMN subject,
+    DROP COLUMN body,
+    ADD COLUMN template  VARCHAR(50) NOT NULL,
+    ADD COLUMN locale    VARCHAR(10) NOT NULL,
+    ADD COLUMN variables TEXT        NOT NULL;
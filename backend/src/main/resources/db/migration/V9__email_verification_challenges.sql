@@ -0,0 +1,31 @@
+-- 이메일 인증 코드 상태를 users 행에서 분리
+-- - 발급/오답마다 넓은 users 행을 다시 쓰지 않고 좁은 전용 테이블만 갱신
+-- - 인증 코드는 15분짜리 임시 데이터이므로 UNLOGGED (WAL 미기록, 비정상 종료 시 비워짐 - 재요청으로 복구)
+-- - 만료 후 정리는 DatabaseVerificationChallengeStore 가 expires_at 기준으로 삭제
+-- - 인증이 끝난 사용자에게 남던 빈 컬럼 제거
+
+CREATE UNLOGGED TABLE email_verification_challenges (
+    user_id    BIGINT                      PRIMARY KEY REFERENCES users (id) ON DELETE CASCADE,
+    code_hash  BYTEA                       NOT NULL,
+    expires_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    attempts   INTEGER                     NOT NULL DEFAULT 0,
+    CONSTRAINT ck_email_verification_challenges_code_hash_length CHECK (octet_length(code_hash) = 32)
+);
+
+-- 만료 코드 정리
+CREATE INDEX ix_email_verification_challenges_expires_at
+    ON email_verification_challenges (expires_at);
+
+-- 아직 유효한 인증 코드는 그대로 이전
+INSERT INTO email_verification_challenges (user_id, code_hash, expires_at, attempts)
+SELECT id, email_verification_code_hash, email_verification_expiry, verification_attempts
+FROM users
+WHERE is_email_verified = FALSE
+  AND email_verification_code_hash IS NOT NULL
+  AND email_verification_expiry > now();
+
+-- 부분 인덱스 ix_users_unverified_verification_expiry 는 컬럼과 함께 삭제됨
+ALTER TABLE users
+    DROP COLUMN email_verification_code_hash,
+    DROP COLUMN email_verification_expiry,
+    DROP COLUMN verification_attempts;
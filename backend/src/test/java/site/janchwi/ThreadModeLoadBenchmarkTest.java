@@ -0,0 +1,232 @@
+package site.janchwi;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.common.Constants;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 요청 처리 스레드 방식 부하 비교 - 플랫폼 스레드 풀(Tomcat 기본) vs 가상 스레드
+ * - 모드마다 애플리케이션을 실제 포트로 띄우고 HTTP 로 로그인 / Refresh Token 재발급 호출
+ * - 동시 클라이언트 수를 Tomcat 스레드 수(200)보다 크게 두어 대기 위치 차이(요청 큐 vs 커넥션 풀)를 확인
+ * - 요청 빈도 제한과 BCrypt 격벽 대기열 상한은 풀고, 클라이언트마다 X-Device-Id 를 달리해 세션이 서로 교체되지 않게 함
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("스레드 방식 부하 벤치마크")
+class ThreadModeLoadBenchmarkTest {
+
+    private static final int CLIENTS = 400;
+    private static final int LOGINS_PER_CLIENT = 5;
+    private static final int REFRESHES_PER_CLIENT = 20;
+    private static final String EMAIL = "load@example.com";
+    private static final String PASSWORD = "password123";
+
+    @BeforeAll
+    static void startContainer() {
+        if (!AbstractIntegrationTest.postgresContainer.isRunning()) {
+            AbstractIntegrationTest.postgresContainer.start();
+        }
+    }
+
+    @Test
+    @DisplayName("두 모드 모두 오류 없이 처리하고 지연/처리량을 비교")
+    void compareThreadModes() throws Exception {
+        run(false); // 워밍업 (JIT, 커넥션 풀)
+        ModeResult platform = run(false);
+        ModeResult virtual = run(true);
+
+        System.out.printf("%n%-20s %-9s %10s %10s %10s %8s %8s%n",
+                "mode", "endpoint", "p50 (ms)", "p99 (ms)", "req/s", "errors", "pinned");
+        platform.print("platform (200)");
+        virtual.print("virtual");
+        System.out.println();
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private ModeResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = start(virtualThreads)) {
+            seedUser(context);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+
+            long[][] latencies = new long[2][CLIENTS * Math.max(LOGINS_PER_CLIENT, REFRESHES_PER_CLIENT)];
+            AtomicInteger[] counts = {new AtomicInteger(), new AtomicInteger()};
+            AtomicInteger errors = new AtomicInteger();
+            long[] elapsedNanos = new long[2];
+
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+                 HttpClient http = HttpClient.newBuilder()
+                         .version(HttpClient.Version.HTTP_1_1)
+                         .executor(clients)
+                         .build()) {
+                String[] cookies = new String[CLIENTS];
+
+                // 로그인 구간
+                elapsedNanos[0] = phase(clients, client -> {
+                    for (int i = 0; i < LOGINS_PER_CLIENT; i++) {
+                        long startedAt = System.nanoTime();
+                        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v1/auth/login"))
+                                .header("Content-Type", "application/json")
+                                .header(Constants.DEVICE_ID_HEADER, "load-" + client)
+                                .POST(HttpRequest.BodyPublishers.ofString(
+                                        "{\"email\":\"" + EMAIL + "\",\"password\":\"" + PASSWORD + "\"}"))
+                                .build(), HttpResponse.BodyHandlers.ofString());
+                        latencies[0][counts[0].getAndIncrement()] = System.nanoTime() - startedAt;
+                        if (response.statusCode() == 200) {
+                            cookies[client] = refreshCookie(response);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+
+                // Refresh Token 재발급 구간 (클라이언트마다 자기 세션을 연속 교체)
+                elapsedNanos[1] = phase(clients, client -> {
+                    for (int i = 0; i < REFRESHES_PER_CLIENT && cookies[client] != null; i++) {
+                        long startedAt = System.nanoTime();
+                        HttpResponse<String> response = http.send(HttpRequest.newBuilder(URI.create(baseUrl + "/v1/auth/refresh"))
+                                .header("Cookie", cookies[client])
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build(), HttpResponse.BodyHandlers.ofString());
+                        latencies[1][counts[1].getAndIncrement()] = System.nanoTime() - startedAt;
+                        if (response.statusCode() == 200) {
+                            cookies[client] = refreshCookie(response);
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    }
+                });
+            }
+
+            Counter pinned = context.getBean(MeterRegistry.class).find("jvm.threads.virtual.pinned").counter();
+            return new ModeResult(
+                    EndpointResult.of(Arrays.copyOf(latencies[0], counts[0].get()), elapsedNanos[0]),
+                    EndpointResult.of(Arrays.copyOf(latencies[1], counts[1].get()), elapsedNanos[1]),
+                    errors.get(),
+                    pinned != null ? String.valueOf((long) pinned.count()) : "-");
+        }
+    }
+
+    private static ConfigurableApplicationContext start(boolean virtualThreads) {
+        return new SpringApplicationBuilder(JanchwiBackendApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.datasource.url=" + AbstractIntegrationTest.postgresContainer.getJdbcUrl(),
+                        "spring.datasource.username=" + AbstractIntegrationTest.postgresContainer.getUsername(),
+                        "spring.datasource.password=" + AbstractIntegrationTest.postgresContainer.getPassword(),
+                        "security.rate-limit.enabled=false",
+                        "security.password-hashing.queue-capacity=" + CLIENTS, // BCrypt 격벽 거절(503) 없이 비교
+                        "spring.jpa.show-sql=false",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO")
+                .run();
+    }
+
+    private static void seedUser(ConfigurableApplicationContext context) {
+        context.getBean(RefreshTokenRepository.class).deleteAll();
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        userRepository.deleteAll();
+
+        User user = User.builder()
+                .email(EMAIL)
+                .password(context.getBean(PasswordEncoder.class).encode(PASSWORD))
+                .nickname("load")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build();
+        user.verifyEmail();
+        userRepository.save(user);
+    }
+
+    /**
+     * 클라이언트 수만큼 동시에 시작해 모두 끝날 때까지의 시간 (나노초)
+     */
+    private static long phase(ExecutorService clients, ClientTask task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CLIENTS);
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            clients.submit(() -> {
+                try {
+                    start.await();
+                    task.run(client);
+                } finally {
+                    done.countDown();
+                }
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        return System.nanoTime() - startedAt;
+    }
+
+    private static String refreshCookie(HttpResponse<?> response) {
+        String prefix = Constants.REFRESH_TOKEN_COOKIE_NAME + "=";
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(value -> value.startsWith(prefix))
+                .map(value -> value.substring(0, value.indexOf(';') > 0 ? value.indexOf(';') : value.length()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    @FunctionalInterface
+    private interface ClientTask {
+        void run(int client) throws Exception;
+    }
+
+    private record EndpointResult(double p50, double p99, long throughput) {
+
+        static EndpointResult of(long[] latencies, long elapsedNanos) {
+            Arrays.sort(latencies);
+            if (latencies.length == 0) {
+                return new EndpointResult(0, 0, 0);
+            }
+            return new EndpointResult(
+                    latencies[latencies.length / 2] / 1_000_000.0,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000_000.0,
+                    latencies.length * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
+    private record ModeResult(EndpointResult login, EndpointResult refresh, int errors, String pinned) {
+
+        void print(String mode) {
+            System.out.printf("%-20s %-9s %10.2f %10.2f %10d %8d %8s%n",
+                    mode, "login", login.p50(), login.p99(), login.throughput(), errors, pinned);
+            System.out.printf("%-20s %-9s %10.2f %10.2f %10d %8s %8s%n",
+                    "", "refresh", refresh.p50(), refresh.p99(), refresh.throughput(), "", "");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package site.janchwi.domain.auth.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -8,31 +10,45 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.server.ResponseStatusException;
 import site.janchwi.domain.auth.dto.LoginRequest;
 import site.janchwi.domain.auth.dto.SignupRequest;
 import site.janchwi.domain.auth.dto.TokenPairDto;
-import site.janchwi.domain.refreshtokens.entity.RefreshToken;
+import site.janchwi.domain.auth.dto.VerificationCheck;
+import site.janchwi.domain.auth.service.AuthMetrics.Flow;
+import site.janchwi.domain.auth.service.AuthMetrics.Outcome;
+import site.janchwi.domain.auth.service.AuthMetrics.Phase;
+import site.janchwi.domain.refreshtokens.dto.RefreshOutcome;
 import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.dto.UserCredential;
 import site.janchwi.domain.users.entity.Gender;
 import site.janchwi.domain.users.entity.User;
 import site.janchwi.domain.users.repository.UserRepository;
 import site.janchwi.global.common.Constants;
 import site.janchwi.global.config.JwtTokenProvider;
+import site.janchwi.global.config.JwtVerificationCache;
+import site.janchwi.global.config.JwtVerificationResult;
 import site.janchwi.global.email.EmailService;
 import site.janchwi.global.exception.AccountLockedException;
 import site.janchwi.global.exception.EmailNotVerifiedException;
+import site.janchwi.global.exception.RateLimitExceededException;
+import site.janchwi.global.exception.ServiceOverloadedException;
+import site.janchwi.global.util.HashUtils;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -44,6 +60,8 @@ import static org.mockito.Mockito.*;
 @SuppressWarnings("DataFlowIssue")
 class AuthServiceTest {
 
+    private static final UUID FAMILY_ID = UUID.fromString("3f2b8c1e-6d4a-4e7b-9a1c-2d5e8f0a7b63");
+
     @Mock
     private UserRepository userRepository;
 
@@ -56,11 +74,34 @@ class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private JwtVerificationCache jwtVerificationCache;
+
     @Mock
     private EmailService emailService;
 
     @Mock
-    private LoginAttemptService loginAttemptService;
+    private LoginAttemptTracker loginAttemptTracker;
+
+    @Mock
+    private LastLoginWriter lastLoginWriter;
+
+    @Mock
+    private VerificationResendThrottle verificationResendThrottle;
+
+    @Mock
+    private VerificationChallengeStore verificationChallengeStore;
+
+    @Mock
+    private IdentifierAvailabilityFilter availabilityFilter;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private AuthMetrics authMetrics = new AuthMetrics(meterRegistry);
 
     @InjectMocks
     private AuthService authService;
@@ -71,6 +112,10 @@ class AuthServiceTest {
 
     @BeforeEach
     void setUp() {
+        // TransactionTemplate은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+
         // 테스트용 사용자 생성 (Builder 패턴 사용)
         testUser = User.builder()
                 .email("test@example.com")
@@ -113,15 +158,14 @@ class AuthServiceTest {
         @DisplayName("로그인 성공")
         void login_Success() {
             // given
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
             given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
             given(jwtTokenProvider.createAccessToken(1L)).willReturn("accessToken");
-            given(jwtTokenProvider.createRefreshToken(1L)).willReturn("refreshToken");
-            given(refreshTokenRepository.findByUser(testUser)).willReturn(Optional.empty());
-            doNothing().when(loginAttemptService).onLoginSuccess(1L);
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("refreshToken");
+            doNothing().when(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
 
             // when
-            TokenPairDto result = authService.login(loginRequest);
+            TokenPairDto result = authService.login(loginRequest, null);
 
             // then
             assertThat(result).isNotNull();
@@ -129,21 +173,97 @@ class AuthServiceTest {
             assertThat(result.getAccessToken()).isEqualTo("accessToken");
             assertThat(result.getRefreshToken()).isEqualTo("refreshToken");
 
-            // LoginAttemptService.onLoginSuccess 호출 검증
-            verify(loginAttemptService).onLoginSuccess(1L);
+            // LoginAttemptService.onLoginSuccess 호출 검증 (토큰 저장과 같은 트랜잭션)
+            verify(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
+            verify(transactionTemplate).execute(any());
+
+            // 엔티티 대신 인증 정보 프로젝션만 조회
+            verify(userRepository, never()).findByEmail(anyString());
+
+            // 마지막 로그인 시간은 일괄 반영 버퍼에 기록
+            verify(lastLoginWriter).record(eq(1L), any(Instant.class));
+
+            // RefreshToken 저장 검증 (세션 교체 한 문장, 기기 ID가 없으면 새 세션)
+            verify(refreshTokenRepository).replaceSession(
+                    eq(1L), anyString(), any(UUID.class), eq(HashUtils.sha256("refreshToken")), any(Instant.class));
+
+            // 구간별/결과별 시간 기록
+            assertThat(flowCount(Flow.LOGIN, Outcome.OK)).isEqualTo(1);
+            assertThat(phaseCount(Flow.LOGIN, Phase.PASSWORD_VERIFY)).isEqualTo(1);
+            assertThat(phaseCount(Flow.LOGIN, Phase.SESSION_WRITE)).isEqualTo(1);
+            assertThat(phaseCount(Flow.LOGIN, Phase.PASSWORD_HASH)).isZero();
+        }
+
+        @Test
+        @DisplayName("로그인 성공 - 기기 ID가 있으면 기기별 세션으로 저장")
+        void login_Success_DeviceSession() {
+            // given
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
+            given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
+            given(jwtTokenProvider.createAccessToken(1L)).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("refreshToken");
+
+            // when
+            authService.login(loginRequest, "phone-1");
+            authService.login(loginRequest, "bad device id!");
+
+            // then
+            ArgumentCaptor<String> sessionIds = ArgumentCaptor.forClass(String.class);
+            verify(refreshTokenRepository, times(2)).replaceSession(
+                    eq(1L), sessionIds.capture(), any(UUID.class), any(byte[].class), any(Instant.class));
+            assertThat(sessionIds.getAllValues().get(0)).isEqualTo("phone-1");
+            assertThat(sessionIds.getAllValues().get(1)).isNotEqualTo("bad device id!").hasSize(36); // 새 UUID 세션
+        }
+
+        @Test
+        @DisplayName("로그인 성공 - 저장된 해시의 strength가 다르면 재해시")
+        void login_Success_RehashPassword() {
+            // given
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
+            given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willReturn("rehashedPassword");
+            given(userRepository.updatePassword(1L, "encodedPassword", "rehashedPassword")).willReturn(1);
+            given(jwtTokenProvider.createAccessToken(1L)).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("refreshToken");
+
+            // when
+            TokenPairDto result = authService.login(loginRequest, null);
+
+            // then
+            assertThat(result.getAccessToken()).isEqualTo("accessToken");
+            verify(userRepository).updatePassword(1L, "encodedPassword", "rehashedPassword");
+            verify(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
+        }
+
+        @Test
+        @DisplayName("로그인 성공 - 해싱 대기열 초과 시 재해시만 생략")
+        void login_Success_SkipRehashWhenOverloaded() {
+            // given
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
+            given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
+            given(passwordEncoder.upgradeEncoding("encodedPassword")).willReturn(true);
+            given(passwordEncoder.encode("password123")).willThrow(new ServiceOverloadedException("overloaded", 1));
+            given(jwtTokenProvider.createAccessToken(1L)).willReturn("accessToken");
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("refreshToken");
+
+            // when
+            TokenPairDto result = authService.login(loginRequest, null);
 
-            // RefreshToken 저장 검증
-            verify(refreshTokenRepository).save(any(RefreshToken.class));
+            // then
+            assertThat(result.getAccessToken()).isEqualTo("accessToken");
+            verify(userRepository, never()).updatePassword(anyLong(), anyString(), anyString());
+            verify(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
         }
 
         @Test
         @DisplayName("로그인 실패 - 존재하지 않는 이메일")
         void login_Fail_UserNotFound() {
             // given
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.empty());
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(ResponseStatusException.class)
                     .satisfies(ex -> {
                         ResponseStatusException rse = (ResponseStatusException) ex;
@@ -158,12 +278,12 @@ class AuthServiceTest {
         @DisplayName("로그인 실패 - 비밀번호 불일치")
         void login_Fail_WrongPassword() {
             // given
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
             given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(false);
-            doNothing().when(loginAttemptService).onLoginFailure(1L);
+            doNothing().when(loginAttemptTracker).onLoginFailure(any(UserCredential.class));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(ResponseStatusException.class)
                     .satisfies(ex -> {
                         ResponseStatusException rse = (ResponseStatusException) ex;
@@ -171,10 +291,14 @@ class AuthServiceTest {
                         assertThat(rse.getReason()).contains("이메일 또는 비밀번호가 일치하지 않습니다");
                     });
 
-            // LoginAttemptService.onLoginFailure 호출 검증
-            verify(loginAttemptService).onLoginFailure(1L);
+            // LoginAttemptService.onLoginFailure 호출 검증 (로그인 트랜잭션 없이 자체 커밋)
+            verify(loginAttemptTracker).onLoginFailure(any(UserCredential.class));
+            verify(transactionTemplate, never()).execute(any());
+            verify(lastLoginWriter, never()).record(anyLong(), any());
 
             verify(jwtTokenProvider, never()).createAccessToken(anyLong());
+            assertThat(flowCount(Flow.LOGIN, Outcome.BAD_PASSWORD)).isEqualTo(1);
+            assertThat(phaseCount(Flow.LOGIN, Phase.SESSION_WRITE)).isZero();
         }
 
         @Test
@@ -200,16 +324,17 @@ class AuthServiceTest {
                 throw new RuntimeException("Failed to set user id", e);
             }
 
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(unverifiedUser)));
             given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true); // 비밀번호는 맞음
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(EmailNotVerifiedException.class)
                     .hasMessageContaining("이메일 인증이 필요합니다");
 
             // 비밀번호는 검증되어야 함
             verify(passwordEncoder).matches("password123", "encodedPassword");
+            assertThat(flowCount(Flow.LOGIN, Outcome.UNVERIFIED)).isEqualTo(1);
         }
 
         @Test
@@ -217,10 +342,10 @@ class AuthServiceTest {
         void login_Fail_AccountLocked() {
             // given
             testUser.lockAccount(30); // 30분 잠금
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(testUser)));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(AccountLockedException.class)
                     .hasMessageContaining("계정이 일시적으로 잠겼습니다")
                     .hasMessageContaining(String.valueOf(Constants.ACCOUNT_LOCK_DURATION_MINUTES));
@@ -228,6 +353,22 @@ class AuthServiceTest {
             verify(passwordEncoder, never()).matches(anyString(), anyString());
         }
 
+        @Test
+        @DisplayName("로그인 실패 - 메모리에서 잠금 확인 시 DB 조회/비밀번호 검증 생략")
+        void login_Fail_LockedInMemory() {
+            // given
+            given(loginAttemptTracker.isLocked("test@example.com")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
+                    .isInstanceOf(AccountLockedException.class);
+
+            verify(userRepository, never()).findCredentialByEmail(anyString());
+            verify(passwordEncoder, never()).matches(anyString(), anyString());
+            assertThat(flowCount(Flow.LOGIN, Outcome.LOCKED)).isEqualTo(1);
+            assertThat(phaseCount(Flow.LOGIN, Phase.LOOKUP)).isZero();
+        }
+
         @Test
         @DisplayName("계정 잠금 만료 후 실패 횟수 자동 초기화")
         void login_AccountLockExpired_ResetFailedAttempts() {
@@ -256,22 +397,22 @@ class AuthServiceTest {
                 throw new RuntimeException("Failed to set user fields", e);
             }
 
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(lockedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(lockedUser)));
             given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(true);
             given(jwtTokenProvider.createAccessToken(1L)).willReturn("accessToken");
-            given(jwtTokenProvider.createRefreshToken(1L)).willReturn("refreshToken");
-            given(refreshTokenRepository.findByUser(lockedUser)).willReturn(Optional.empty());
-            doNothing().when(loginAttemptService).onLoginSuccess(1L);
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("refreshToken");
+            doNothing().when(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
 
             // when
-            TokenPairDto result = authService.login(loginRequest);
+            TokenPairDto result = authService.login(loginRequest, null);
 
             // then
             assertThat(result).isNotNull();
             assertThat(result.getAccessToken()).isEqualTo("accessToken");
 
-            // 잠금 만료로 인한 초기화 + 로그인 성공 초기화 = 총 2번 호출
-            verify(loginAttemptService, times(2)).onLoginSuccess(1L);
+            // 잠금 만료 정리 + 로그인 성공 초기화
+            verify(loginAttemptTracker).onLockExpired(any(UserCredential.class));
+            verify(loginAttemptTracker).onLoginSuccess(any(UserCredential.class));
         }
 
         @Test
@@ -297,16 +438,16 @@ class AuthServiceTest {
                 throw new RuntimeException("Failed to set user id", e);
             }
 
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(user));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(user)));
             given(passwordEncoder.matches("password123", "encodedPassword")).willReturn(false);
-            doNothing().when(loginAttemptService).onLoginFailure(1L);
+            doNothing().when(loginAttemptTracker).onLoginFailure(any(UserCredential.class));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(ResponseStatusException.class);
 
             // LoginAttemptService.onLoginFailure 호출 검증 (5번째 실패)
-            verify(loginAttemptService).onLoginFailure(1L);
+            verify(loginAttemptTracker).onLoginFailure(any(UserCredential.class));
         }
 
         @Test
@@ -323,10 +464,10 @@ class AuthServiceTest {
                     .failedLoginAttempts(0)
                     .build();
 
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(inactiveUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(credentialOf(inactiveUser)));
 
             // when & then
-            assertThatThrownBy(() -> authService.login(loginRequest))
+            assertThatThrownBy(() -> authService.login(loginRequest, null))
                     .isInstanceOf(ResponseStatusException.class)
                     .satisfies(ex -> {
                         ResponseStatusException rse = (ResponseStatusException) ex;
@@ -341,11 +482,9 @@ class AuthServiceTest {
     class SignupTests {
 
         @Test
-        @DisplayName("회원가입 성공")
+        @DisplayName("회원가입 성공 - 중복 확인 조회 없이 INSERT 한 번")
         void signup_Success() {
             // given
-            given(userRepository.existsByEmail("new@example.com")).willReturn(false);
-            given(userRepository.existsByNickname("newuser")).willReturn(false);
             given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
 
             User savedUser = User.builder()
@@ -389,15 +528,23 @@ class AuthServiceTest {
 
             // 토큰은 생성되지 않음
             verify(jwtTokenProvider, never()).createAccessToken(anyLong());
-            verify(jwtTokenProvider, never()).createRefreshToken(anyLong());
-            verify(refreshTokenRepository, never()).save(any(RefreshToken.class));
+            verify(jwtTokenProvider, never()).createRefreshToken(anyLong(), any());
+            verify(refreshTokenRepository, never()).replaceSession(anyLong(), anyString(), any(), any(), any());
+
+            // 중복 확인은 유일 제약에 맡김
+            verify(userRepository, never()).existsByEmail(anyString());
+            verify(userRepository, never()).existsByNickname(anyString());
+
+            // 저장된 사용자는 사용 여부 필터에 추가
+            verify(availabilityFilter).add("new@example.com", "newuser");
         }
 
         @Test
-        @DisplayName("회원가입 실패 - 이메일 중복")
+        @DisplayName("회원가입 실패 - 이메일 중복 (ux_users_email_lower 위반 -> 409)")
         void signup_Fail_DuplicateEmail() {
             // given
-            given(userRepository.existsByEmail("new@example.com")).willReturn(true);
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(uniqueViolation("ux_users_email_lower"));
 
             // when & then
             assertThatThrownBy(() -> authService.signup(signupRequest))
@@ -407,16 +554,14 @@ class AuthServiceTest {
                         assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
                         assertThat(rse.getReason()).contains("이미 사용 중인 이메일입니다");
                     });
-
-            verify(userRepository, never()).save(any());
         }
 
         @Test
-        @DisplayName("회원가입 실패 - 닉네임 중복")
+        @DisplayName("회원가입 실패 - 닉네임 중복 (uk_users_nickname 위반 -> 409)")
         void signup_Fail_DuplicateNickname() {
             // given
-            given(userRepository.existsByEmail("new@example.com")).willReturn(false);
-            given(userRepository.existsByNickname("newuser")).willReturn(true);
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            given(userRepository.save(any(User.class))).willThrow(uniqueViolation("uk_users_nickname"));
 
             // when & then
             assertThatThrownBy(() -> authService.signup(signupRequest))
@@ -426,8 +571,18 @@ class AuthServiceTest {
                         assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
                         assertThat(rse.getReason()).contains("이미 사용 중인 닉네임입니다");
                     });
+        }
 
-            verify(userRepository, never()).save(any());
+        @Test
+        @DisplayName("회원가입 실패 - 알 수 없는 제약 위반은 그대로 전파")
+        void signup_Fail_UnknownConstraint_Propagates() {
+            // given
+            given(passwordEncoder.encode(anyString())).willReturn("encodedPassword");
+            DataIntegrityViolationException violation = uniqueViolation("some_other_constraint");
+            given(userRepository.save(any(User.class))).willThrow(violation);
+
+            // when & then
+            assertThatThrownBy(() -> authService.signup(signupRequest)).isSameAs(violation);
         }
 
         @Test
@@ -444,9 +599,6 @@ class AuthServiceTest {
                     "테스트"
             );
 
-            given(userRepository.existsByEmail("new@example.com")).willReturn(false);
-            given(userRepository.existsByNickname("newuser")).willReturn(false);
-
             // when & then
             assertThatThrownBy(() -> authService.signup(underAgeRequest))
                     .isInstanceOf(ResponseStatusException.class)
@@ -457,6 +609,14 @@ class AuthServiceTest {
                     });
 
             verify(userRepository, never()).save(any());
+            verify(passwordEncoder, never()).encode(anyString());
+        }
+
+        private DataIntegrityViolationException uniqueViolation(String constraintName) {
+            SQLException sqlException = new SQLException(
+                    "duplicate key value violates unique constraint \"" + constraintName + "\"", "23505");
+            return new DataIntegrityViolationException("could not execute statement",
+                    new ConstraintViolationException("could not execute statement", sqlException, constraintName));
         }
     }
 
@@ -464,67 +624,118 @@ class AuthServiceTest {
     @DisplayName("이메일 인증 테스트")
     class EmailVerificationTests {
 
+        private final UserCredential unverifiedCredential =
+                new UserCredential(1L, "test@example.com", "encodedPassword", true, false, null, 0);
+        private final UserCredential verifiedCredential =
+                new UserCredential(1L, "test@example.com", "encodedPassword", true, true, null, 0);
+
         @Test
-        @DisplayName("이메일 인증 코드 발송 성공")
+        @DisplayName("이메일 인증 코드 발송 성공 - 코드는 인증 코드 저장소에만 기록 (users 행 갱신 없음)")
         void sendVerificationCode_Success() {
             // given
-            User unverifiedUser = User.builder()
-                    .email("test@example.com")
-                    .isEmailVerified(false)
-                    .build();
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
             doNothing().when(emailService).sendVerificationEmail(anyString(), anyString());
 
             // when
             authService.sendVerificationCode("test@example.com");
 
             // then
-            assertThat(unverifiedUser.getEmailVerificationCodeHash()).isNotNull();
-            assertThat(unverifiedUser.getEmailVerificationExpiry()).isNotNull();
-            assertThat(unverifiedUser.getVerificationAttempts()).isEqualTo(0);
+            ArgumentCaptor<String> codeCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<byte[]> hashCaptor = ArgumentCaptor.forClass(byte[].class);
+            ArgumentCaptor<Instant> expiryCaptor = ArgumentCaptor.forClass(Instant.class);
+            verify(emailService).sendVerificationEmail(eq("test@example.com"), codeCaptor.capture());
+            verify(verificationChallengeStore).issue(eq(1L), hashCaptor.capture(), expiryCaptor.capture());
+
+            assertThat(codeCaptor.getValue()).hasSize(Constants.EMAIL_VERIFICATION_CODE_LENGTH);
+            assertThat(hashCaptor.getValue()).isEqualTo(HashUtils.sha256(codeCaptor.getValue()));
 
             // 만료 시간 검증 (15분)
             Instant expectedExpiry = Instant.now().plus(Constants.EMAIL_VERIFICATION_EXPIRY_MINUTES, ChronoUnit.MINUTES);
-            assertThat(unverifiedUser.getEmailVerificationExpiry()).isBetween(
+            assertThat(expiryCaptor.getValue()).isBetween(
                     expectedExpiry.minusSeconds(5),
                     expectedExpiry.plusSeconds(5)
             );
 
-            verify(emailService).sendVerificationEmail(eq("test@example.com"), anyString());
+            verify(userRepository, never()).findByEmail(anyString());
+            verify(userRepository, never()).save(any());
         }
 
         @Test
         @DisplayName("이메일 인증 코드 발송 - 존재하지 않는 이메일 (조용히 성공)")
         void sendVerificationCode_UserNotFound_SilentlySucceed() {
             // given
-            given(userRepository.findByEmail("nonexistent@example.com")).willReturn(Optional.empty());
+            given(userRepository.findCredentialByEmail("nonexistent@example.com")).willReturn(Optional.empty());
 
             // when
             authService.sendVerificationCode("nonexistent@example.com");
 
-            // then - 예외가 발생하지 않고 조용히 성공
+            // then - 예외가 발생하지 않고 조용히 성공 (가입된 이메일과 같은 재발송 제한 적용)
+            verify(verificationResendThrottle).acquire("nonexistent@example.com");
             verify(emailService, never()).sendVerificationEmail(anyString(), anyString());
+            verifyNoInteractions(verificationChallengeStore);
+        }
+
+        @Test
+        @DisplayName("이메일 인증 코드 발송 - 직전 요청에 합쳐지면 DB 접근/발송 없이 성공")
+        void sendVerificationCode_Coalesced_SkipsDatabase() {
+            // given
+            given(verificationResendThrottle.acquire("test@example.com"))
+                    .willReturn(VerificationResendThrottle.Decision.COALESCED);
+
+            // when
+            authService.sendVerificationCode("test@example.com");
+
+            // then
+            verifyNoInteractions(userRepository, emailService, transactionTemplate, verificationChallengeStore);
+        }
+
+        @Test
+        @DisplayName("이메일 인증 코드 발송 - 재발송 제한 초과 시 DB 접근 없이 429")
+        void sendVerificationCode_RateLimited_SkipsDatabase() {
+            // given
+            given(verificationResendThrottle.acquire("test@example.com"))
+                    .willThrow(new RateLimitExceededException("인증 코드는 42초 후에 다시 요청할 수 있습니다.", 42));
+
+            // when & then
+            assertThatThrownBy(() -> authService.sendVerificationCode("test@example.com"))
+                    .isInstanceOf(RateLimitExceededException.class)
+                    .extracting("retryAfterSeconds").isEqualTo(42L);
+            verifyNoInteractions(userRepository, emailService, transactionTemplate, verificationChallengeStore);
+        }
+
+        @Test
+        @DisplayName("이메일 인증 코드 발송 - 처리 실패 시 발송 기록 취소")
+        void sendVerificationCode_Failure_CancelsThrottle() {
+            // given
+            given(verificationResendThrottle.acquire("test@example.com"))
+                    .willReturn(VerificationResendThrottle.Decision.SEND);
+            given(userRepository.findCredentialByEmail("test@example.com"))
+                    .willThrow(new IllegalStateException("DB 장애"));
+
+            // when & then
+            assertThatThrownBy(() -> authService.sendVerificationCode("test@example.com"))
+                    .isInstanceOf(IllegalStateException.class);
+            verify(verificationResendThrottle).cancel("test@example.com");
         }
 
         @Test
         @DisplayName("이메일 인증 코드 발송 - 이미 인증된 이메일 (조용히 성공)")
         void sendVerificationCode_AlreadyVerified_SilentlySucceed() {
             // given
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(testUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(verifiedCredential));
 
             // when
             authService.sendVerificationCode("test@example.com");
 
             // then - 예외가 발생하지 않고 조용히 성공
             verify(emailService, never()).sendVerificationEmail(anyString(), anyString());
+            verifyNoInteractions(verificationChallengeStore);
         }
 
         @Test
-        @DisplayName("이메일 인증 성공")
+        @DisplayName("이메일 인증 성공 - 인증 완료 처리 후 코드 삭제, 자동 로그인")
         void verifyEmail_Success() {
             // given
-            String verificationCode = "123456";
             User unverifiedUser = User.builder()
                     .id(1L)
                     .email("test@example.com")
@@ -535,47 +746,32 @@ class AuthServiceTest {
                     .isEmailVerified(false)
                     .build();
 
-            // 인증 코드 설정
-            String codeHash = hashToken(verificationCode);
-            unverifiedUser.setEmailVerificationCode(
-                    codeHash,
-                    Instant.now().plus(15, ChronoUnit.MINUTES)
-            );
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
+            given(verificationChallengeStore.check(1L, "123456"))
+                    .willReturn(VerificationCheck.of(VerificationCheck.Status.VERIFIED));
+            given(userRepository.findById(1L)).willReturn(Optional.of(unverifiedUser));
             given(jwtTokenProvider.createAccessToken(1L)).willReturn("mock-access-token");
-            given(jwtTokenProvider.createRefreshToken(1L)).willReturn("mock-refresh-token");
-            given(refreshTokenRepository.findByUser(any(User.class))).willReturn(Optional.empty());
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("mock-refresh-token");
 
             // when
-            TokenPairDto result = authService.verifyEmail("test@example.com", verificationCode);
+            TokenPairDto result = authService.verifyEmail("test@example.com", "123456");
 
             // then
             assertThat(unverifiedUser.isEmailVerified()).isTrue();
-            assertThat(unverifiedUser.getEmailVerificationCodeHash()).isNull();
-            assertThat(unverifiedUser.getVerificationAttempts()).isEqualTo(0);
+            verify(verificationChallengeStore).remove(1L);
             assertThat(result.getUserId()).isEqualTo(1L);
             assertThat(result.getAccessToken()).isEqualTo("mock-access-token");
             assertThat(result.getRefreshToken()).isEqualTo("mock-refresh-token");
-            verify(refreshTokenRepository).save(any(RefreshToken.class));
+            verify(refreshTokenRepository).replaceSession(
+                    eq(1L), anyString(), any(UUID.class), eq(HashUtils.sha256("mock-refresh-token")), any(Instant.class));
         }
 
         @Test
-        @DisplayName("이메일 인증 실패 - 코드 불일치")
+        @DisplayName("이메일 인증 실패 - 코드 불일치 (users 행 갱신/트랜잭션 없음)")
         void verifyEmail_Fail_WrongCode() {
             // given
-            User unverifiedUser = User.builder()
-                    .email("test@example.com")
-                    .isEmailVerified(false)
-                    .verificationAttempts(0)
-                    .build();
-
-            unverifiedUser.setEmailVerificationCode(
-                    hashToken("123456"),
-                    Instant.now().plus(15, ChronoUnit.MINUTES)
-            );
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
+            given(verificationChallengeStore.check(1L, "wrongcode")).willReturn(VerificationCheck.mismatch(4));
 
             // when & then
             assertThatThrownBy(() -> authService.verifyEmail("test@example.com", "wrongcode"))
@@ -583,27 +779,21 @@ class AuthServiceTest {
                     .satisfies(ex -> {
                         ResponseStatusException rse = (ResponseStatusException) ex;
                         assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
-                        assertThat(rse.getReason()).contains("인증 코드가 일치하지 않습니다");
+                        assertThat(rse.getReason()).contains("인증 코드가 일치하지 않습니다", "남은 시도: 4회");
                     });
 
-            assertThat(unverifiedUser.getVerificationAttempts()).isEqualTo(1);
+            verify(userRepository, never()).findById(anyLong());
+            verify(verificationChallengeStore, never()).remove(anyLong());
+            verifyNoInteractions(transactionTemplate);
         }
 
         @Test
         @DisplayName("이메일 인증 실패 - 만료된 코드")
         void verifyEmail_Fail_ExpiredCode() {
             // given
-            User unverifiedUser = User.builder()
-                    .email("test@example.com")
-                    .isEmailVerified(false)
-                    .build();
-
-            unverifiedUser.setEmailVerificationCode(
-                    hashToken("123456"),
-                    Instant.now().minus(1, ChronoUnit.HOURS) // 이미 만료
-            );
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
+            given(verificationChallengeStore.check(1L, "123456"))
+                    .willReturn(VerificationCheck.of(VerificationCheck.Status.EXPIRED));
 
             // when & then
             assertThatThrownBy(() -> authService.verifyEmail("test@example.com", "123456"))
@@ -619,27 +809,9 @@ class AuthServiceTest {
         @DisplayName("이메일 인증 실패 - 시도 횟수 초과")
         void verifyEmail_Fail_TooManyAttempts() {
             // given
-            User unverifiedUser = User.builder()
-                    .email("test@example.com")
-                    .isEmailVerified(false)
-                    .build();
-
-            // 먼저 인증 코드 설정 (이 메서드가 verificationAttempts를 0으로 초기화함)
-            unverifiedUser.setEmailVerificationCode(
-                    hashToken("123456"),
-                    Instant.now().plus(15, ChronoUnit.MINUTES)
-            );
-
-            // 그 다음 리플렉션으로 verificationAttempts를 5로 설정
-            try {
-                java.lang.reflect.Field attemptsField = User.class.getDeclaredField("verificationAttempts");
-                attemptsField.setAccessible(true);
-                attemptsField.set(unverifiedUser, 5);
-            } catch (Exception e) {
-                throw new RuntimeException("Failed to set verification attempts", e);
-            }
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
+            given(verificationChallengeStore.check(1L, "123456"))
+                    .willReturn(VerificationCheck.of(VerificationCheck.Status.ATTEMPTS_EXCEEDED));
 
             // when & then
             assertThatThrownBy(() -> authService.verifyEmail("test@example.com", "123456"))
@@ -655,12 +827,9 @@ class AuthServiceTest {
         @DisplayName("이메일 인증 실패 - 인증 코드 미발급")
         void verifyEmail_Fail_NoCode() {
             // given
-            User unverifiedUser = User.builder()
-                    .email("test@example.com")
-                    .isEmailVerified(false)
-                    .build();
-
-            given(userRepository.findByEmail("test@example.com")).willReturn(Optional.of(unverifiedUser));
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(unverifiedCredential));
+            given(verificationChallengeStore.check(1L, "123456"))
+                    .willReturn(VerificationCheck.of(VerificationCheck.Status.NOT_ISSUED));
 
             // when & then
             assertThatThrownBy(() -> authService.verifyEmail("test@example.com", "123456"))
@@ -671,6 +840,19 @@ class AuthServiceTest {
                         assertThat(rse.getReason()).contains("인증 코드를 먼저 요청해주세요");
                     });
         }
+
+        @Test
+        @DisplayName("이메일 인증 실패 - 이미 인증된 이메일은 코드 확인 없이 거절")
+        void verifyEmail_Fail_AlreadyVerified() {
+            // given
+            given(userRepository.findCredentialByEmail("test@example.com")).willReturn(Optional.of(verifiedCredential));
+
+            // when & then
+            assertThatThrownBy(() -> authService.verifyEmail("test@example.com", "123456"))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .hasMessageContaining("이미 인증된 이메일입니다");
+            verifyNoInteractions(verificationChallengeStore);
+        }
     }
 
     @Nested
@@ -678,20 +860,16 @@ class AuthServiceTest {
     class RefreshTokenTests {
 
         @Test
-        @DisplayName("Access Token 재발급 성공")
+        @DisplayName("Access Token 재발급 성공 - Refresh Token도 교체")
         void refreshAccessToken_Success() {
             // given
             String refreshTokenValue = "refreshToken";
-            String tokenHash = hashToken(refreshTokenValue);
-
-            RefreshToken refreshToken = RefreshToken.builder()
-                    .user(testUser)
-                    .tokenHash(tokenHash)
-                    .expiresAt(Instant.now().plus(7, ChronoUnit.DAYS))
-                    .build();
-
-            given(refreshTokenRepository.findByTokenHash(tokenHash))
-                    .willReturn(Optional.of(refreshToken));
+            given(jwtTokenProvider.verify(refreshTokenValue)).willReturn(verifiedRefreshToken());
+            // 새 Refresh Token 도 같은 계열로 서명, 재사용 감지에 계열 전달
+            given(jwtTokenProvider.createRefreshToken(1L, FAMILY_ID)).willReturn("rotatedRefreshToken");
+            given(refreshTokenRepository.refresh(
+                    HashUtils.sha256(refreshTokenValue), HashUtils.sha256("rotatedRefreshToken"), 1L, FAMILY_ID))
+                    .willReturn(Optional.of(refreshOutcome(1L, "phone-1", RefreshOutcome.Status.ROTATED)));
             given(jwtTokenProvider.createAccessToken(1L)).willReturn("newAccessToken");
 
             // when
@@ -701,17 +879,25 @@ class AuthServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getUserId()).isEqualTo(1L);
             assertThat(result.getAccessToken()).isEqualTo("newAccessToken");
-            assertThat(result.getRefreshToken()).isEqualTo(refreshTokenValue); // 기존 토큰 재사용
+            assertThat(result.getRefreshToken()).isEqualTo("rotatedRefreshToken");
+
+            // 엔티티 로딩 없이 한 문장으로 처리 (교체 문장만 트랜잭션 안에서)
+            verify(transactionTemplate).execute(any());
+            verify(refreshTokenRepository).refresh(any(byte[].class), any(byte[].class), anyLong(), any());
+            verifyNoMoreInteractions(refreshTokenRepository);
+            verifyNoInteractions(userRepository);
+            assertThat(phaseCount(Flow.REFRESH, Phase.COMMIT)).isEqualTo(1);
+            // 두 토큰 서명은 한 구간으로 한 번만 기록
+            assertThat(phaseCount(Flow.REFRESH, Phase.TOKEN_SIGN)).isEqualTo(1);
         }
 
         @Test
-        @DisplayName("Access Token 재발급 실패 - 유효하지 않은 토큰")
+        @DisplayName("Access Token 재발급 실패 - 유효하지 않은 토큰 (DB 조회 없음)")
         void refreshAccessToken_Fail_InvalidToken() {
             // given
             String invalidToken = "invalidToken";
-            String tokenHash = hashToken(invalidToken);
-
-            given(refreshTokenRepository.findByTokenHash(tokenHash)).willReturn(Optional.empty());
+            given(jwtTokenProvider.verify(invalidToken))
+                    .willReturn(JwtVerificationResult.failed(JwtVerificationResult.Failure.MALFORMED));
 
             // when & then
             assertThatThrownBy(() -> authService.refreshAccessToken(invalidToken))
@@ -721,6 +907,9 @@ class AuthServiceTest {
                         assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
                         assertThat(rse.getReason()).contains("유효하지 않은 Refresh Token입니다");
                     });
+
+            // 서명 검증 실패는 트랜잭션(커넥션) 없이 거절
+            verifyNoInteractions(refreshTokenRepository, transactionTemplate);
         }
 
         @Test
@@ -728,16 +917,11 @@ class AuthServiceTest {
         void refreshAccessToken_Fail_ExpiredToken() {
             // given
             String refreshTokenValue = "refreshToken";
-            String tokenHash = hashToken(refreshTokenValue);
-
-            RefreshToken expiredToken = RefreshToken.builder()
-                    .user(testUser)
-                    .tokenHash(tokenHash)
-                    .expiresAt(Instant.now().minus(1, ChronoUnit.DAYS)) // 이미 만료
-                    .build();
-
-            given(refreshTokenRepository.findByTokenHash(tokenHash))
-                    .willReturn(Optional.of(expiredToken));
+            byte[] tokenHash = HashUtils.sha256(refreshTokenValue);
+            given(jwtTokenProvider.verify(refreshTokenValue)).willReturn(verifiedRefreshToken());
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("rotatedRefreshToken");
+            given(refreshTokenRepository.refresh(eq(tokenHash), any(byte[].class), eq(1L), any()))
+                    .willReturn(Optional.of(refreshOutcome(1L, "phone-1", RefreshOutcome.Status.EXPIRED)));
 
             // when & then
             assertThatThrownBy(() -> authService.refreshAccessToken(refreshTokenValue))
@@ -748,8 +932,72 @@ class AuthServiceTest {
                         assertThat(rse.getReason()).contains("Refresh Token이 만료되었습니다");
                     });
 
-            // 만료된 토큰 삭제 확인
-            verify(refreshTokenRepository).delete(expiredToken);
+            // 만료된 토큰 삭제는 같은 문장에서 처리
+            verify(refreshTokenRepository).refresh(eq(tokenHash), any(byte[].class), eq(1L), any());
+            assertThat(flowCount(Flow.REFRESH, Outcome.EXPIRED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Access Token 재발급 실패 - 이미 교체된 토큰 재사용 시 세션 폐기")
+        void refreshAccessToken_Fail_ReusedToken() {
+            // given
+            String reusedToken = "reusedRefreshToken";
+            byte[] tokenHash = HashUtils.sha256(reusedToken);
+            given(jwtTokenProvider.verify(reusedToken)).willReturn(verifiedRefreshToken());
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("rotatedRefreshToken");
+            given(refreshTokenRepository.refresh(eq(tokenHash), any(byte[].class), eq(1L), any()))
+                    .willReturn(Optional.of(refreshOutcome(1L, null, RefreshOutcome.Status.REUSED)));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refreshAccessToken(reusedToken))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(ex -> {
+                        ResponseStatusException rse = (ResponseStatusException) ex;
+                        assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+                        assertThat(rse.getReason()).contains("이미 사용된 Refresh Token입니다");
+                    });
+
+            assertThat(flowCount(Flow.REFRESH, Outcome.REUSED)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Access Token 재발급 실패 - 비활성화 계정")
+        void refreshAccessToken_Fail_InactiveAccount() {
+            // given
+            String refreshTokenValue = "refreshToken";
+            given(jwtTokenProvider.verify(refreshTokenValue)).willReturn(verifiedRefreshToken());
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("rotatedRefreshToken");
+            given(refreshTokenRepository.refresh(eq(HashUtils.sha256(refreshTokenValue)), any(byte[].class), eq(1L), any()))
+                    .willReturn(Optional.of(refreshOutcome(1L, "phone-1", RefreshOutcome.Status.INACTIVE)));
+
+            // when & then
+            assertThatThrownBy(() -> authService.refreshAccessToken(refreshTokenValue))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(ex -> {
+                        ResponseStatusException rse = (ResponseStatusException) ex;
+                        assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+                        assertThat(rse.getReason()).contains("비활성화된 계정입니다");
+                    });
+        }
+
+        @Test
+        @DisplayName("Access Token 재발급 실패 - 알 수 없는 토큰")
+        void refreshAccessToken_Fail_UnknownToken() {
+            // given
+            String refreshTokenValue = "refreshToken";
+            given(jwtTokenProvider.verify(refreshTokenValue)).willReturn(verifiedRefreshToken());
+            given(jwtTokenProvider.createRefreshToken(eq(1L), any())).willReturn("rotatedRefreshToken");
+            given(refreshTokenRepository.refresh(eq(HashUtils.sha256(refreshTokenValue)), any(byte[].class), eq(1L), any()))
+                    .willReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> authService.refreshAccessToken(refreshTokenValue))
+                    .isInstanceOf(ResponseStatusException.class)
+                    .satisfies(ex -> {
+                        ResponseStatusException rse = (ResponseStatusException) ex;
+                        assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+                        assertThat(rse.getReason()).contains("유효하지 않은 Refresh Token입니다");
+                    });
         }
     }
 
@@ -758,17 +1006,37 @@ class AuthServiceTest {
     class LogoutTests {
 
         @Test
-        @DisplayName("로그아웃 성공")
+        @DisplayName("로그아웃 성공 - Refresh Token이 없으면 모든 세션 삭제")
         void logout_Success() {
             // given
             given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
             doNothing().when(refreshTokenRepository).deleteByUser(testUser);
 
             // when
-            authService.logout(1L);
+            authService.logout(1L, null, null);
 
             // then
             verify(refreshTokenRepository).deleteByUser(testUser);
+            verify(jwtVerificationCache).revokeUser(1L);
+        }
+
+        @Test
+        @DisplayName("로그아웃 성공 - 현재 세션과 현재 Access Token만 폐기 (다른 기기 토큰은 유지)")
+        void logout_Success_CurrentSessionOnly() {
+            // given
+            JwtVerificationResult accessToken = JwtVerificationResult.verified(
+                    1L, "access-jti", Instant.now(), Instant.now().plus(1, ChronoUnit.DAYS), null);
+            given(userRepository.findById(1L)).willReturn(Optional.of(testUser));
+            given(refreshTokenRepository.deleteSession(1L, HashUtils.sha256("refreshToken"))).willReturn(1);
+
+            // when
+            authService.logout(1L, "refreshToken", accessToken);
+
+            // then
+            verify(refreshTokenRepository).deleteSession(1L, HashUtils.sha256("refreshToken"));
+            verify(refreshTokenRepository, never()).deleteByUser(any());
+            verify(jwtVerificationCache).revokeToken(accessToken);
+            verify(jwtVerificationCache, never()).revokeUser(anyLong());
         }
 
         @Test
@@ -778,7 +1046,7 @@ class AuthServiceTest {
             given(userRepository.findById(999L)).willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> authService.logout(999L))
+            assertThatThrownBy(() -> authService.logout(999L, null, null))
                     .isInstanceOf(ResponseStatusException.class)
                     .satisfies(ex -> {
                         ResponseStatusException rse = (ResponseStatusException) ex;
@@ -787,18 +1055,19 @@ class AuthServiceTest {
                     });
 
             verify(refreshTokenRepository, never()).deleteByUser(any());
+            verify(jwtVerificationCache, never()).revokeUser(anyLong());
         }
     }
 
     @Nested
-    @DisplayName("이메일 중복 체크 테스트")
+    @DisplayName("이메일/닉네임 중복 체크 테스트")
     class CheckEmailTests {
 
         @Test
         @DisplayName("이메일 사용 가능")
         void checkEmailAvailable_Available() {
             // given
-            given(userRepository.existsByEmail("new@example.com")).willReturn(false);
+            given(availabilityFilter.isEmailAvailable("new@example.com")).willReturn(true);
 
             // when
             boolean result = authService.checkEmailAvailable("new@example.com");
@@ -811,7 +1080,7 @@ class AuthServiceTest {
         @DisplayName("이메일 이미 사용 중")
         void checkEmailAvailable_NotAvailable() {
             // given
-            given(userRepository.existsByEmail("existing@example.com")).willReturn(true);
+            given(availabilityFilter.isEmailAvailable("existing@example.com")).willReturn(false);
 
             // when
             boolean result = authService.checkEmailAvailable("existing@example.com");
@@ -819,22 +1088,69 @@ class AuthServiceTest {
             // then
             assertThat(result).isFalse();
         }
+
+        @Test
+        @DisplayName("닉네임 사용 가능 여부는 사용 여부 필터에 위임")
+        void checkNicknameAvailable_DelegatesToFilter() {
+            // given
+            given(availabilityFilter.isNicknameAvailable("잔취")).willReturn(false);
+            given(availabilityFilter.isNicknameAvailable("새닉네임")).willReturn(true);
+
+            // when & then
+            assertThat(authService.checkNicknameAvailable("잔취")).isFalse();
+            assertThat(authService.checkNicknameAvailable("새닉네임")).isTrue();
+            verifyNoInteractions(userRepository);
+        }
     }
 
-    // 해시 헬퍼 메서드 (AuthService의 private 메서드와 동일한 로직)
-    private String hashToken(String token) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(token.getBytes(StandardCharsets.UTF_8));
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
+    // 엔티티로부터 로그인용 인증 정보 프로젝션 생성
+    private UserCredential credentialOf(User user) {
+        return new UserCredential(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.isActive(),
+                user.isEmailVerified(),
+                user.getAccountLockedUntil(),
+                user.getFailedLoginAttempts()
+        );
+    }
+
+    private long flowCount(Flow flow, Outcome outcome) {
+        return meterRegistry.get("auth.flow.duration")
+                .tag("flow", flow.name().toLowerCase())
+                .tag("outcome", outcome.name().toLowerCase())
+                .timer().count();
+    }
+
+    private long phaseCount(Flow flow, Phase phase) {
+        return meterRegistry.get("auth.phase.duration")
+                .tag("flow", flow.name().toLowerCase())
+                .tag("phase", phase.name().toLowerCase())
+                .timer().count();
+    }
+
+    private JwtVerificationResult verifiedRefreshToken() {
+        return JwtVerificationResult.verified(
+                1L, UUID.randomUUID().toString(), Instant.now(), Instant.now().plus(7, ChronoUnit.DAYS), FAMILY_ID);
+    }
+
+    private RefreshOutcome refreshOutcome(Long userId, String sessionId, RefreshOutcome.Status status) {
+        return new RefreshOutcome() {
+            @Override
+            public Long getUserId() {
+                return userId;
             }
-            return hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            throw new RuntimeException("SHA-256 algorithm not found", e);
-        }
+
+            @Override
+            public String getSessionId() {
+                return sessionId;
+            }
+
+            @Override
+            public String getStatus() {
+                return status.name();
+            }
+        };
     }
 }
@@ -0,0 +1,151 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.dto.TokenPairDto;
+import site.janchwi.domain.auth.dto.VerificationCheck.Status;
+import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.util.HashUtils;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 이메일 인증 코드 저장소 통합 테스트 (database 구현)
+ * - 오답/만료 판정이 users 행을 갱신하지 않고, 거절 예외와 무관하게 시도 횟수가 반영되는지 확인
+ */
+@DisplayName("이메일 인증 통합 테스트")
+class EmailVerificationIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String EMAIL = "verify@example.com";
+    private static final String CODE = "123456";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private VerificationChallengeStore verificationChallengeStore;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("encodedPassword")
+                .nickname("verify")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("database 구현이 기본으로 선택됨")
+    void defaultStore_IsDatabase() {
+        assertThat(verificationChallengeStore).isInstanceOf(DatabaseVerificationChallengeStore.class);
+    }
+
+    @Test
+    @DisplayName("오답은 users 행을 갱신하지 않고 거절 후에도 시도 횟수가 남음")
+    void verifyEmail_WrongCode_CountsAttemptWithoutTouchingUsers() {
+        // given
+        issue(Instant.now().plus(15, ChronoUnit.MINUTES));
+        Timestamp updatedAt = usersUpdatedAt();
+
+        // when & then
+        assertThatThrownBy(() -> authService.verifyEmail(EMAIL, "000000"))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("남은 시도: " + (Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - 1) + "회");
+
+        assertThat(challengeAttempts()).isEqualTo(1);
+        assertThat(usersUpdatedAt()).isEqualTo(updatedAt);
+    }
+
+    @Test
+    @DisplayName("최대 횟수 오답 후에는 정답도 거절")
+    void verifyEmail_AttemptsExceeded_RejectsCorrectCode() {
+        // given
+        issue(Instant.now().plus(15, ChronoUnit.MINUTES));
+        for (int i = 0; i < Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS; i++) {
+            assertThat(verificationChallengeStore.check(userId, "000000").status()).isEqualTo(Status.MISMATCH);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> authService.verifyEmail(EMAIL, CODE))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("인증 시도 횟수를 초과했습니다");
+        assertThat(challengeAttempts()).isEqualTo(Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("만료된 코드는 만료로 거절되고 retention 이 지나면 정리")
+    void expiredChallenge_RejectedThenPurged() {
+        // given
+        issue(Instant.now().minus(2, ChronoUnit.HOURS));
+
+        // when & then
+        assertThat(verificationChallengeStore.check(userId, CODE).status()).isEqualTo(Status.EXPIRED);
+
+        ((DatabaseVerificationChallengeStore) verificationChallengeStore).purgeExpired();
+        assertThat(verificationChallengeStore.check(userId, CODE).status()).isEqualTo(Status.NOT_ISSUED);
+    }
+
+    @Test
+    @DisplayName("정답이면 인증 완료 처리 후 코드 삭제, 자동 로그인")
+    void verifyEmail_Success_VerifiesUserAndRemovesChallenge() {
+        // given
+        issue(Instant.now().plus(15, ChronoUnit.MINUTES));
+
+        // when
+        TokenPairDto tokenPair = authService.verifyEmail(EMAIL, CODE);
+
+        // then
+        assertThat(tokenPair.getUserId()).isEqualTo(userId);
+        assertThat(userRepository.findById(userId).orElseThrow().isEmailVerified()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM email_verification_challenges WHERE user_id = ?", Integer.class, userId)).isZero();
+    }
+
+    private void issue(Instant expiresAt) {
+        verificationChallengeStore.issue(userId, HashUtils.sha256(CODE), expiresAt);
+    }
+
+    private int challengeAttempts() {
+        return jdbcTemplate.queryForObject(
+                "SELECT attempts FROM email_verification_challenges WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private Timestamp usersUpdatedAt() {
+        return jdbcTemplate.queryForObject("SELECT updated_at FROM users WHERE id = ?", Timestamp.class, userId);
+    }
+}
@@ -0,0 +1,99 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.dto.SignupRequest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 이메일/닉네임 사용 여부 필터 통합 테스트
+ * - 기동 시 구성, 가입 시 추가, 다른 경로로 추가된 행의 따라잡기 확인
+ * - "없음" 응답이 DB 조회 없이 나왔는지는 checks 카운터(result=negative)로 확인
+ */
+@DisplayName("사용 여부 필터 통합 테스트")
+class IdentifierAvailabilityFilterIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private IdentifierAvailabilityFilter availabilityFilter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기동 시 구성되고, 가입하지 않은 이메일/닉네임은 DB 조회 없이 사용 가능")
+    void unknownIdentifiers_AnsweredFromMemory() {
+        // given
+        assertThat(availabilityFilter.isReady()).isTrue();
+        double emailNegatives = checks("email", "negative");
+        double nicknameNegatives = checks("nickname", "negative");
+
+        // when & then
+        assertThat(authService.checkEmailAvailable("nobody@example.com")).isTrue();
+        assertThat(authService.checkNicknameAvailable("없는닉네임")).isTrue();
+        assertThat(checks("email", "negative")).isEqualTo(emailNegatives + 1);
+        assertThat(checks("nickname", "negative")).isEqualTo(nicknameNegatives + 1);
+    }
+
+    @Test
+    @DisplayName("가입한 이메일(대소문자 무관)과 닉네임은 바로 사용 중으로 응답")
+    void signup_AddsToFilter() {
+        // given
+        authService.signup(new SignupRequest("filter@example.com", "password123", "필터",
+                LocalDate.of(2000, 1, 1), null, Gender.FEMALE, null));
+        double emailProbable = checks("email", "probable");
+
+        // when & then
+        assertThat(authService.checkEmailAvailable("Filter@Example.com")).isFalse();
+        assertThat(authService.checkNicknameAvailable("필터")).isFalse();
+        assertThat(checks("email", "probable")).isEqualTo(emailProbable + 1);
+    }
+
+    @Test
+    @DisplayName("가입 API 밖에서 추가된 사용자도 따라잡기 후 사용 중으로 응답")
+    void sync_CatchesUpRowsInsertedElsewhere() {
+        // given - 다른 노드에서 가입한 상황
+        userRepository.save(User.builder()
+                .email("elsewhere@example.com")
+                .password("encodedPassword")
+                .nickname("다른노드")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build());
+
+        // when
+        availabilityFilter.sync();
+
+        // then
+        assertThat(authService.checkEmailAvailable("elsewhere@example.com")).isFalse();
+        assertThat(authService.checkNicknameAvailable("다른노드")).isFalse();
+    }
+
+    private double checks(String kind, String result) {
+        return meterRegistry.get("auth.availability.filter.checks")
+                .tag("kind", kind)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
@@ -0,0 +1,215 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.janchwi.domain.users.dto.UserCredential;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.security.LoginAttemptProperties;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryLoginAttemptTracker 테스트")
+class InMemoryLoginAttemptTrackerTest {
+
+    private static final long WINDOW_MILLIS = Duration.ofMinutes(15).toMillis();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final UserCredential credential =
+            new UserCredential(1L, "test@example.com", "encodedPassword", true, true, null, 0);
+    private InMemoryLoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.setMode(LoginAttemptProperties.Mode.MEMORY);
+        properties.setWindow(Duration.ofMillis(WINDOW_MILLIS));
+
+        tracker = new InMemoryLoginAttemptTracker(jdbcTemplate, properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("윈도우 내 최대 횟수 실패 시 메모리에서 잠금 (이메일 대소문자 무시)")
+    void onLoginFailure_LocksAfterMaxAttempts() {
+        // when
+        for (int i = 0; i < Constants.MAX_LOGIN_ATTEMPTS - 1; i++) {
+            tracker.onLoginFailure(credential);
+        }
+        assertThat(tracker.isLocked("test@example.com")).isFalse();
+
+        tracker.onLoginFailure(credential);
+
+        // then
+        assertThat(tracker.isLocked("test@example.com")).isTrue();
+        assertThat(tracker.isLocked("TEST@example.com")).isTrue();
+        assertThat(tracker.isLocked("other@example.com")).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("잠금 결과는 주기적 flush 시 한 번만 DB에 반영")
+    void flush_WritesLatestCountersOnce() {
+        // given
+        for (int i = 0; i < Constants.MAX_LOGIN_ATTEMPTS; i++) {
+            tracker.onLoginFailure(credential);
+        }
+
+        // when
+        tracker.flush();
+
+        // then
+        List<Object[]> batch = captureBatch("failed_login_attempts");
+        assertThat(batch).hasSize(1);
+        assertThat(batch.get(0)[0]).isEqualTo(Constants.MAX_LOGIN_ATTEMPTS);
+        assertThat(((Timestamp) batch.get(0)[1]).toInstant())
+                .isEqualTo(Instant.ofEpochMilli(now.get()).plusSeconds(Constants.ACCOUNT_LOCK_DURATION_MINUTES * 60L));
+        assertThat(batch.get(0)[2]).isEqualTo(1L);
+        assertThat(tracker.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("윈도우를 벗어난 실패는 집계에서 제외 (슬라이딩 윈도우)")
+    void onLoginFailure_SlidingWindow() {
+        // given - 윈도우 시작 시점에 최대-1회 실패
+        for (int i = 0; i < Constants.MAX_LOGIN_ATTEMPTS - 1; i++) {
+            tracker.onLoginFailure(credential);
+        }
+
+        // when - 윈도우가 지난 뒤 1회 실패
+        now.addAndGet(WINDOW_MILLIS + 1);
+        tracker.onLoginFailure(credential);
+        tracker.flush();
+
+        // then
+        assertThat(tracker.isLocked("test@example.com")).isFalse();
+        List<Object[]> batch = captureBatch("failed_login_attempts");
+        assertThat(batch.get(0)[0]).isEqualTo(1);
+        assertThat(batch.get(0)[1]).isNull();
+    }
+
+    @Test
+    @DisplayName("잠금 시간이 지나면 잠금 해제 및 메모리에서 제거")
+    void isLocked_ExpiresAfterLockDuration() {
+        // given
+        for (int i = 0; i < Constants.MAX_LOGIN_ATTEMPTS; i++) {
+            tracker.onLoginFailure(credential);
+        }
+
+        // when
+        now.addAndGet(Constants.ACCOUNT_LOCK_DURATION_MINUTES * 60_000L + 1);
+        tracker.flush();
+
+        // then
+        assertThat(tracker.isLocked("test@example.com")).isFalse();
+        assertThat(tracker.trackedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("리셋할 값이 없는 로그인 성공은 UPDATE 생략")
+    void onLoginSuccess_NothingToReset_SkipsWrite() {
+        // when
+        tracker.onLoginSuccess(credential);
+        tracker.flush();
+
+        // then
+        assertThat(tracker.pendingCount()).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("실패 후 로그인 성공 시 카운터 리셋을 반영")
+    void onLoginSuccess_AfterFailures_ResetsCounters() {
+        // given
+        tracker.onLoginFailure(credential);
+        tracker.onLoginFailure(credential);
+
+        // when
+        tracker.onLoginSuccess(credential);
+        tracker.flush();
+
+        // then
+        List<Object[]> batch = captureBatch("failed_login_attempts");
+        assertThat(batch).hasSize(1);
+        assertThat(batch.get(0)[0]).isEqualTo(0);
+        assertThat(batch.get(0)[1]).isNull();
+        assertThat(tracker.trackedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("DB 잠금이 만료된 뒤 반영 전 반복 실패도 누적되어 다시 잠금")
+    void onLockExpired_KeepsCountingFailuresUntilFlushed() {
+        // given - DB 에는 만료된 잠금이 남아 있고, DB 반영은 계속 실패
+        UserCredential expiredLock = new UserCredential(1L, "test@example.com", "encodedPassword", true, true,
+                Instant.ofEpochMilli(now.get() - 60_000), Constants.MAX_LOGIN_ATTEMPTS);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when - 매 시도마다 잠금 만료 정리 후 비밀번호 불일치
+        for (int i = 0; i < Constants.MAX_LOGIN_ATTEMPTS; i++) {
+            assertThat(tracker.isLocked("test@example.com")).isFalse();
+            tracker.onLockExpired(expiredLock);
+            tracker.onLoginFailure(expiredLock);
+            tracker.flush();
+        }
+
+        // then
+        assertThat(tracker.isLocked("test@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 잠금 만료 정리는 잠금 시간/실패 횟수 리셋을 반영")
+    void onLockExpired_ClearsStoredLock() {
+        // given
+        UserCredential expiredLock = new UserCredential(1L, "test@example.com", "encodedPassword", true, true,
+                Instant.ofEpochMilli(now.get() - 60_000), Constants.MAX_LOGIN_ATTEMPTS);
+
+        // when
+        tracker.onLockExpired(expiredLock);
+        tracker.flush();
+
+        // then
+        List<Object[]> batch = captureBatch("failed_login_attempts");
+        assertThat(batch.get(0)[0]).isEqualTo(0);
+        assertThat(batch.get(0)[1]).isNull();
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 다음 주기에 재시도")
+    void flush_Failure_Requeues() {
+        // given
+        tracker.onLoginFailure(credential);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList())).willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        tracker.flush();
+
+        // then
+        assertThat(tracker.pendingCount()).isEqualTo(1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> captureBatch(String column) {
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains(column), captor.capture());
+        return captor.getValue();
+    }
+}
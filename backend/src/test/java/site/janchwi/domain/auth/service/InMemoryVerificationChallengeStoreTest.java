@@ -0,0 +1,143 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.janchwi.domain.auth.dto.VerificationCheck;
+import site.janchwi.domain.auth.dto.VerificationCheck.Status;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.security.VerificationChallengeProperties;
+import site.janchwi.global.util.HashUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("InMemoryVerificationChallengeStore 테스트")
+class InMemoryVerificationChallengeStoreTest {
+
+    private static final long USER_ID = 1L;
+    private static final String CODE = "123456";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private InMemoryVerificationChallengeStore store;
+
+    @BeforeEach
+    void setUp() {
+        VerificationChallengeProperties properties = new VerificationChallengeProperties();
+        properties.setStore(VerificationChallengeProperties.Store.MEMORY);
+        properties.setRetention(Duration.ofHours(1));
+
+        store = new InMemoryVerificationChallengeStore(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("발급한 코드와 일치하면 VERIFIED, 발급 전에는 NOT_ISSUED")
+    void check_VerifiesIssuedCode() {
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.NOT_ISSUED);
+
+        // given
+        issue(Duration.ofMinutes(15));
+
+        // when & then
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("오답마다 남은 횟수가 줄고 최대 횟수 후에는 정답도 거절")
+    void check_LimitsAttempts() {
+        // given
+        issue(Duration.ofMinutes(15));
+
+        // when & then
+        for (int i = 1; i <= Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS; i++) {
+            VerificationCheck check = store.check(USER_ID, "000000");
+            assertThat(check.status()).isEqualTo(Status.MISMATCH);
+            assertThat(check.remainingAttempts()).isEqualTo(Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS - i);
+        }
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.ATTEMPTS_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("새 코드 발급 시 시도 횟수 초기화")
+    void issue_ResetsAttempts() {
+        // given
+        issue(Duration.ofMinutes(15));
+        for (int i = 0; i < Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS; i++) {
+            store.check(USER_ID, "000000");
+        }
+
+        // when
+        issue(Duration.ofMinutes(15));
+
+        // then
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.VERIFIED);
+    }
+
+    @Test
+    @DisplayName("만료된 코드는 EXPIRED, retention 이 지나면 정리")
+    void check_ExpiredThenEvicted() {
+        // given
+        issue(Duration.ofMinutes(15));
+        now.addAndGet(Duration.ofMinutes(15).toMillis());
+
+        // when & then
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.EXPIRED);
+
+        now.addAndGet(Duration.ofHours(1).toMillis());
+        store.evictExpired();
+        assertThat(store.size()).isZero();
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.NOT_ISSUED);
+    }
+
+    @Test
+    @DisplayName("동시 오답이 몰려도 최대 횟수만큼만 판정")
+    void check_ConcurrentGuessesBoundedByMaxAttempts() throws Exception {
+        // given
+        issue(Duration.ofMinutes(15));
+        int guesses = 64;
+
+        // when
+        List<Future<VerificationCheck>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < guesses; i++) {
+                String guess = String.format("%06d", i);
+                results.add(executor.submit(() -> store.check(USER_ID, guess)));
+            }
+        }
+
+        // then
+        long judged = 0;
+        for (Future<VerificationCheck> result : results) {
+            if (result.get().status() == Status.MISMATCH) {
+                judged++;
+            }
+        }
+        assertThat(judged).isEqualTo(Constants.EMAIL_VERIFICATION_MAX_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("인증 완료 후 코드 삭제")
+    void remove_DeletesChallenge() {
+        // given
+        issue(Duration.ofMinutes(15));
+
+        // when
+        store.remove(USER_ID);
+
+        // then
+        assertThat(store.check(USER_ID, CODE).status()).isEqualTo(Status.NOT_ISSUED);
+    }
+
+    private void issue(Duration ttl) {
+        store.issue(USER_ID, HashUtils.sha256(CODE), Instant.ofEpochMilli(now.get()).plus(ttl));
+    }
+}
@@ -0,0 +1,64 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LastLoginWriter 통합 테스트")
+class LastLoginWriterIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private LastLoginWriter lastLoginWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("버퍼된 마지막 로그인 시간을 한 문장으로 반영하고 더 늦은 값은 덮어쓰지 않음")
+    void flush_UpdatesMultipleRows() {
+        // given
+        User first = userRepository.save(user("first@example.com", "first"));
+        User second = userRepository.save(user("second@example.com", "second"));
+        Instant loginAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        lastLoginWriter.record(first.getId(), loginAt);
+        lastLoginWriter.record(second.getId(), loginAt.plusSeconds(1));
+        lastLoginWriter.flush();
+
+        // when - 이전 시각이 늦게 도착한 경우
+        lastLoginWriter.record(first.getId(), loginAt.minusSeconds(60));
+        lastLoginWriter.flush();
+
+        // then
+        assertThat(userRepository.findById(first.getId()).orElseThrow().getLastLoginAt()).isEqualTo(loginAt);
+        assertThat(userRepository.findById(second.getId()).orElseThrow().getLastLoginAt())
+                .isEqualTo(loginAt.plusSeconds(1));
+    }
+
+    private User user(String email, String nickname) {
+        return User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname(nickname)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .isEmailVerified(true)
+                .build();
+    }
+}
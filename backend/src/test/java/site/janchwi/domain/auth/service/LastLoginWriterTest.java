@@ -0,0 +1,124 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.TaskScheduler;
+import site.janchwi.global.security.LoginAttemptProperties;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LastLoginWriter 테스트")
+class LastLoginWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private LastLoginWriter lastLoginWriter;
+
+    @BeforeEach
+    void setUp() {
+        LoginAttemptProperties properties = new LoginAttemptProperties();
+        properties.getLastLogin().setBatchSize(3);
+
+        lastLoginWriter = new LastLoginWriter(jdbcTemplate, taskScheduler, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("여러 사용자의 마지막 로그인 시간을 UPDATE ... FROM (VALUES ...) 한 문장으로 반영")
+    void flush_SingleMultiRowUpdate() {
+        // given
+        Instant first = Instant.parse("2025-01-01T00:00:00Z");
+        lastLoginWriter.record(1L, first);
+        lastLoginWriter.record(2L, first.plusSeconds(1));
+
+        // when
+        lastLoginWriter.flush();
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(sqlCaptor.capture(), argsCaptor.capture());
+
+        assertThat(sqlCaptor.getValue())
+                .startsWith("UPDATE users AS u SET last_login_at = v.last_login_at FROM (VALUES ")
+                .contains("AS v(id, last_login_at)");
+        assertThat(sqlCaptor.getValue().split("CAST\\(\\? AS bigint\\)", -1)).hasSize(3); // 2행
+        assertThat(argsCaptor.getValue()).hasSize(4);
+        assertThat(lastLoginWriter.bufferedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 반복 로그인은 가장 늦은 시각 하나로 합쳐짐")
+    void record_CoalescesPerUser() {
+        // given
+        Instant latest = Instant.parse("2025-01-01T00:00:10Z");
+        lastLoginWriter.record(1L, latest.minusSeconds(10));
+        lastLoginWriter.record(1L, latest);
+        lastLoginWriter.record(1L, latest.minusSeconds(5));
+
+        // when
+        lastLoginWriter.flush();
+
+        // then
+        ArgumentCaptor<Object[]> argsCaptor = ArgumentCaptor.forClass(Object[].class);
+        verify(jdbcTemplate).update(anyString(), argsCaptor.capture());
+        assertThat(argsCaptor.getValue()).containsExactly(1L, Timestamp.from(latest));
+    }
+
+    @Test
+    @DisplayName("버퍼가 batch-size에 도달하면 주기를 기다리지 않고 반영 예약 (1회만)")
+    void record_SchedulesFlushWhenBatchSizeReached() {
+        // when
+        lastLoginWriter.record(1L, Instant.now());
+        lastLoginWriter.record(2L, Instant.now());
+        verifyNoInteractions(taskScheduler);
+
+        lastLoginWriter.record(3L, Instant.now());
+        lastLoginWriter.record(4L, Instant.now());
+
+        // then
+        verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+    }
+
+    @Test
+    @DisplayName("버퍼가 비어 있으면 DB 접근 없음")
+    void flush_EmptyBuffer() {
+        // when
+        lastLoginWriter.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 버퍼로 되돌려 다음 주기에 재시도")
+    void flush_Failure_Requeues() {
+        // given
+        lastLoginWriter.record(1L, Instant.now());
+        given(jdbcTemplate.update(anyString(), any(Object[].class))).willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        lastLoginWriter.flush();
+
+        // then
+        assertThat(lastLoginWriter.bufferedCount()).isEqualTo(1);
+    }
+}
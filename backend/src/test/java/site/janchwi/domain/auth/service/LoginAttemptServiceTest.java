@@ -83,47 +83,29 @@ class LoginAttemptServiceTest {
     void onLoginSuccess_ResetFailedAttempts() {
         // given
         Long userId = 1L;
-        given(userRepository.resetFailedLoginAttempts(anyLong(), any(Instant.class)))
-                .willReturn(1);
+        given(userRepository.resetFailedLoginAttempts(anyLong())).willReturn(1);
 
         // when
         loginAttemptService.onLoginSuccess(userId);
 
         // then
-        ArgumentCaptor<Long> userIdCaptor = ArgumentCaptor.forClass(Long.class);
-        ArgumentCaptor<Instant> lastLoginAtCaptor = ArgumentCaptor.forClass(Instant.class);
-
-        verify(userRepository).resetFailedLoginAttempts(
-                userIdCaptor.capture(),
-                lastLoginAtCaptor.capture()
-        );
-
-        // 올바른 파라미터로 호출되었는지 검증
-        assertThat(userIdCaptor.getValue()).isEqualTo(userId);
-
-        // lastLoginAt이 현재 시간인지 확인 (±5초 오차 허용)
-        Instant expectedLastLoginAt = Instant.now();
-        assertThat(lastLoginAtCaptor.getValue())
-                .isBetween(
-                        expectedLastLoginAt.minusSeconds(5),
-                        expectedLastLoginAt.plusSeconds(5)
-                );
+        verify(userRepository).resetFailedLoginAttempts(userId);
     }
 
     @Test
-    @DisplayName("로그인 성공 - 존재하지 않는 사용자 (업데이트 실패)")
-    void onLoginSuccess_UserNotFound() {
+    @DisplayName("로그인 성공 - 리셋할 값이 없으면 갱신되는 행 없음")
+    void onLoginSuccess_NothingToReset() {
         // given
-        Long nonExistentUserId = 999L;
-        given(userRepository.resetFailedLoginAttempts(anyLong(), any(Instant.class)))
-                .willReturn(0); // 업데이트된 행 수 0
+        Long userId = 1L;
+        given(userRepository.resetFailedLoginAttempts(anyLong()))
+                .willReturn(0); // 이미 초기 상태 (또는 사용자 없음)
 
         // when
-        loginAttemptService.onLoginSuccess(nonExistentUserId);
+        loginAttemptService.onLoginSuccess(userId);
 
         // then
         // 예외가 발생하지 않고 조용히 처리됨
-        verify(userRepository).resetFailedLoginAttempts(anyLong(), any(Instant.class));
+        verify(userRepository).resetFailedLoginAttempts(userId);
     }
 
     @Test
@@ -0,0 +1,220 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.dto.LoginRequest;
+import site.janchwi.domain.auth.dto.TokenPairDto;
+import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 커넥션 사용량 통합 테스트
+ * - 커넥션 풀보다 많은 동시 로그인에서도 교착 없이 처리
+ * - 로그인 1건(스레드)이 동시에 점유하는 커넥션은 최대 1개
+ */
+@TestPropertySource(properties = {
+        "security.login-attempts.mode=database",
+        "spring.datasource.hikari.maximum-pool-size=4",
+        "spring.datasource.hikari.connection-timeout=3000"
+})
+@DisplayName("로그인 커넥션 사용량 통합 테스트")
+class LoginConnectionUsageIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_LOGINS = 16;
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ConnectionTrackingDataSource connectionTrackingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            userRepository.save(User.builder()
+                    .email("login" + i + "@example.com")
+                    .password(encodedPassword)
+                    .nickname("login" + i)
+                    .birthDate(LocalDate.of(2000, 1, 1))
+                    .gender(Gender.MALE)
+                    .isEmailVerified(true)
+                    .isActive(true)
+                    .failedLoginAttempts(0)
+                    .build());
+        }
+        connectionTrackingDataSource.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("풀 크기(4)의 4배 동시 로그인 - 스레드당 커넥션 최대 1개")
+    void concurrentLogins_HoldAtMostOneConnectionPerLogin() throws Exception {
+        // given - 절반은 성공, 절반은 비밀번호 불일치
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TokenPairDto>> results = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            String password = i % 2 == 0 ? PASSWORD : "wrong-password";
+            LoginRequest request = new LoginRequest("login" + i + "@example.com", password);
+            results.add(executor.submit(awaitThen(start, () -> authService.login(request, null))));
+        }
+
+        // when
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+            Future<TokenPairDto> result = results.get(i);
+            if (i % 2 == 0) {
+                assertThat(result.get().getRefreshToken()).isNotBlank();
+            } else {
+                assertThatThrownBy(result::get).hasCauseInstanceOf(ResponseStatusException.class);
+            }
+        }
+
+        assertThat(connectionTrackingDataSource.getMaxConnectionsPerThread()).isEqualTo(1);
+        assertThat(refreshTokenRepository.count()).isEqualTo(CONCURRENT_LOGINS / 2);
+    }
+
+    @Test
+    @DisplayName("비밀번호 불일치 예외가 발생해도 실패 횟수는 커밋됨")
+    void failedLogin_CounterSurvivesException() {
+        // given
+        LoginRequest request = new LoginRequest("login1@example.com", "wrong-password");
+
+        // when
+        assertThatThrownBy(() -> authService.login(request, null)).isInstanceOf(ResponseStatusException.class);
+
+        // then
+        User user = userRepository.findByEmail("login1@example.com").orElseThrow();
+        assertThat(user.getFailedLoginAttempts()).isEqualTo(1);
+        assertThat(connectionTrackingDataSource.getMaxConnectionsPerThread()).isEqualTo(1);
+    }
+
+    private static <T> Callable<T> awaitThen(CountDownLatch start, Callable<T> task) {
+        return () -> {
+            start.await();
+            return task.call();
+        };
+    }
+
+    @TestConfiguration
+    static class ConnectionTrackingConfig {
+
+        @Bean
+        static BeanPostProcessor connectionTrackingPostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionTrackingDataSource)) {
+                        return new ConnectionTrackingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 스레드별로 동시에 열려 있는 커넥션 수를 기록하는 DataSource
+     */
+    static class ConnectionTrackingDataSource extends DelegatingDataSource {
+
+        private final ThreadLocal<AtomicInteger> openConnections = ThreadLocal.withInitial(AtomicInteger::new);
+        private final AtomicInteger maxConnectionsPerThread = new AtomicInteger();
+
+        ConnectionTrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+
+        int getMaxConnectionsPerThread() {
+            return maxConnectionsPerThread.get();
+        }
+
+        void reset() {
+            maxConnectionsPerThread.set(0);
+        }
+
+        private Connection track(Connection connection) {
+            AtomicInteger counter = openConnections.get();
+            maxConnectionsPerThread.accumulateAndGet(counter.incrementAndGet(), Math::max);
+
+            AtomicBoolean closed = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                            counter.decrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    });
+        }
+    }
+}
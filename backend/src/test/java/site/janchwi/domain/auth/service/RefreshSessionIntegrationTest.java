@@ -0,0 +1,211 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.dto.LoginRequest;
+import site.janchwi.domain.auth.dto.TokenPairDto;
+import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.util.HashUtils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 기기별 Refresh Token 세션 통합 테스트
+ * - 로그인 세션 교체, 재발급 rotation, 재사용 감지, 만료/비활성 세션 삭제를 실제 PostgreSQL 에서 확인
+ */
+@DisplayName("Refresh Token 세션 통합 테스트")
+class RefreshSessionIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String EMAIL = "session@example.com";
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password(passwordEncoder.encode(PASSWORD))
+                .nickname("session")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .isEmailVerified(true)
+                .isActive(true)
+                .failedLoginAttempts(0)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기기별로 세션이 유지되고 같은 기기 재로그인은 기존 세션을 교체")
+    void login_KeepsOneSessionPerDevice() {
+        // when
+        TokenPairDto laptop = authService.login(new LoginRequest(EMAIL, PASSWORD), "laptop");
+        authService.login(new LoginRequest(EMAIL, PASSWORD), "phone");
+        TokenPairDto phoneAgain = authService.login(new LoginRequest(EMAIL, PASSWORD), "phone");
+
+        // then - 휴대폰 로그인이 노트북 세션을 끊지 않음
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+        assertThat(authService.refreshAccessToken(laptop.getRefreshToken()).getAccessToken()).isNotBlank();
+        assertThat(authService.refreshAccessToken(phoneAgain.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("같은 세션 동시 저장은 세션 잠금으로 직렬화되어 한 행만 남음")
+    void replaceSession_Concurrent_KeepsSingleRow() throws Exception {
+        // given
+        Long userId = userRepository.findCredentialByEmail(EMAIL).orElseThrow().getId();
+        Instant expiresAt = Instant.now().plus(7, ChronoUnit.DAYS);
+        int threads = 8;
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await();
+                    transactionTemplate.executeWithoutResult(status -> refreshTokenRepository.replaceSession(
+                            userId, "laptop", UUID.randomUUID(), HashUtils.sha256(UUID.randomUUID().toString()),
+                            expiresAt));
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        }
+
+        // then
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE user_id = ? AND session_id = 'laptop'",
+                Integer.class, userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재발급 시 Refresh Token 교체, 이전 토큰 재사용 시 세션 폐기")
+    void refresh_RotatesAndDetectsReuse() {
+        // given
+        TokenPairDto login = authService.login(new LoginRequest(EMAIL, PASSWORD), "laptop");
+
+        // when
+        TokenPairDto rotated = authService.refreshAccessToken(login.getRefreshToken());
+
+        // then
+        assertThat(rotated.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+
+        // 이전 토큰 재사용 - 계열 전체 폐기 (교체된 최신 토큰도 사용 불가)
+        assertThatThrownBy(() -> authService.refreshAccessToken(login.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("이미 사용된 Refresh Token입니다");
+        assertThatThrownBy(() -> authService.refreshAccessToken(rotated.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 Refresh Token입니다");
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("두 세대 이상 지난 토큰 재사용도 감지하여 계열 전체 폐기 (다른 세션은 유지)")
+    void refresh_DetectsReuseOfOlderGeneration() {
+        // given - 세대 N-2, N-1, N
+        TokenPairDto login = authService.login(new LoginRequest(EMAIL, PASSWORD), "laptop");
+        TokenPairDto phone = authService.login(new LoginRequest(EMAIL, PASSWORD), "phone");
+        TokenPairDto first = authService.refreshAccessToken(login.getRefreshToken());
+        TokenPairDto current = authService.refreshAccessToken(first.getRefreshToken());
+
+        // when & then - N-2 세대 재사용
+        assertThatThrownBy(() -> authService.refreshAccessToken(login.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("이미 사용된 Refresh Token입니다");
+
+        // 현재 세대도 폐기, 다른 기기 세션은 유지
+        assertThatThrownBy(() -> authService.refreshAccessToken(current.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("유효하지 않은 Refresh Token입니다");
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(authService.refreshAccessToken(phone.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("만료/비활성 계정의 토큰은 재발급 쿼리에서 바로 삭제")
+    void refresh_DeletesExpiredAndInactiveSessionsInline() {
+        // given
+        TokenPairDto laptop = authService.login(new LoginRequest(EMAIL, PASSWORD), "laptop");
+        TokenPairDto phone = authService.login(new LoginRequest(EMAIL, PASSWORD), "phone");
+        // 오늘(UTC) 00:00 으로 당겨 만료 처리 - 이미 만들어진 오늘 파티션으로 이동
+        jdbcTemplate.update("UPDATE refresh_tokens SET expires_at = date_trunc('day', now(), 'UTC') WHERE session_id = 'laptop'");
+
+        // when & then - 만료
+        assertThatThrownBy(() -> authService.refreshAccessToken(laptop.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Refresh Token이 만료되었습니다");
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+
+        // when & then - 비활성화 계정
+        jdbcTemplate.update("UPDATE users SET is_active = FALSE WHERE id = ?", phone.getUserId());
+        assertThatThrownBy(() -> authService.refreshAccessToken(phone.getRefreshToken()))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("비활성화된 계정입니다");
+        assertThat(refreshTokenRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("로그아웃은 현재 세션만 종료")
+    void logout_EndsCurrentSessionOnly() {
+        // given
+        TokenPairDto laptop = authService.login(new LoginRequest(EMAIL, PASSWORD), "laptop");
+        TokenPairDto phone = authService.login(new LoginRequest(EMAIL, PASSWORD), "phone");
+
+        // when
+        authService.logout(laptop.getUserId(), laptop.getRefreshToken(), null);
+
+        // then
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(authService.refreshAccessToken(phone.getRefreshToken()).getAccessToken()).isNotBlank();
+    }
+}
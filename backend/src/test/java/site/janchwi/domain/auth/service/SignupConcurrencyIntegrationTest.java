@@ -0,0 +1,128 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.dto.SignupRequest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 회원가입 통합 테스트
+ * - 같은 이메일/닉네임으로 동시에 가입해도 하나만 성공하고 나머지는 409 (500 없음)
+ * - 중복 판정은 유일 제약(ux_users_email_lower, uk_users_nickname)에만 의존
+ */
+@DisplayName("동시 회원가입 통합 테스트")
+class SignupConcurrencyIntegrationTest extends AbstractIntegrationTest {
+
+    private static final int CONCURRENT_SIGNUPS = 32;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 이메일(대소문자만 다름) 동시 가입 - 1건 성공, 나머지는 이메일 중복 409")
+    void concurrentSignups_SameEmail_OneWins() throws Exception {
+        // when
+        List<Future<Long>> results = signupConcurrently(i -> request(
+                i % 2 == 0 ? "race@example.com" : "Race@Example.com", "race" + i));
+
+        // then
+        assertOneWinner(results, "이미 사용 중인 이메일입니다.");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 닉네임 동시 가입 - 1건 성공, 나머지는 닉네임 중복 409")
+    void concurrentSignups_SameNickname_OneWins() throws Exception {
+        // when
+        List<Future<Long>> results = signupConcurrently(i -> request("race" + i + "@example.com", "racer"));
+
+        // then
+        assertOneWinner(results, "이미 사용 중인 닉네임입니다.");
+        assertThat(userRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서로 다른 이메일/닉네임 동시 가입은 모두 성공")
+    void concurrentSignups_Distinct_AllSucceed() throws Exception {
+        // when
+        List<Future<Long>> results = signupConcurrently(i -> request("user" + i + "@example.com", "user" + i));
+
+        // then
+        for (Future<Long> result : results) {
+            assertThat(result.get()).isNotNull();
+        }
+        assertThat(userRepository.count()).isEqualTo(CONCURRENT_SIGNUPS);
+    }
+
+    private List<Future<Long>> signupConcurrently(IntFunction<SignupRequest> requests) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_SIGNUPS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Long>> results = new ArrayList<>();
+
+        for (int i = 0; i < CONCURRENT_SIGNUPS; i++) {
+            SignupRequest request = requests.apply(i);
+            results.add(executor.submit(awaitThen(start, () -> authService.signup(request))));
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+        return results;
+    }
+
+    private static void assertOneWinner(List<Future<Long>> results, String conflictMessage) throws InterruptedException {
+        int succeeded = 0;
+        for (Future<Long> result : results) {
+            try {
+                assertThat(result.get()).isNotNull();
+                succeeded++;
+            } catch (ExecutionException e) {
+                assertThat(e.getCause()).isInstanceOf(ResponseStatusException.class);
+                ResponseStatusException rse = (ResponseStatusException) e.getCause();
+                assertThat(rse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                assertThat(rse.getReason()).isEqualTo(conflictMessage);
+            }
+        }
+        assertThat(succeeded).isEqualTo(1);
+    }
+
+    private static SignupRequest request(String email, String nickname) {
+        return new SignupRequest(email, "password123", nickname,
+                LocalDate.of(2000, 1, 1), null, Gender.FEMALE, null);
+    }
+
+    private static <T> Callable<T> awaitThen(CountDownLatch start, Callable<T> task) {
+        return () -> {
+            start.await();
+            return task.call();
+        };
+    }
+}
@@ -0,0 +1,150 @@
+package site.janchwi.domain.auth.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 회원가입 쓰기 경로 벤치마크 - 중복 확인 조회 2회 + INSERT vs INSERT 한 번
+ * - 동시 가입이 몰릴 때 건당 지연(p50/p99)과 처리량 비교
+ * - BCrypt 비용은 두 경로에 같으므로 미리 해시한 비밀번호로 DB 구간만 측정
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("회원가입 지연 벤치마크")
+class SignupLatencyBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int THREADS = 32;
+    private static final int SIGNUPS_PER_THREAD = 200;
+    private static final String ENCODED_PASSWORD = "$2a$10$" + "a".repeat(53);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("INSERT 한 번이 중복 확인 후 INSERT 보다 지연이 짧음")
+    void singleInsert_BeatsPreCheckedInsert() throws Exception {
+        // 워밍업
+        run(this::preCheckedInsert);
+        run(this::singleInsert);
+        userRepository.deleteAllInBatch();
+
+        Result preChecked = run(this::preCheckedInsert);
+        userRepository.deleteAllInBatch();
+        Result single = run(this::singleInsert);
+
+        System.out.printf("%n%-28s %12s %12s %14s%n", "signup path", "p50 (us)", "p99 (us)", "signups/s");
+        preChecked.print("existsBy x2 + INSERT");
+        single.print("INSERT (constraint)");
+        System.out.printf("p50 reduction: %.1f%%%n%n", 100.0 * (preChecked.p50 - single.p50) / preChecked.p50);
+
+        assertThat(single.p50).isLessThan(preChecked.p50);
+    }
+
+    /**
+     * 기존 경로: 트랜잭션 안에서 이메일/닉네임 중복 확인 후 저장
+     */
+    private void preCheckedInsert(int n) {
+        transactionTemplate.executeWithoutResult(status -> {
+            User user = newUser(n);
+            if (!userRepository.existsByEmail(user.getEmail()) && !userRepository.existsByNickname(user.getNickname())) {
+                userRepository.save(user);
+            }
+        });
+    }
+
+    /**
+     * 새 경로: 유일 제약에 맡기고 저장만 (위반 시 409 변환)
+     */
+    private void singleInsert(int n) {
+        try {
+            userRepository.save(newUser(n));
+        } catch (DataIntegrityViolationException e) {
+            // 중복 - 409 로 변환되는 경로
+        }
+    }
+
+    private Result run(IntConsumer signup) throws InterruptedException {
+        long[] latencies = new long[THREADS * SIGNUPS_PER_THREAD];
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t * SIGNUPS_PER_THREAD;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SIGNUPS_PER_THREAD; i++) {
+                    long startedAt = System.nanoTime();
+                    signup.accept(sequence.getAndIncrement());
+                    latencies[offset + i] = System.nanoTime() - startedAt;
+                }
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        return new Result(
+                latencies[latencies.length / 2] / 1_000,
+                latencies[(int) (latencies.length * 0.99)] / 1_000,
+                latencies.length * 1_000_000_000L / elapsedNanos);
+    }
+
+    private static User newUser(int n) {
+        String suffix = Integer.toString(n, 36);
+        return User.builder()
+                .email("signup" + suffix + "@example.com")
+                .password(ENCODED_PASSWORD)
+                .nickname("s" + suffix)
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build();
+    }
+
+    private record Result(long p50, long p99, long throughput) {
+
+        void print(String name) {
+            System.out.printf("%-28s %12d %12d %14d%n", name, p50, p99, throughput);
+        }
+    }
+}
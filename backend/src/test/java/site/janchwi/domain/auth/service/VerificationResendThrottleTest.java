@@ -0,0 +1,134 @@
+package site.janchwi.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import site.janchwi.domain.auth.service.VerificationResendThrottle.Decision;
+import site.janchwi.global.exception.RateLimitExceededException;
+import site.janchwi.global.security.VerificationResendProperties;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("VerificationResendThrottle 테스트")
+class VerificationResendThrottleTest {
+
+    private static final String EMAIL = "test@example.com";
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private VerificationResendThrottle throttle;
+
+    @BeforeEach
+    void setUp() {
+        VerificationResendProperties properties = new VerificationResendProperties();
+        properties.setCoalesceWindow(Duration.ofSeconds(10));
+        properties.setCooldown(Duration.ofSeconds(60));
+        properties.setWindow(Duration.ofHours(1));
+        properties.setMaxSendsPerWindow(3);
+
+        throttle = new VerificationResendThrottle(properties, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("연속 요청은 첫 발송에 합쳐짐 (이메일 정규화)")
+    void acquire_CoalescesBurst() {
+        // when & then
+        assertThat(throttle.acquire(EMAIL)).isEqualTo(Decision.SEND);
+        advance(Duration.ofSeconds(3));
+        assertThat(throttle.acquire(" TEST@example.com ")).isEqualTo(Decision.COALESCED);
+        assertThat(throttle.acquire("other@example.com")).isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    @DisplayName("cooldown 안의 재요청은 남은 시간과 함께 거절, 지나면 다시 발송")
+    void acquire_RejectsDuringCooldown() {
+        // given
+        throttle.acquire(EMAIL);
+        advance(Duration.ofSeconds(15));
+
+        // when & then
+        assertThatThrownBy(() -> throttle.acquire(EMAIL))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(45L);
+
+        advance(Duration.ofSeconds(45));
+        assertThat(throttle.acquire(EMAIL)).isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    @DisplayName("윈도우 내 최대 발송 횟수 초과 시 가장 오래된 발송이 빠질 때까지 거절")
+    void acquire_RejectsAfterMaxSendsPerWindow() {
+        // given - 1분 간격으로 3회 발송
+        for (int i = 0; i < 3; i++) {
+            assertThat(throttle.acquire(EMAIL)).isEqualTo(Decision.SEND);
+            advance(Duration.ofMinutes(1));
+        }
+
+        // when & then - 첫 발송 후 1시간이 지나야 다시 발송
+        assertThatThrownBy(() -> throttle.acquire(EMAIL))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(Duration.ofMinutes(57).toSeconds());
+
+        advance(Duration.ofMinutes(57));
+        assertThat(throttle.acquire(EMAIL)).isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    @DisplayName("발송 처리 실패 시 취소하면 바로 다시 요청 가능")
+    void cancel_AllowsImmediateRetry() {
+        // given
+        throttle.acquire(EMAIL);
+
+        // when
+        throttle.cancel(EMAIL);
+
+        // then
+        assertThat(throttle.acquire(EMAIL)).isEqualTo(Decision.SEND);
+    }
+
+    @Test
+    @DisplayName("윈도우가 지난 항목은 정리")
+    void evictExpired_RemovesStaleEntries() {
+        // given
+        throttle.acquire(EMAIL);
+        advance(Duration.ofMinutes(30));
+        throttle.acquire("other@example.com");
+
+        // when
+        advance(Duration.ofMinutes(31));
+        throttle.evictExpired();
+
+        // then
+        assertThat(throttle.trackedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("추적 이메일 수 상한에 닿아도 새 이메일은 발송, 마지막 발송이 가장 오래된 항목을 제거")
+    void acquire_EvictsLeastRecentWhenFull() {
+        // given - 상한 2개, 둘 다 윈도우 안
+        VerificationResendProperties properties = new VerificationResendProperties();
+        properties.setMaxKeys(2);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerificationResendThrottle bounded = new VerificationResendThrottle(properties, meterRegistry, now::get);
+        bounded.acquire("a@example.com");
+        advance(Duration.ofMinutes(30));
+        bounded.acquire("b@example.com");
+
+        // when
+        Decision decision = bounded.acquire("c@example.com");
+
+        // then - 새 이메일은 거절하지 않고, 가장 오래된 a 만 제거 (b 는 기존 규칙 유지)
+        assertThat(decision).isEqualTo(Decision.SEND);
+        assertThat(bounded.acquire("B@example.com")).isEqualTo(Decision.COALESCED);
+        assertThat(bounded.trackedCount()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.verification.resend.evicted").functionCounter().count()).isEqualTo(1);
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toMillis());
+    }
+}
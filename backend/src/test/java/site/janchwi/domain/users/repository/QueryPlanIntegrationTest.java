@@ -0,0 +1,126 @@
+package site.janchwi.domain.users.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flyway 마이그레이션 인덱스 검증
+ * - 주요 조회/삭제 쿼리가 의도한 인덱스를 사용하는지 실행 계획으로 확인
+ * - 테스트 데이터가 적어 순차 탐색이 선택되지 않도록 enable_seqscan=off 로 비교
+ */
+@DisplayName("쿼리 실행 계획 통합 테스트")
+class QueryPlanIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이메일 조회는 lower(email) 유일 인덱스 사용")
+    void emailLookup_UsesLowerEmailIndex() {
+        String plan = explain("SELECT id, password FROM users WHERE lower(email) = lower('Test@Example.com')");
+
+        assertThat(plan).contains("ux_users_email_lower");
+    }
+
+    @Test
+    @DisplayName("사용자별 Refresh Token 조회는 파티션별 (user_id, session_id) 인덱스 사용")
+    void refreshTokenByUser_UsesUserSessionIndex() {
+        String plan = explain("SELECT id FROM refresh_tokens WHERE user_id = 1");
+
+        // 파티션 인덱스 이름: refresh_tokens_pYYYYMMDD_user_id_session_id_idx
+        assertThat(plan).contains("user_id_session_id_idx");
+    }
+
+    @Test
+    @DisplayName("Refresh Token 재사용 감지는 파티션별 previous_token_hash 부분 인덱스 사용")
+    void refreshTokenReuse_UsesPreviousTokenHashIndex() {
+        String plan = explain("SELECT family_id FROM refresh_tokens WHERE previous_token_hash = 'abc'");
+
+        assertThat(plan).contains("previous_token_hash_idx");
+    }
+
+    @Test
+    @DisplayName("만료 범위 조건은 지난 파티션을 계획 단계에서 제외 (partition pruning)")
+    void expiresAtRange_PrunesPartitions() {
+        String plan = explain("SELECT id FROM refresh_tokens WHERE expires_at < '2000-01-01T00:00:00Z'");
+
+        assertThat(plan).doesNotContain("refresh_tokens_p");
+    }
+
+    @Test
+    @DisplayName("미인증 사용자 조회는 부분 인덱스 사용")
+    void unverifiedUsers_UsePartialIndex() {
+        String staleSignups = explain(
+                "SELECT id FROM users WHERE is_email_verified = false AND created_at < now() - interval '7 days'");
+
+        assertThat(staleSignups).contains("ix_users_unverified_created_at");
+    }
+
+    @Test
+    @DisplayName("만료된 이메일 인증 코드 정리는 expires_at 인덱스 사용")
+    void expiredVerificationChallenges_UseExpiresAtIndex() {
+        String plan = explain("DELETE FROM email_verification_challenges WHERE expires_at < now() - interval '1 hour'");
+
+        assertThat(plan).contains("ix_email_verification_challenges_expires_at");
+    }
+
+    @Test
+    @DisplayName("이메일 조회/중복 확인은 대소문자 무시")
+    void emailLookup_IsCaseInsensitive() {
+        // given
+        userRepository.save(User.builder()
+                .email("Test@Example.com")
+                .password("encodedPassword")
+                .nickname("planuser")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build());
+
+        // then
+        assertThat(userRepository.findCredentialByEmail("test@example.com")).isPresent();
+        assertThat(userRepository.findByEmail("TEST@EXAMPLE.COM")).isPresent();
+        assertThat(userRepository.existsByEmail("test@EXAMPLE.com")).isTrue();
+        assertThat(userRepository.existsByEmail("other@example.com")).isFalse();
+    }
+
+    /**
+     * 같은 커넥션에서 순차 탐색을 끈 뒤 실행 계획 조회
+     */
+    private String explain(String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                try (ResultSet rs = statement.executeQuery("EXPLAIN " + sql)) {
+                    StringBuilder plan = new StringBuilder();
+                    while (rs.next()) {
+                        plan.append(rs.getString(1)).append('\n');
+                    }
+                    return plan.toString();
+                } finally {
+                    statement.execute("RESET enable_seqscan");
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package site.janchwi.domain.users.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로그인 조회 벤치마크 - 엔티티 조회 vs 인증 정보 프로젝션
+ * - 조회 1회당 할당 바이트, 소요 시간, flush 횟수 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@DisplayName("로그인 조회 벤치마크")
+class UserCredentialLookupBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final String EMAIL = "benchmark@example.com";
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("$2a$10$" + "a".repeat(53))
+                .nickname("bench")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.FEMALE)
+                .profileImageUrl("https://example.com/" + "p".repeat(400))
+                .bio("b".repeat(50))
+                .isEmailVerified(true)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("프로젝션 조회는 엔티티 조회보다 할당이 적고 flush가 없음")
+    void credentialProjection_AllocatesLessAndNeverFlushes() {
+        // 기존 로그인 경로: 읽기-쓰기 트랜잭션 안에서 엔티티 조회 (커밋 시 dirty checking flush)
+        Result entity = measure("entity (findByEmail)",
+                () -> transactionTemplate.execute(status -> userRepository.findByEmail(EMAIL).orElseThrow()));
+
+        // 새 로그인 경로: 읽기 전용 프로젝션 조회
+        Result projection = measure("projection (findCredentialByEmail)",
+                () -> userRepository.findCredentialByEmail(EMAIL).orElseThrow());
+
+        System.out.printf("%n%-36s %14s %12s %10s%n", "lookup", "bytes/op", "ns/op", "flushes");
+        entity.print();
+        projection.print();
+        System.out.printf("allocation reduction: %.1f%%%n%n",
+                100.0 * (entity.bytesPerOp - projection.bytesPerOp) / entity.bytesPerOp);
+
+        assertThat(projection.bytesPerOp).isLessThan(entity.bytesPerOp);
+        assertThat(projection.flushes).isZero();
+        assertThat(entity.flushes).isGreaterThan(0);
+    }
+
+    private Result measure(String name, Supplier<?> lookup) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            lookup.get();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        statistics.clear();
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            lookup.get();
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        return new Result(name, allocated / MEASURE_ITERATIONS, elapsedNanos / MEASURE_ITERATIONS,
+                statistics.getFlushCount());
+    }
+
+    private record Result(String name, long bytesPerOp, long nanosPerOp, long flushes) {
+
+        void print() {
+            System.out.printf("%-36s %14d %12d %10d%n", name, bytesPerOp, nanosPerOp, flushes);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package site.janchwi.global.config;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-signing-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties(SECRET, 3600000L));
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 1회 검증으로 userId와 만료 시간 반환")
+    void verify_ValidToken() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(1L);
+
+        // when
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getFailure()).isNull();
+        assertThat(result.getUserId()).isEqualTo(1L);
+        assertThat(result.getIssuedAt()).isBeforeOrEqualTo(Instant.now());
+        assertThat(result.getExpiresAt()).isAfter(Instant.now());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - EXPIRED")
+    void verify_ExpiredToken() {
+        // given
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(jwtProperties(SECRET, -60000L));
+        String token = expiredProvider.createAccessToken(1L);
+
+        // when
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getFailure()).isEqualTo(JwtVerificationResult.Failure.EXPIRED);
+        assertThat(result.getUserId()).isNull();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 - INVALID_SIGNATURE")
+    void verify_InvalidSignature() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider(
+                jwtProperties("another-secret-key-for-jwt-token-signing-must-be-at-least-256-bits", 3600000L)
+        );
+        String token = otherProvider.createAccessToken(1L);
+
+        // when
+        JwtVerificationResult result = jwtTokenProvider.verify(token);
+
+        // then
+        assertThat(result.getFailure()).isEqualTo(JwtVerificationResult.Failure.INVALID_SIGNATURE);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰 - MALFORMED")
+    void verify_MalformedToken() {
+        assertThat(jwtTokenProvider.verify("not-a-jwt").getFailure())
+                .isEqualTo(JwtVerificationResult.Failure.MALFORMED);
+        assertThat(jwtTokenProvider.verify("").getFailure())
+                .isEqualTo(JwtVerificationResult.Failure.MALFORMED);
+    }
+
+    @Test
+    @DisplayName("기존 API 호환 - validate / getUserId")
+    void validateAndGetUserId_Compatible() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(7L);
+
+        // then
+        assertThat(jwtTokenProvider.validate(token)).isTrue();
+        assertThat(jwtTokenProvider.getUserId(token)).isEqualTo(7L);
+        assertThat(jwtTokenProvider.validate("not-a-jwt")).isFalse();
+        assertThatThrownBy(() -> jwtTokenProvider.getUserId("not-a-jwt"))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 발급한 Refresh Token도 서로 다름 (jti)")
+    void createRefreshToken_UniquePerIssue() {
+        // when
+        String first = jwtTokenProvider.createRefreshToken(1L, null);
+        String second = jwtTokenProvider.createRefreshToken(1L, null);
+
+        // then
+        assertThat(first).isNotEqualTo(second);
+        assertThat(jwtTokenProvider.getUserId(first)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Refresh Token 계열 ID 는 서명된 클레임으로 검증 결과에 포함")
+    void createRefreshToken_CarriesFamilyId() {
+        // given
+        UUID familyId = UUID.randomUUID();
+
+        // when
+        JwtVerificationResult withFamily = jwtTokenProvider.verify(jwtTokenProvider.createRefreshToken(1L, familyId));
+        JwtVerificationResult withoutFamily = jwtTokenProvider.verify(jwtTokenProvider.createRefreshToken(1L, null));
+
+        // then
+        assertThat(withFamily.getFamilyId()).isEqualTo(familyId);
+        assertThat(withoutFamily.isValid()).isTrue();
+        assertThat(withoutFamily.getFamilyId()).isNull();
+    }
+
+    private JwtProperties jwtProperties(String secret, long accessTokenExpiry) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(secret);
+        jwtProperties.setAccessTokenExpiry(accessTokenExpiry);
+        jwtProperties.setRefreshTokenExpiry(86400000L);
+        return jwtProperties;
+    }
+}
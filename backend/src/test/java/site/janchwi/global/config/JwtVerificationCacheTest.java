@@ -0,0 +1,163 @@
+package site.janchwi.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtVerificationCache 테스트")
+class JwtVerificationCacheTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-signing-must-be-at-least-256-bits-long";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = spy(new JwtTokenProvider(jwtProperties(true, 100, 1)));
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("같은 토큰 재검증 시 캐시 적중 - 서명 검증 1회")
+    void verify_CacheHit() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 100, 1), meterRegistry);
+        String token = jwtTokenProvider.createAccessToken(1L);
+
+        // when
+        JwtVerificationResult first = cache.verify(token);
+        JwtVerificationResult second = cache.verify(token);
+
+        // then
+        assertThat(first.isValid()).isTrue();
+        assertThat(second.getUserId()).isEqualTo(1L);
+        verify(jwtTokenProvider, times(1)).verify(token);
+        assertThat(meterRegistry.get("jwt.cache.requests").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.cache.requests").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패 결과는 캐시하지 않음")
+    void verify_FailureNotCached() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 100, 1), meterRegistry);
+
+        // when
+        cache.verify("not-a-jwt");
+        cache.verify("not-a-jwt");
+
+        // then
+        verify(jwtTokenProvider, times(2)).verify("not-a-jwt");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 크기 초과 시 가장 오래 사용되지 않은 항목 제거")
+    void verify_LruEviction() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 2, 1), meterRegistry);
+        String token1 = jwtTokenProvider.createAccessToken(1L);
+        String token2 = jwtTokenProvider.createAccessToken(2L);
+        String token3 = jwtTokenProvider.createAccessToken(3L);
+
+        // when
+        cache.verify(token1);
+        cache.verify(token2);
+        cache.verify(token1); // token1 최근 사용
+        cache.verify(token3); // token2 제거
+
+        cache.verify(token1);
+        cache.verify(token2);
+
+        // then
+        verify(jwtTokenProvider, times(1)).verify(token1);
+        verify(jwtTokenProvider, times(2)).verify(token2);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("jwt.cache.evictions").functionCounter().count()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 폐기된 사용자의 토큰은 캐시 적중이어도 거부")
+    void verify_RevokedUser() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 100, 1), meterRegistry);
+        String token = jwtTokenProvider.createAccessToken(1L);
+        String otherUserToken = jwtTokenProvider.createAccessToken(2L);
+        cache.verify(token);
+
+        // when
+        cache.revokeUser(1L);
+
+        // then
+        assertThat(cache.verify(token).getFailure()).isEqualTo(JwtVerificationResult.Failure.REVOKED);
+        assertThat(cache.verify(otherUserToken).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("전체 로그아웃 직후(같은 초) 재로그인한 토큰은 유효")
+    void verify_ReissuedRightAfterRevokeUser() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 100, 1), meterRegistry);
+        String revoked = jwtTokenProvider.createAccessToken(1L);
+        cache.revokeUser(1L);
+
+        // when
+        String reissued = jwtTokenProvider.createAccessToken(1L);
+
+        // then
+        assertThat(cache.verify(revoked).getFailure()).isEqualTo(JwtVerificationResult.Failure.REVOKED);
+        assertThat(cache.verify(reissued).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("세션 로그아웃은 해당 Access Token 만 폐기 (같은 사용자의 다른 기기 토큰은 유지)")
+    void verify_RevokedTokenOnly() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(true, 100, 1), meterRegistry);
+        String laptop = jwtTokenProvider.createAccessToken(1L);
+        String phone = jwtTokenProvider.createAccessToken(1L);
+
+        // when
+        cache.revokeToken(cache.verify(laptop));
+
+        // then
+        assertThat(cache.verify(laptop).getFailure()).isEqualTo(JwtVerificationResult.Failure.REVOKED);
+        assertThat(cache.verify(phone).isValid()).isTrue();
+    }
+
+    @Test
+    @DisplayName("캐시 비활성화 시 매번 검증하되 폐기는 적용")
+    void verify_Disabled() {
+        // given
+        JwtVerificationCache cache = new JwtVerificationCache(jwtTokenProvider, jwtProperties(false, 100, 1), meterRegistry);
+        String token = jwtTokenProvider.createAccessToken(1L);
+
+        // when
+        cache.verify(token);
+        cache.verify(token);
+        cache.revokeUser(1L);
+
+        // then
+        verify(jwtTokenProvider, times(2)).verify(anyString());
+        assertThat(cache.size()).isZero();
+        assertThat(cache.verify(token).getFailure()).isEqualTo(JwtVerificationResult.Failure.REVOKED);
+    }
+
+    private JwtProperties jwtProperties(boolean cacheEnabled, int maxSize, int stripes) {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtProperties.setAccessTokenExpiry(3600000L);
+        jwtProperties.setRefreshTokenExpiry(86400000L);
+        jwtProperties.getCache().setEnabled(cacheEnabled);
+        jwtProperties.getCache().setMaxSize(maxSize);
+        jwtProperties.getCache().setStripes(stripes);
+        return jwtProperties;
+    }
+}
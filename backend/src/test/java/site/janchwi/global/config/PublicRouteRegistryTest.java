@@ -0,0 +1,71 @@
+package site.janchwi.global.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PublicRouteRegistry 테스트")
+class PublicRouteRegistryTest {
+
+    private final PublicRouteRegistry publicRouteRegistry = new PublicRouteRegistry();
+
+    @Test
+    @DisplayName("정확히 일치하는 공개 경로")
+    void matches_ExactRoute() {
+        assertThat(publicRouteRegistry.matches("/v1/auth/login", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/v1/auth/refresh", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/actuator/info", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/actuator/prometheus", 0)).isTrue();
+
+        // 하위 경로, 접두어만 같은 경로는 공개 아님
+        assertThat(publicRouteRegistry.matches("/v1/auth/login/extra", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/v1/auth/loginx", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/v1/auth/logout", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/v1/auth", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("/** 패턴은 기준 경로와 하위 경로 모두 일치")
+    void matches_PrefixRoute() {
+        assertThat(publicRouteRegistry.matches("/swagger-ui", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/swagger-ui/index.html", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/v3/api-docs/swagger-config", 0)).isTrue();
+        assertThat(publicRouteRegistry.matches("/actuator/health/liveness", 0)).isTrue();
+
+        assertThat(publicRouteRegistry.matches("/swagger-uix", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/actuator/metrics", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 경로, 비 ASCII 경로는 공개 아님")
+    void matches_EdgeCases() {
+        assertThat(publicRouteRegistry.matches("", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/", 0)).isFalse();
+        assertThat(publicRouteRegistry.matches("/v1/auth/로그인", 0)).isFalse();
+    }
+
+    @Test
+    @DisplayName("context-path(/api)를 제외하고 비교")
+    void isPublic_StripsContextPath() {
+        // given
+        MockHttpServletRequest publicRequest = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        publicRequest.setContextPath("/api");
+
+        MockHttpServletRequest protectedRequest = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        protectedRequest.setContextPath("/api");
+
+        // then
+        assertThat(publicRouteRegistry.isPublic(publicRequest)).isTrue();
+        assertThat(publicRouteRegistry.isPublic(protectedRequest)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Spring Security 용 패턴 목록 제공")
+    void patterns() {
+        assertThat(publicRouteRegistry.patterns())
+                .contains("/v1/auth/login", "/swagger-ui/**")
+                .doesNotContain("/v1/auth/logout");
+    }
+}
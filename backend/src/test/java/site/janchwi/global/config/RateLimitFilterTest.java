@@ -0,0 +1,245 @@
+package site.janchwi.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import site.janchwi.global.exception.RateLimitExceededException;
+import site.janchwi.global.security.RateLimitProperties;
+import site.janchwi.global.security.TokenBucketRateLimiter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RateLimitFilter 테스트")
+class RateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HandlerExceptionResolver resolver = mock(HandlerExceptionResolver.class);
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route login = new RateLimitProperties.Route();
+        login.setPath("/v1/auth/login");
+        login.setPerIp(limit(3));
+        login.setPerEmail(limit(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getRoutes().put("login", login);
+        properties.setMaxBodyBytes(64);
+
+        filter = new RateLimitFilter(properties, new TokenBucketRateLimiter(properties, meterRegistry),
+                resolver, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("같은 이메일 재요청은 429 로 거절, 본문은 컨트롤러에서 다시 읽을 수 있음")
+    void perEmail_RejectsAndReplaysBody() throws Exception {
+        // given
+        String body = "{\"email\":\"User@Example.com\",\"password\":\"password123\"}";
+
+        // when
+        MockFilterChain first = new MockFilterChain();
+        filter.doFilter(login("1.1.1.1", body), new MockHttpServletResponse(), first);
+        MockFilterChain second = new MockFilterChain();
+        filter.doFilter(login("2.2.2.2", "{\"email\":\" user@example.com\"}"), new MockHttpServletResponse(), second);
+
+        // then - 첫 요청은 통과하며 본문 유지, 정규화한 같은 이메일은 IP 가 달라도 거절
+        assertThat(first.getRequest()).isNotNull();
+        assertThat(new String(first.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(body);
+        assertThat(second.getRequest()).isNull();
+
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(resolver).resolveException(any(), any(), isNull(), exception.capture());
+        assertThat(exception.getValue()).isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(60L);
+        assertThat(rejected("email")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없는 chunked 본문도 이메일 제한 적용, 본문은 다시 읽을 수 있음")
+    void perEmail_ChunkedBody_RejectsAndReplaysBody() throws Exception {
+        // given
+        String body = "{\"email\":\"user@example.com\",\"password\":\"password123\"}";
+
+        // when
+        MockFilterChain first = new MockFilterChain();
+        filter.doFilter(chunked(login("1.1.1.1", body)), new MockHttpServletResponse(), first);
+        MockFilterChain second = new MockFilterChain();
+        filter.doFilter(chunked(login("2.2.2.2", body)), new MockHttpServletResponse(), second);
+
+        // then
+        assertThat(first.getRequest()).isNotNull();
+        assertThat(new String(first.getRequest().getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo(body);
+        assertThat(second.getRequest()).isNull();
+        verify(resolver).resolveException(any(), any(), isNull(), any(RateLimitExceededException.class));
+        assertThat(rejected("email")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("본문을 읽는 경로는 email 쿼리 파라미터를 무시하고 본문의 이메일로 제한")
+    void perEmail_IgnoresQueryParameterForBodyRoutes() throws Exception {
+        // given - 요청마다 다른 쿼리 파라미터, 본문은 같은 이메일
+        String body = "{\"email\":\"victim@example.com\",\"password\":\"password123\"}";
+        MockHttpServletRequest first = login("1.1.1.1", body);
+        first.setParameter("email", "random1@example.com");
+        MockHttpServletRequest second = login("2.2.2.2", body);
+        second.setParameter("email", "random2@example.com");
+
+        // when
+        MockFilterChain firstChain = new MockFilterChain();
+        filter.doFilter(first, new MockHttpServletResponse(), firstChain);
+        MockFilterChain secondChain = new MockFilterChain();
+        filter.doFilter(second, new MockHttpServletResponse(), secondChain);
+
+        // then
+        assertThat(firstChain.getRequest()).isNotNull();
+        assertThat(secondChain.getRequest()).isNull();
+        assertThat(rejected("email")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("감싼 본문은 비동기 ReadListener 로도 읽을 수 있음")
+    void cachedBody_SupportsReadListener() throws Exception {
+        // given
+        String body = "{\"email\":\"user@example.com\"}";
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(login("1.1.1.1", body), new MockHttpServletResponse(), chain);
+        ServletInputStream input = chain.getRequest().getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        // when
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(input.read());
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                allDataRead.set(true);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                throw new AssertionError(t);
+            }
+        });
+
+        // then
+        assertThat(read.toString(StandardCharsets.UTF_8)).isEqualTo(body);
+        assertThat(allDataRead).isTrue();
+    }
+
+    @Test
+    @DisplayName("max-body-bytes 를 넘는 본문은 길이 선언과 무관하게 413")
+    void oversizedBody_Rejects() throws Exception {
+        // given
+        String body = "{\"email\":\"user@example.com\",\"padding\":\"" + "x".repeat(64) + "\"}";
+        MockFilterChain declared = new MockFilterChain();
+        MockFilterChain undeclared = new MockFilterChain();
+
+        // when
+        filter.doFilter(login("1.1.1.1", body), new MockHttpServletResponse(), declared);
+        filter.doFilter(chunked(login("1.1.1.1", body)), new MockHttpServletResponse(), undeclared);
+
+        // then
+        assertThat(declared.getRequest()).isNull();
+        assertThat(undeclared.getRequest()).isNull();
+        ArgumentCaptor<Exception> exception = ArgumentCaptor.forClass(Exception.class);
+        verify(resolver, times(2)).resolveException(any(), any(), isNull(), exception.capture());
+        assertThat(exception.getAllValues()).allSatisfy(ex -> assertThat(ex)
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode").isEqualTo(HttpStatus.CONTENT_TOO_LARGE));
+    }
+
+    @Test
+    @DisplayName("같은 IP 는 capacity 를 넘으면 이메일과 무관하게 거절")
+    void perIp_Rejects() throws Exception {
+        // when
+        for (int i = 0; i < 4; i++) {
+            filter.doFilter(login("1.1.1.1", "{\"email\":\"user" + i + "@example.com\"}"),
+                    new MockHttpServletResponse(), new MockFilterChain());
+        }
+
+        // then
+        verify(resolver, times(1)).resolveException(any(), any(), isNull(), any(RateLimitExceededException.class));
+        assertThat(rejected("ip")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("설정하지 않은 경로는 제한 없음")
+    void unconfiguredRoute_PassesThrough() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+            request.setContextPath("/api");
+            MockFilterChain chain = new MockFilterChain();
+            filter.doFilter(request, new MockHttpServletResponse(), chain);
+            assertThat(chain.getRequest()).isNotNull();
+        }
+        verifyNoInteractions(resolver);
+    }
+
+    private static MockHttpServletRequest login(String ip, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setContextPath("/api");
+        request.setRemoteAddr(ip);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /**
+     * Transfer-Encoding: chunked 요청 (Content-Length 없음)
+     */
+    private static HttpServletRequest chunked(MockHttpServletRequest request) {
+        request.addHeader("Transfer-Encoding", "chunked");
+        return new HttpServletRequestWrapper(request) {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillInterval(Duration.ofMinutes(1));
+        return limit;
+    }
+
+    private double rejected(String key) {
+        return meterRegistry.get("auth.rate.limit.rejected").tag("route", "login").tag("key", key).counter().count();
+    }
+}
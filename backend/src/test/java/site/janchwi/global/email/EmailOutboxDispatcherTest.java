@@ -0,0 +1,53 @@
+package site.janchwi.global.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import site.janchwi.global.email.template.EmailTemplateEngine;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EmailOutboxDispatcher 테스트")
+class EmailOutboxDispatcherTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(jdbcTemplate,
+            mock(SmtpEmailSender.class), mock(EmailTemplateEngine.class), new EmailOutboxProperties(),
+            new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("발송 중에 들어온 호출은 대기 없이 반환하고, 발송 중이던 스레드가 한 번 더 조회")
+    void dispatchDue_WhileRunning_ReturnsAndReruns() throws Exception {
+        // given - 첫 조회가 끝나지 않은 상태
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any()))
+                .willAnswer(invocation -> {
+                    claiming.countDown();
+                    release.await();
+                    return List.of();
+                })
+                .willReturn(List.of());
+        CompletableFuture<Void> running = CompletableFuture.runAsync(dispatcher::dispatchDue);
+        assertThat(claiming.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        CompletableFuture<Void> concurrent = CompletableFuture.runAsync(dispatcher::dispatchDue);
+
+        // then - 두 번째 호출은 잠금을 기다리지 않음
+        concurrent.get(5, TimeUnit.SECONDS);
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowMapper.class), any(), any());
+    }
+}
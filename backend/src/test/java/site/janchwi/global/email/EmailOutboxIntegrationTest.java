@@ -0,0 +1,199 @@
+package site.janchwi.global.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.i18n.AcceptHeaderLocaleResolver;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.auth.service.AuthService;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.email.template.EmailTemplate;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+/**
+ * 이메일 outbox 통합 테스트
+ * - 로컬 SMTP 대역(GreenMail)으로 실제 SMTP 왕복 확인
+ * - 재시도를 빠르게 확인하기 위해 백오프 0, 최대 2회 시도
+ * - 테스트마다 같은 이메일로 발송하므로 재발송 제한은 끔
+ */
+@TestPropertySource(properties = {
+        "email.outbox.poll-interval=100ms",
+        "email.outbox.initial-backoff=0s",
+        "email.outbox.max-attempts=2",
+        "security.verification-resend.coalesce-window=0s",
+        "security.verification-resend.cooldown=0s"
+})
+@DisplayName("이메일 outbox 통합 테스트")
+class EmailOutboxIntegrationTest extends AbstractIntegrationTest {
+
+    private static final String EMAIL = "outbox@example.com";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EmailOutbox emailOutbox;
+
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        LocaleContextHolder.setLocale(Locale.KOREAN);
+        userRepository.save(User.builder()
+                .email(EMAIL)
+                .password("encodedPassword")
+                .nickname("outbox")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+        jdbcTemplate.update("DELETE FROM email_outbox");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("인증 코드 발송 요청은 outbox 에 기록되고 커밋 후 워커가 SMTP 로 발송")
+    void sendVerificationCode_DeliversAfterCommit() throws Exception {
+        // when
+        authService.sendVerificationCode(EMAIL);
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        MimeMessage message = greenMail.getReceivedMessages()[0];
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(EMAIL);
+        assertThat(message.getSubject()).isEqualTo("[잔취] 이메일 인증 코드");
+        assertThat(message.getContentType()).startsWith("multipart/alternative");
+        MimeMultipart alternative = (MimeMultipart) message.getContent();
+        assertThat(alternative.getCount()).isEqualTo(2);
+        assertThat(alternative.getBodyPart(0).getContentType()).startsWith("text/plain");
+        assertThat((String) alternative.getBodyPart(1).getContent()).contains("인증 코드");
+        await(() -> outboxCount() == 0);
+    }
+
+    @Test
+    @DisplayName("긴 Accept-Language 는 지원 언어 코드로 바꿔 기록 (locale 컬럼 길이 초과 없음)")
+    void sendVerificationCode_OversizedAcceptLanguage_StoresSupportedLanguage() throws Exception {
+        // given - 10자를 넘는 언어 태그
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.ACCEPT_LANGUAGE, "en-US-x-abcdefgh");
+        LocaleContextHolder.setLocale(new AcceptHeaderLocaleResolver().resolveLocale(request));
+
+        // when
+        authService.sendVerificationCode(EMAIL);
+
+        // then
+        assertThat(greenMail.waitForIncomingEmail(5_000, 1)).isTrue();
+        assertThat(greenMail.getReceivedMessages()[0].getSubject()).isEqualTo("[Janchwi] Email verification code");
+    }
+
+    @Test
+    @DisplayName("SMTP 장애와 무관하게 요청은 바로 반환되고, 발송은 재시도 후 DEAD 로 보관 (인증 코드는 비움)")
+    void sendVerificationCode_SmtpDown_RetriesThenDeadLetters() throws Exception {
+        // given
+        greenMail.stop();
+
+        // when
+        long startedAt = System.nanoTime();
+        authService.sendVerificationCode(EMAIL);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then - 요청 경로에는 SMTP 왕복이 없음
+        assertThat(elapsedMillis).isLessThan(1_000);
+        await(() -> "DEAD".equals(outboxRow().get("status")));
+        Map<String, Object> row = outboxRow();
+        assertThat(row.get("attempts")).isEqualTo(2);
+        assertThat(row.get("last_error")).isNotNull();
+        assertThat(row.get("variables")).isEqualTo("");
+        assertThat(row.get("dead_at")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("보관 기한이 지난 DEAD 행만 삭제")
+    void purgeDead_RemovesExpiredDeadRows() {
+        // given
+        jdbcTemplate.update("""
+                INSERT INTO email_outbox (recipient, template, locale, variables, status, dead_at)
+                VALUES (?, 'ACCOUNT_LOCKED', 'ko', '', 'DEAD', now() - interval '8 days'),
+                       (?, 'ACCOUNT_LOCKED', 'ko', '', 'DEAD', now() - interval '1 day')
+                """, EMAIL, EMAIL);
+
+        // when
+        emailOutboxDispatcher.purgeDead();
+
+        // then
+        assertThat(outboxCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 발송하지 않음")
+    void enqueue_RolledBack_NotSent() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            emailOutbox.enqueue(EMAIL, EmailTemplate.ACCOUNT_LOCKED, Locale.KOREAN,
+                    Map.of("maxAttempts", "5", "lockMinutes", "30"), null);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(outboxCount()).isZero();
+        assertThat(greenMail.waitForIncomingEmail(500, 1)).isFalse();
+    }
+
+    private int outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM email_outbox", Integer.class);
+    }
+
+    private Map<String, Object> outboxRow() {
+        return jdbcTemplate.queryForMap("SELECT status, attempts, last_error, variables, dead_at FROM email_outbox");
+    }
+
+    private void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
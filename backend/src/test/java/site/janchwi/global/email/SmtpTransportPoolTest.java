@@ -0,0 +1,155 @@
+package site.janchwi.global.email;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import site.janchwi.global.exception.EmailSendException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SmtpTransportPool 테스트")
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SmtpPoolProperties properties = new SmtpPoolProperties();
+    private JavaMailSenderImpl mailSender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        properties.setMaxConnections(2);
+    }
+
+    @Test
+    @DisplayName("순차 발송은 연결 하나를 재사용")
+    void send_ReusesConnection() throws Exception {
+        // given
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            pool.send(message(i));
+        }
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+        assertThat(meterRegistry.get("email.smtp.connections.opened").counter().count()).isEqualTo(1);
+        assertThat(pool.openCount()).isEqualTo(1);
+        pool.closeAll();
+    }
+
+    @Test
+    @DisplayName("연결당 최대 메시지 수를 넘으면 새 연결로 교체")
+    void send_RecyclesAfterMaxMessages() throws Exception {
+        // given
+        properties.setMaxMessagesPerConnection(2);
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            pool.send(message(i));
+        }
+
+        // then
+        assertThat(meterRegistry.get("email.smtp.connections.opened").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("email.smtp.messages.per.connection").summary().totalAmount()).isEqualTo(4);
+        pool.closeAll();
+    }
+
+    @Test
+    @DisplayName("idle-timeout 이 지난 연결은 정리")
+    void evictIdle_ClosesIdleConnections() throws Exception {
+        // given
+        properties.setIdleTimeout(Duration.ZERO);
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+        pool.send(message(0));
+
+        // when
+        pool.evictIdle();
+
+        // then
+        assertThat(pool.openCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("서버가 끊은 연결은 NOOP 확인에서 걸러지고 새로 연결")
+    void send_ReconnectsWhenServerClosedConnection() throws Exception {
+        // given
+        properties.setValidateAfterIdle(Duration.ZERO);
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+        pool.send(message(0));
+        greenMail.reset(); // 서버 재시작 - 기존 연결 끊김
+
+        // when
+        pool.send(message(1));
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(meterRegistry.get("email.smtp.connections.opened").counter().count()).isEqualTo(2);
+        pool.closeAll();
+    }
+
+    @Test
+    @DisplayName("SMTP 서버가 없으면 EmailSendException")
+    void send_ServerDown_Throws() throws Exception {
+        // given
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+        MimeMessage message = message(0);
+        greenMail.stop();
+
+        // when & then
+        assertThatThrownBy(() -> pool.send(message)).isInstanceOf(EmailSendException.class);
+        assertThat(pool.openCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송 중 런타임 예외가 나도 연결을 닫고 허가를 돌려줌")
+    void send_RuntimeException_ClosesConnectionAndReleasesPermit() throws Exception {
+        // given - 연결 1개, 대기 없이 실패하도록 설정
+        properties.setMaxConnections(1);
+        properties.setBorrowTimeout(Duration.ZERO);
+        SmtpTransportPool pool = new SmtpTransportPool(mailSender, properties, meterRegistry);
+        MimeMessage broken = new MimeMessage(message(0)) {
+            @Override
+            public Address[] getAllRecipients() {
+                throw new IllegalStateException("수신자 조회 실패");
+            }
+        };
+
+        // when
+        assertThatThrownBy(() -> pool.send(broken)).isInstanceOf(IllegalStateException.class);
+
+        // then - 상태를 알 수 없는 연결은 닫고, 다음 발송은 허가를 얻어 새 연결로 진행
+        assertThat(pool.openCount()).isZero();
+        pool.send(message(1));
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(meterRegistry.get("email.smtp.connections.opened").counter().count()).isEqualTo(2);
+        pool.closeAll();
+    }
+
+    private MimeMessage message(int i) throws Exception {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@janchwi.site");
+        helper.setTo("user" + i + "@example.com");
+        helper.setSubject("제목 " + i);
+        helper.setText("<p>본문</p>", true);
+        return message;
+    }
+}
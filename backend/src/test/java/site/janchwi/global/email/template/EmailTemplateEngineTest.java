@@ -0,0 +1,113 @@
+package site.janchwi.global.email.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("EmailTemplateEngine 테스트")
+class EmailTemplateEngineTest {
+
+    private static final Map<String, String> VERIFICATION_VALUES =
+            Map.of("code", "123456", "expiryMinutes", "15", "maxAttempts", "5");
+
+    private final EmailTemplateEngine engine = new EmailTemplateEngine();
+
+    @Test
+    @DisplayName("인증 메일 HTML/텍스트/제목을 같은 값으로 렌더링")
+    void render_Verification() {
+        // when
+        RenderedEmail email = engine.render(EmailTemplate.VERIFICATION, Locale.KOREAN, VERIFICATION_VALUES);
+
+        // then
+        String html = new String(email.html(), StandardCharsets.UTF_8);
+        String text = new String(email.text(), StandardCharsets.UTF_8);
+        assertThat(email.subject()).isEqualTo("[잔취] 이메일 인증 코드");
+        assertThat(html).contains("123456", "15분간", "최대 5회", "width:100%;").doesNotContain("{{");
+        assertThat(text).startsWith("안녕하세요!").contains("인증 코드: 123456").doesNotContain("Subject:");
+    }
+
+    @Test
+    @DisplayName("언어별 템플릿 사용, 지원하지 않는 언어는 한국어")
+    void render_Locale() {
+        // when
+        RenderedEmail english = engine.render(EmailTemplate.VERIFICATION, Locale.US, VERIFICATION_VALUES);
+        RenderedEmail fallback = engine.render(EmailTemplate.VERIFICATION, Locale.JAPANESE, VERIFICATION_VALUES);
+
+        // then
+        assertThat(english.subject()).isEqualTo("[Janchwi] Email verification code");
+        assertThat(fallback.subject()).isEqualTo("[잔취] 이메일 인증 코드");
+    }
+
+    @Test
+    @DisplayName("요청 언어는 지원 언어 코드로만 변환 (지역/확장 태그 제거, 없거나 미지원이면 한국어)")
+    void supportedLocale() {
+        assertThat(EmailTemplateEngine.supportedLocale(Locale.forLanguageTag("en-US-x-abcdefgh")))
+                .isEqualTo(Locale.ENGLISH);
+        assertThat(EmailTemplateEngine.supportedLocale(Locale.KOREA)).isEqualTo(Locale.KOREAN);
+        assertThat(EmailTemplateEngine.supportedLocale(Locale.JAPANESE)).isEqualTo(Locale.KOREAN);
+        assertThat(EmailTemplateEngine.supportedLocale(null)).isEqualTo(Locale.KOREAN);
+    }
+
+    @Test
+    @DisplayName("HTML 본문의 슬롯 값은 이스케이프, 텍스트 본문은 원문 그대로")
+    void render_EscapesHtmlSlots() {
+        // when
+        RenderedEmail email = engine.render(EmailTemplate.PASSWORD_RESET, Locale.KOREAN,
+                Map.of("resetUrl", "https://janchwi.site/reset?a=1&b=<2>", "expiryMinutes", "30"));
+
+        // then
+        assertThat(new String(email.html(), StandardCharsets.UTF_8))
+                .contains("https://janchwi.site/reset?a=1&amp;b=&lt;2&gt;")
+                .doesNotContain("b=<2>");
+        assertThat(new String(email.text(), StandardCharsets.UTF_8)).contains("https://janchwi.site/reset?a=1&b=<2>");
+    }
+
+    @Test
+    @DisplayName("모든 템플릿/언어 렌더링 (계정 잠금 안내)")
+    void render_AccountLocked() {
+        // when
+        RenderedEmail email = engine.render(EmailTemplate.ACCOUNT_LOCKED, Locale.ENGLISH,
+                Map.of("maxAttempts", "5", "lockMinutes", "30"));
+
+        // then
+        assertThat(email.subject()).isEqualTo("[Janchwi] Your account was locked");
+        assertThat(new String(email.text(), StandardCharsets.UTF_8)).contains("locked for 30 minutes after 5 failed");
+    }
+
+    @Test
+    @DisplayName("슬롯 값이 없으면 예외")
+    void render_MissingValue_Throws() {
+        assertThatThrownBy(() -> engine.render(EmailTemplate.VERIFICATION, Locale.KOREAN, Map.of("code", "123456")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("{{expiryMinutes}}");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 슬롯은 컴파일 시점에 거부")
+    void compile_InvalidSlot_Throws() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("broken", "<p>{{code</p>", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("broken");
+    }
+
+    @Test
+    @DisplayName("리터럴과 슬롯을 순서대로 결합")
+    void compile_RendersSegmentsInOrder() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("inline", "{{a}}-{{ b }}-{{a}}", false);
+        RenderBuffer buffer = new RenderBuffer(8);
+
+        // when
+        template.renderTo(Map.of("a", "가", "b", "나"), buffer);
+
+        // then
+        assertThat(buffer.toUtf8String()).isEqualTo("가-나-가");
+        assertThat(template.slots()).containsExactly("a", "b");
+    }
+}
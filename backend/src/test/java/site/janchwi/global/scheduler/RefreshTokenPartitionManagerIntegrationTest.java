@@ -0,0 +1,96 @@
+package site.janchwi.global.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.refreshtokens.repository.RefreshTokenRepository;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+import site.janchwi.global.common.Constants;
+import site.janchwi.global.util.HashUtils;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("RefreshTokenPartitionManager 통합 테스트")
+class RefreshTokenPartitionManagerIntegrationTest extends AbstractIntegrationTest {
+
+    @Autowired
+    private RefreshTokenPartitionManager partitionManager;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("오늘부터 만료 기간 + 여유 일수까지 파티션을 만들고 반복 실행해도 추가 생성 없음")
+    void ensurePartitions_CreatesUpcomingDaysOnce() {
+        // given
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+
+        // when
+        partitionManager.ensurePartitions(today);
+        int createdAgain = partitionManager.ensurePartitions(today);
+
+        // then
+        assertThat(createdAgain).isZero();
+        assertThat(partitionManager.partitionDays())
+                .contains(today, today.plusDays(Constants.REFRESH_TOKEN_EXPIRY_DAYS + 3));
+    }
+
+    @Test
+    @DisplayName("지난 파티션은 행과 함께 삭제하고 유효한 파티션의 토큰은 유지")
+    void dropExpiredPartitions_DropsPastDaysOnly() {
+        // given
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate past = today.minusDays(3);
+        partitionManager.ensurePartitions(today);
+        partitionManager.createPartition(past);
+
+        User user = userRepository.save(User.builder()
+                .email("partition@example.com")
+                .password("encodedPassword")
+                .nickname("partition")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build());
+        insertToken(user.getId(), "expired", past);
+        insertToken(user.getId(), "live", today.plusDays(1));
+
+        // when
+        int dropped = partitionManager.dropExpiredPartitions(today);
+
+        // then
+        assertThat(dropped).isGreaterThanOrEqualTo(1);
+        assertThat(partitionManager.partitionDays()).allMatch(day -> !day.isBefore(today));
+        assertThat(refreshTokenRepository.count()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NULL", Boolean.class,
+                RefreshTokenPartitionManager.partitionName(past))).isTrue();
+    }
+
+    private void insertToken(Long userId, String sessionId, LocalDate expiresOn) {
+        jdbcTemplate.update("""
+                INSERT INTO refresh_tokens (user_id, session_id, family_id, token_hash, expires_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, CAST(? AS timestamptz), now(), now())
+                """, userId, sessionId, UUID.randomUUID(), HashUtils.sha256(sessionId),
+                expiresOn.atTime(12, 0).toInstant(ZoneOffset.UTC).toString());
+    }
+}
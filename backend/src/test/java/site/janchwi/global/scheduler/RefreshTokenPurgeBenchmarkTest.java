@@ -0,0 +1,110 @@
+package site.janchwi.global.scheduler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import site.janchwi.AbstractIntegrationTest;
+import site.janchwi.domain.users.entity.Gender;
+import site.janchwi.domain.users.entity.User;
+import site.janchwi.domain.users.repository.UserRepository;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 Refresh Token 정리 벤치마크 - 범위 DELETE vs 파티션 DROP
+ * - 같은 건수의 만료 토큰을 지난 날짜 파티션에 넣고 정리 시간, WAL 생성량 비교
+ * - 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+@DisplayName("만료 토큰 정리 벤치마크")
+class RefreshTokenPurgeBenchmarkTest extends AbstractIntegrationTest {
+
+    private static final int ROWS = 200_000;
+
+    @Autowired
+    private RefreshTokenPartitionManager partitionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("파티션 DROP은 범위 DELETE보다 빠르고 WAL을 거의 남기지 않음")
+    void partitionDrop_IsCheaperThanDelete() {
+        // given
+        Long userId = userRepository.save(User.builder()
+                .email("purge@example.com")
+                .password("encodedPassword")
+                .nickname("purge")
+                .birthDate(LocalDate.of(2000, 1, 1))
+                .gender(Gender.MALE)
+                .build()).getId();
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate deleteDay = today.minusDays(20);
+        LocalDate dropDay = today.minusDays(10);
+
+        // 기존 방식: 만료 범위 행 삭제
+        seed(userId, deleteDay);
+        Result delete = measure("DELETE WHERE expires_at < ?", () -> jdbcTemplate.update(
+                "DELETE FROM refresh_tokens WHERE expires_at < CAST(? AS timestamptz)",
+                deleteDay.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().toString()));
+
+        // 새 방식: 지난 파티션 DETACH + DROP
+        seed(userId, dropDay);
+        Result drop = measure("DETACH + DROP PARTITION", () -> partitionManager.dropExpiredPartitions(today));
+
+        System.out.printf("%n%-32s %10s %12s %14s%n", "strategy", "rows", "ms", "wal bytes");
+        delete.print();
+        drop.print();
+        System.out.println();
+
+        assertThat(drop.walBytes).isLessThan(delete.walBytes);
+        assertThat(partitionManager.partitionDays()).allMatch(day -> !day.isBefore(today));
+    }
+
+    /**
+     * 해당 일자 파티션을 만들고 ROWS 건의 만료 토큰 삽입
+     */
+    private void seed(Long userId, LocalDate day) {
+        partitionManager.createPartition(day);
+        jdbcTemplate.update("""
+                INSERT INTO refresh_tokens (user_id, session_id, family_id, token_hash, expires_at, created_at, updated_at)
+                SELECT ?, 's' || g, gen_random_uuid(), sha256(CAST(random()::text || g AS bytea)),
+                       CAST(? AS timestamptz) + g * interval '1 ms', now(), now()
+                FROM generate_series(1, ?) AS g
+                """, userId, day.atStartOfDay(ZoneOffset.UTC).toInstant().toString(), ROWS);
+        jdbcTemplate.execute("CHECKPOINT");
+    }
+
+    private Result measure(String name, Runnable purge) {
+        String walBefore = jdbcTemplate.queryForObject("SELECT pg_current_wal_lsn()::text", String.class);
+        long startedAt = System.nanoTime();
+        purge.run();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        Long walBytes = jdbcTemplate.queryForObject(
+                "SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), CAST(? AS pg_lsn))::bigint", Long.class, walBefore);
+
+        return new Result(name, ROWS, elapsedMillis, walBytes);
+    }
+
+    private record Result(String name, int rows, long millis, long walBytes) {
+
+        void print() {
+            System.out.printf("%-32s %10d %12d %14d%n", name, rows, millis, walBytes);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package site.janchwi.global.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import site.janchwi.global.exception.ServiceOverloadedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BulkheadPasswordEncoder 테스트")
+class BulkheadPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MeterRegistry meterRegistry;
+    private BulkheadPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setPoolSize(1);
+        properties.setQueueCapacity(1);
+        properties.setRetryAfterSeconds(3);
+
+        passwordEncoder = new BulkheadPasswordEncoder(new BlockingPasswordEncoder(), properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    @DisplayName("해싱 결과를 호출 스레드에 그대로 반환")
+    void encodeAndMatches() {
+        // given
+        release.countDown();
+
+        // then
+        assertThat(passwordEncoder.encode("password")).isEqualTo("hashed:password");
+        assertThat(passwordEncoder.matches("password", "hashed:password")).isTrue();
+        assertThat(passwordEncoder.matches("wrong", "hashed:password")).isFalse();
+        assertThat(meterRegistry.get("auth.password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 즉시 503 예외 (Retry-After 포함)")
+    void rejectWhenQueueFull() throws Exception {
+        // given - 스레드 1개 점유 + 대기열 1개 점유
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("first"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("second"));
+        await(() -> meterRegistry.get("auth.password.hashing.queue.depth").gauge().value() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("third"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .satisfies(ex -> assertThat(((ServiceOverloadedException) ex).getRetryAfterSeconds()).isEqualTo(3));
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        // 대기 중이던 요청은 정상 처리
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:first");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hashed:second");
+    }
+
+    private void await(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * release 신호 전까지 해싱을 지연시키는 테스트용 인코더
+     */
+    private class BlockingPasswordEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package site.janchwi.global.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CalibratedBCryptPasswordEncoder 테스트")
+class CalibratedBCryptPasswordEncoderTest {
+
+    @Test
+    @DisplayName("현재 strength로 해시하고 검증")
+    void encodeAndMatches() {
+        // given
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5, true);
+
+        // when
+        String encoded = passwordEncoder.encode("password");
+
+        // then
+        assertThat(encoded).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장된 해시의 strength가 현재 값과 다르면 재해시 대상 (상향/하향 모두)")
+    void upgradeEncoding_DifferentStrength() {
+        // given
+        CalibratedBCryptPasswordEncoder passwordEncoder = new CalibratedBCryptPasswordEncoder(5, true);
+        String lower = new BCryptPasswordEncoder(4).encode("password");
+        String same = new BCryptPasswordEncoder(5).encode("password");
+        String higher = new BCryptPasswordEncoder(6).encode("password");
+
+        // then
+        assertThat(passwordEncoder.upgradeEncoding(lower)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(same)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(higher)).isTrue();
+    }
+
+    @Test
+    @DisplayName("재해시 비활성화, BCrypt 형식이 아닌 값은 재해시 대상 아님")
+    void upgradeEncoding_DisabledOrInvalid() {
+        // given
+        String lower = new BCryptPasswordEncoder(4).encode("password");
+
+        // then
+        assertThat(new CalibratedBCryptPasswordEncoder(5, false).upgradeEncoding(lower)).isFalse();
+        assertThat(new CalibratedBCryptPasswordEncoder(5, true).upgradeEncoding("plain-text")).isFalse();
+        assertThat(new CalibratedBCryptPasswordEncoder(5, true).upgradeEncoding(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("보정 결과는 최소/최대 strength 범위 내")
+    void calibrate_WithinBounds() {
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ZERO, 4, 6)).isEqualTo(4);
+        assertThat(CalibratedBCryptPasswordEncoder.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("고정 strength 설정 시 보정 생략")
+    void create_FixedStrength() {
+        // given
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(4);
+
+        // when
+        CalibratedBCryptPasswordEncoder passwordEncoder = CalibratedBCryptPasswordEncoder.create(properties);
+
+        // then
+        assertThat(passwordEncoder.getStrength()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,119 @@
+package site.janchwi.global.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TokenBucketRateLimiter 테스트")
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("capacity 만큼 연속 허용 후 다음 토큰까지 남은 시간과 함께 거절")
+    void tryAcquire_BurstThenReject() {
+        // given - 3개, 10초마다 1개 충전
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitProperties.Limit limit = limit(3, Duration.ofSeconds(10));
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isZero();
+        }
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isEqualTo(10_000);
+
+        advance(Duration.ofSeconds(4));
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isEqualTo(6_000);
+
+        advance(Duration.ofSeconds(6));
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isZero();
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isPositive();
+    }
+
+    @Test
+    @DisplayName("키마다 별도 버킷")
+    void tryAcquire_IndependentKeys() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(100, 4);
+        RateLimitProperties.Limit limit = limit(1, Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isZero();
+        assertThat(limiter.tryAcquire("ip|1.1.1.1", limit)).isPositive();
+        assertThat(limiter.tryAcquire("ip|2.2.2.2", limit)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 요청에서도 capacity 를 넘겨 허용하지 않음")
+    void tryAcquire_Concurrent_NeverExceedsCapacity() {
+        // given
+        TokenBucketRateLimiter limiter = limiter(100, 1);
+        RateLimitProperties.Limit limit = limit(50, Duration.ofHours(1));
+        AtomicInteger allowed = new AtomicInteger();
+
+        // when
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 100; i++) {
+                        if (limiter.tryAcquire("email|a@example.com", limit) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(allowed).hasValue(50);
+    }
+
+    @Test
+    @DisplayName("가득 찬 버킷은 정리, 버킷 수 상한을 넘으면 새 키는 추적 없이 통과")
+    void evictIdle_AndBoundedKeys() {
+        // given - shard 1개, 최대 2개 키
+        TokenBucketRateLimiter limiter = limiter(2, 1);
+        RateLimitProperties.Limit limit = limit(1, Duration.ofSeconds(10));
+        limiter.tryAcquire("a", limit);
+        limiter.tryAcquire("b", limit);
+
+        // when & then - 상한 도달: 새 키는 제한 없이 통과, 기존 키 제한은 유지
+        assertThat(limiter.tryAcquire("c", limit)).isZero();
+        assertThat(limiter.tryAcquire("c", limit)).isZero();
+        assertThat(limiter.tryAcquire("a", limit)).isPositive();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.rate.limit.overflow").functionCounter().count()).isEqualTo(2);
+
+        // 충전이 끝나면 정리되어 새 키도 추적
+        advance(Duration.ofSeconds(10));
+        limiter.evictIdle();
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("c", limit)).isZero();
+        assertThat(limiter.tryAcquire("c", limit)).isPositive();
+    }
+
+    private TokenBucketRateLimiter limiter(int maxKeys, int shards) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxKeys(maxKeys);
+        properties.setShards(shards);
+        return new TokenBucketRateLimiter(properties, meterRegistry, now::get);
+    }
+
+    private static RateLimitProperties.Limit limit(int capacity, Duration refillInterval) {
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillInterval(refillInterval);
+        return limit;
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toMillis());
+    }
+}
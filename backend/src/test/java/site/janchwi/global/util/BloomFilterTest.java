@@ -0,0 +1,83 @@
+package site.janchwi.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+    private static final int EXPECTED = 10_000;
+
+    @Test
+    @DisplayName("추가한 값은 항상 있다고 응답 (미탐 없음)")
+    void mightContain_NoFalseNegatives() {
+        // given
+        BloomFilter filter = BloomFilter.create(EXPECTED, 0.01);
+        IntStream.range(0, EXPECTED).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // then
+        assertThat(IntStream.range(0, EXPECTED).allMatch(i -> filter.mightContain("user" + i + "@example.com")))
+                .isTrue();
+        // 추가 시점에 이미 모든 비트가 켜져 있던 값(오탐)은 세지 않으므로 근사치
+        assertThat(filter.insertions()).isBetween((long) (EXPECTED * 0.99), (long) EXPECTED);
+    }
+
+    @Test
+    @DisplayName("예상 원소 수만큼 채웠을 때 오탐률이 목표 근처")
+    void mightContain_FalsePositiveRateNearTarget() {
+        // given
+        BloomFilter filter = BloomFilter.create(EXPECTED, 0.01);
+        IntStream.range(0, EXPECTED).forEach(i -> filter.put("user" + i + "@example.com"));
+
+        // when
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("absent" + i + "@example.com"))
+                .count();
+
+        // then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.02);
+    }
+
+    @Test
+    @DisplayName("같은 값을 다시 추가하면 비트 변화 없음 (원소 수에 세지 않음)")
+    void put_Duplicate_ReturnsFalse() {
+        // given
+        BloomFilter filter = BloomFilter.create(EXPECTED, 0.01);
+
+        // when & then
+        assertThat(filter.put("잔취")).isTrue();
+        assertThat(filter.put("잔취")).isFalse();
+        assertThat(filter.insertions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 추가해도 누락 없음")
+    void put_Concurrent_NoLostBits() {
+        // given
+        BloomFilter filter = BloomFilter.create(EXPECTED * 8L, 0.01);
+
+        // when
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(t -> CompletableFuture.runAsync(() ->
+                        IntStream.range(0, EXPECTED).forEach(i -> filter.put(t + "-" + i))))
+                .toArray(CompletableFuture[]::new)).join();
+
+        // then
+        assertThat(IntStream.range(0, 8).allMatch(t ->
+                IntStream.range(0, EXPECTED).allMatch(i -> filter.mightContain(t + "-" + i)))).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 크기/오탐률은 거절")
+    void create_InvalidArguments() {
+        assertThatThrownBy(() -> BloomFilter.create(0, 0.01)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(100, 1.0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
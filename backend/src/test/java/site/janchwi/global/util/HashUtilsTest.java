@@ -0,0 +1,52 @@
+package site.janchwi.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HexFormat;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HashUtils 테스트")
+class HashUtilsTest {
+
+    @Test
+    @DisplayName("SHA-256 다이제스트를 32바이트로 반환 (기존 16진수 저장값과 동일한 값)")
+    void sha256_ReturnsRawDigest() {
+        // when
+        byte[] hash = HashUtils.sha256("abc");
+
+        // then
+        assertThat(hash).hasSize(HashUtils.SHA_256_LENGTH);
+        assertThat(HexFormat.of().formatHex(hash))
+                .isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+    }
+
+    @Test
+    @DisplayName("저장된 해시와 원문 비교")
+    void matches() {
+        // given
+        byte[] hash = HashUtils.sha256("123456");
+
+        // then
+        assertThat(HashUtils.matches("123456", hash)).isTrue();
+        assertThat(HashUtils.matches("654321", hash)).isFalse();
+        assertThat(HashUtils.matches("123456", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("스레드별 다이제스트를 재사용해도 호출 간 상태가 섞이지 않음")
+    void sha256_IsRepeatableAcrossThreads() throws Exception {
+        // given
+        byte[] expected = HashUtils.sha256("refresh-token");
+
+        // when
+        byte[] sameThread = HashUtils.sha256("refresh-token");
+        byte[] otherThread = CompletableFuture.supplyAsync(() -> HashUtils.sha256("refresh-token")).get();
+
+        // then
+        assertThat(sameThread).isEqualTo(expected);
+        assertThat(otherThread).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,45 @@
+package site.janchwi.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JsonFields 테스트")
+class JsonFieldsTest {
+
+    @Test
+    @DisplayName("최상위 문자열 필드 값")
+    void topLevelString() {
+        assertThat(JsonFields.topLevelString("{\"email\":\"a@example.com\",\"password\":\"x\"}", "email"))
+                .isEqualTo("a@example.com");
+        assertThat(JsonFields.topLevelString(" { \"password\" : \"p\\\"w\" , \"email\" : \"b@example.com\" } ", "email"))
+                .isEqualTo("b@example.com");
+    }
+
+    @Test
+    @DisplayName("중첩 객체/문자열 값 안의 같은 이름은 무시")
+    void topLevelString_IgnoresNestedAndValues() {
+        assertThat(JsonFields.topLevelString("{\"profile\":{\"email\":\"nested@example.com\"},\"bio\":\"email\"}", "email"))
+                .isNull();
+        assertThat(JsonFields.topLevelString("{\"list\":[{\"email\":\"x\"}],\"email\":\"top@example.com\"}", "email"))
+                .isEqualTo("top@example.com");
+    }
+
+    @Test
+    @DisplayName("이스케이프된 키/값 해석, 중복 키는 마지막 값")
+    void topLevelString_EscapesAndDuplicates() {
+        assertThat(JsonFields.topLevelString("{\"em\\u0061il\":\"A\\u0040example.com\"}", "email"))
+                .isEqualTo("A@example.com");
+        assertThat(JsonFields.topLevelString("{\"email\":\"first@example.com\",\"email\":\"last@example.com\"}", "email"))
+                .isEqualTo("last@example.com");
+    }
+
+    @Test
+    @DisplayName("문자열이 아니거나 형식이 깨진 경우 null")
+    void topLevelString_InvalidInput() {
+        assertThat(JsonFields.topLevelString("{\"email\":null}", "email")).isNull();
+        assertThat(JsonFields.topLevelString("{\"email\":\"unterminated", "email")).isNull();
+        assertThat(JsonFields.topLevelString("", "email")).isNull();
+    }
+}
@@ -7,6 +7,7 @@ import type {
   VerifyEmailRequest,
   SendVerificationRequest,
   CheckEmailResponse,
+  CheckNicknameResponse,
   MessageResponse,
 } from '../types/auth.types';
 
@@ -35,6 +36,13 @@ export const checkEmail = async (email: string): Promise<CheckEmailResponse> =>
   });
 };
 
+// 닉네임 중복 체크
+export const checkNickname = async (nickname: string): Promise<CheckNicknameResponse> => {
+  return getJSON<CheckNicknameResponse>('v1/auth/check-nickname', {
+    searchParams: { nickname },
+  });
+};
+
 // 이메일 인증 코드 발송
 export const sendVerificationCode = async (request: SendVerificationRequest): Promise<MessageResponse> => {
   return postJSON<MessageResponse>('v1/auth/send-verification', request);
@@ -4,6 +4,7 @@ export const queryKeys = {
   auth: {
     me: () => ['auth', 'me'] as const,
     checkEmail: (email: string) => ['auth', 'check-email', email] as const,
+    checkNickname: (nickname: string) => ['auth', 'check-nickname', nickname] as const,
   },
 
   // 사용자 관련 (추후 확장)
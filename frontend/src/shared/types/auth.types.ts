@@ -56,6 +56,11 @@ export interface CheckEmailResponse {
   available: boolean;
 }
 
+// 닉네임 중복 체크 응답
+export interface CheckNicknameResponse {
+  available: boolean;
+}
+
 // 메시지 응답
 export interface MessageResponse {
   message: string;